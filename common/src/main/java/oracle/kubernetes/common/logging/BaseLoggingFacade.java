@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.common.logging;
@@ -19,7 +19,9 @@ public abstract class BaseLoggingFacade {
   private final Logger logger;
 
   /**
-   * Construct logging facade.
+   * Construct logging facade. Replaces any console handler on the root logger with one using this facade's
+   * formatter, unless a root handler already writes to the console, in which case records reach the console
+   * through that handler alone.
    * @param logger logger
    */
   protected BaseLoggingFacade(Logger logger) {
@@ -27,15 +29,20 @@ public abstract class BaseLoggingFacade {
 
     final Logger parentLogger = Logger.getAnonymousLogger().getParent();
     final Handler[] handlers = parentLogger.getHandlers();
+    boolean rootWritesToConsole = false;
     for (final Handler handler : handlers) {
       if (handler instanceof ConsoleHandler) {
         parentLogger.removeHandler(handler);
+      } else if (handler instanceof ConsoleWritingHandler && ((ConsoleWritingHandler) handler).writesToConsole()) {
+        rootWritesToConsole = true;
       }
     }
 
-    ConsoleHandler handler = new ConsoleHandler();
-    handler.setFormatter(getLoggingFormatter());
-    logger.addHandler(handler);
+    if (!rootWritesToConsole) {
+      ConsoleHandler handler = new ConsoleHandler();
+      handler.setFormatter(getLoggingFormatter());
+      logger.addHandler(handler);
+    }
   }
 
   /**
@@ -1,21 +1,23 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.common.logging;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
+import javax.annotation.Nonnull;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 /** Custom log formatter to format log messages in JSON format. */
 public abstract class BaseLoggingFormatter<T> extends Formatter {
@@ -40,7 +42,9 @@ public abstract class BaseLoggingFormatter<T> extends Formatter {
 
   private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
-  protected T fiberObject = null;
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final ThreadLocal<JsonLine> jsonLine = ThreadLocal.withInitial(JsonLine::new);
+  private static final ThreadLocal<TimestampPrefix> timestampPrefix = ThreadLocal.withInitial(TimestampPrefix::new);
 
   @Override
   public String format(LogRecord logRecord) {
@@ -55,9 +59,10 @@ public abstract class BaseLoggingFormatter<T> extends Formatter {
       sourceClassName = logRecord.getLoggerName();
     }
 
-    serializeModelObjectsWithJSON(logRecord);
-
-    final String message = formatMessage(logRecord);
+    final CapturedContext context = logRecord instanceof CapturedLogRecord
+          ? ((CapturedLogRecord) logRecord).context
+          : captureContext(logRecord);
+    final String message = context.message;
     String code = "";
     Map<String, List<String>> headers = PLACEHOLDER;
     String body = "";
@@ -69,35 +74,31 @@ public abstract class BaseLoggingFormatter<T> extends Formatter {
     body = throwableProcessing.getBody();
     throwable = throwableProcessing.getThrowable();
     String level = logRecord.getLevel().getLocalizedName();
-    Map<String, Object> map = new LinkedHashMap<>();
     long rawTime = logRecord.getMillis();
-    final String dateString = DATE_FORMAT.format(OffsetDateTime.ofInstant(logRecord.getInstant(),
-            ZoneId.systemDefault()));
-    long thread = Thread.currentThread().getId();
-    fiberObject = getCurrentFiberIfSet();
-
-    map.put(TIMESTAMP, dateString);
-    map.put(THREAD, thread);
-    Optional.ofNullable(getFiber()).ifPresent(f -> map.put(FIBER, f));
-    Optional.ofNullable(getNamespace(fiberObject)).ifPresent(namespace -> map.put(DOMAIN_NAMESPACE, namespace));
-    Optional.ofNullable(getDomainUid(fiberObject)).ifPresent(uid -> map.put(DOMAIN_UID, uid));
-    map.put(LOG_LEVEL, level);
-    map.put(SOURCE_CLASS, sourceClassName);
-    map.put(SOURCE_METHOD, sourceMethodName);
-    map.put(TIME_IN_MILLIS, rawTime);
-    // if message or throwable have new lines in them, we need to replace with JSON newline control
-    // character \n
-    map.put(MESSAGE, message != null ? message.replace("\n", "\\\n") : "");
-    map.put(EXCEPTION, throwable.replace("\n", "\\\n"));
-    map.put(RESPONSE_CODE, code);
-    map.put(RESPONSE_HEADERS, headers);
-    map.put(RESPONSE_BODY, body.replace("\n", "\\\n"));
-    String json = "";
+    final String dateString = formatTimestamp(logRecord.getInstant());
+    final JsonLine line = jsonLine.get();
     try {
-      ObjectMapper mapper = new ObjectMapper();
-      json = mapper.writeValueAsString(map);
-
-    } catch (JsonProcessingException e) {
+      final JsonGenerator generator = line.getGenerator();
+      generator.writeStartObject();
+      generator.writeStringField(TIMESTAMP, dateString);
+      generator.writeNumberField(THREAD, context.thread);
+      writeOptionalField(generator, FIBER, context.fiber);
+      writeOptionalField(generator, DOMAIN_NAMESPACE, context.namespace);
+      writeOptionalField(generator, DOMAIN_UID, context.domainUid);
+      generator.writeStringField(LOG_LEVEL, level);
+      generator.writeStringField(SOURCE_CLASS, sourceClassName);
+      generator.writeStringField(SOURCE_METHOD, sourceMethodName);
+      generator.writeNumberField(TIME_IN_MILLIS, rawTime);
+      // if message or throwable have new lines in them, we need to replace with JSON newline control
+      // character \n
+      generator.writeStringField(MESSAGE, message != null ? message.replace("\n", "\\\n") : "");
+      generator.writeStringField(EXCEPTION, throwable.replace("\n", "\\\n"));
+      generator.writeStringField(RESPONSE_CODE, code);
+      writeHeaders(generator, headers);
+      generator.writeStringField(RESPONSE_BODY, body.replace("\n", "\\\n"));
+      generator.writeEndObject();
+      return line.takeLine();
+    } catch (IOException e) {
       String tmp =
           "{\"@timestamp\":%1$s,\"level\":%2$s, \"class\":%3$s, \"method\":\"format\", \"timeInMillis\":%4$d, "
               + "\"@message\":\"Exception while preparing json object\",\"exception\":%5$s}\n";
@@ -108,15 +109,71 @@ public abstract class BaseLoggingFormatter<T> extends Formatter {
           BaseLoggingFormatter.class.getName(),
           rawTime,
           e.getLocalizedMessage());
+    } finally {
+      if (!line.isEmpty()) {
+        jsonLine.remove();
+      }
+    }
+  }
+
+  /**
+   * Returns a copy of the specified log record which holds its formatted message, and the thread, fiber, namespace
+   * and domain UID current when it was logged. Formatting the copy later, even on another thread, gives the same
+   * result as formatting the original record now.
+   * @param logRecord the record to copy
+   */
+  public LogRecord withCurrentContext(LogRecord logRecord) {
+    return new CapturedLogRecord(logRecord, captureContext(logRecord));
+  }
+
+  private CapturedContext captureContext(LogRecord logRecord) {
+    serializeModelObjectsWithJSON(logRecord);
+    final T fiber = getCurrentFiberIfSet();
+    return new CapturedContext(formatMessage(logRecord), Thread.currentThread().getId(),
+          getFiber(fiber), getNamespace(fiber), getDomainUid(fiber));
+  }
+
+  private void writeOptionalField(JsonGenerator generator, String name, String value) throws IOException {
+    if (value != null) {
+      generator.writeStringField(name, value);
     }
-    return json + "\n";
+  }
+
+  private void writeHeaders(JsonGenerator generator, Map<String, List<String>> headers) throws IOException {
+    generator.writeObjectFieldStart(RESPONSE_HEADERS);
+    for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+      generator.writeFieldName(entry.getKey());
+      if (entry.getValue() == null) {
+        generator.writeNull();
+      } else {
+        generator.writeStartArray();
+        for (String value : entry.getValue()) {
+          generator.writeString(value);
+        }
+        generator.writeEndArray();
+      }
+    }
+    generator.writeEndObject();
+  }
+
+  // Formats the time as DATE_FORMAT would, reusing the date, time and offset, which change at most once per second.
+  private static String formatTimestamp(Instant instant) {
+    final TimestampPrefix prefix = timestampPrefix.get();
+    if (!prefix.isFor(instant.getEpochSecond())) {
+      final String formatted = DATE_FORMAT.format(OffsetDateTime.ofInstant(
+            Instant.ofEpochSecond(instant.getEpochSecond()), ZoneId.systemDefault()));
+      if (!prefix.update(instant.getEpochSecond(), formatted)) {
+        return DATE_FORMAT.format(OffsetDateTime.ofInstant(instant, ZoneId.systemDefault()));
+      }
+    }
+    return prefix.format(instant.getNano());
   }
 
   protected abstract void serializeModelObjectsWithJSON(LogRecord logRecord);
 
   protected abstract T getCurrentFiberIfSet();
 
-  protected abstract String getFiber();
+  protected abstract String getFiber(T fiber);
 
   protected abstract String getNamespace(T fiber);
 
@@ -177,4 +234,156 @@ public abstract class BaseLoggingFormatter<T> extends Formatter {
     }
 
   }
+
+  private static class CapturedContext {
+    private final String message;
+    private final long thread;
+    private final String fiber;
+    private final String namespace;
+    private final String domainUid;
+
+    CapturedContext(String message, long thread, String fiber, String namespace, String domainUid) {
+      this.message = message;
+      this.thread = thread;
+      this.fiber = fiber;
+      this.namespace = namespace;
+      this.domainUid = domainUid;
+    }
+  }
+
+  private static class CapturedLogRecord extends LogRecord {
+    private static final long serialVersionUID = 1L;
+
+    private final transient CapturedContext context;
+
+    CapturedLogRecord(LogRecord logRecord, CapturedContext context) {
+      super(logRecord.getLevel(), context.message);
+      setInstant(logRecord.getInstant());
+      setSequenceNumber(logRecord.getSequenceNumber());
+      setLoggerName(logRecord.getLoggerName());
+      setSourceClassName(logRecord.getSourceClassName());
+      setSourceMethodName(logRecord.getSourceMethodName());
+      setThrown(logRecord.getThrown());
+      setThreadID(logRecord.getThreadID());
+      this.context = context;
+    }
+  }
+
+  /**
+   * A JSON generator which writes a single line at a time into a buffer. Each thread reuses its own, so that
+   * formatting a log record allocates little more than the line itself.
+   */
+  private static class JsonLine {
+    // a buffer which has grown larger than this, to hold an unusually long line, is not kept
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private final LineWriter writer = new LineWriter();
+    private final JsonGenerator generator;
+
+    JsonLine() {
+      try {
+        generator = JSON_FACTORY.createGenerator(writer);
+        generator.setRootValueSeparator(null);
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    JsonGenerator getGenerator() {
+      return generator;
+    }
+
+    String takeLine() throws IOException {
+      generator.flush();
+      return writer.takeLine();
+    }
+
+    // Returns false if a line was left partly written, so that this generator should not be used again.
+    boolean isEmpty() {
+      return generator.getOutputContext().inRoot() && writer.buffer.length() == 0;
+    }
+
+    private static class LineWriter extends Writer {
+      private StringBuilder buffer = new StringBuilder(1024);
+
+      String takeLine() {
+        final String line = buffer.append('\n').toString();
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+          buffer = new StringBuilder(1024);
+        } else {
+          buffer.setLength(0);
+        }
+        return line;
+      }
+
+      @Override
+      public void write(@Nonnull char[] chars, int offset, int length) {
+        buffer.append(chars, offset, length);
+      }
+
+      @Override
+      public void write(int c) {
+        buffer.append((char) c);
+      }
+
+      @Override
+      public void write(@Nonnull String str, int offset, int length) {
+        buffer.append(str, offset, offset + length);
+      }
+
+      @Override
+      public void flush() {
+        // nothing to flush
+      }
+
+      @Override
+      public void close() {
+        // nothing to release
+      }
+    }
+  }
+
+  /**
+   * The formatted date and time up to the whole second, and the zone offset, of the last timestamp formatted
+   * by a thread.
+   */
+  private static class TimestampPrefix {
+    // the length of the date and time up to the seconds in an ISO date and time with a four-digit year
+    private static final int PREFIX_LENGTH = "yyyy-mm-ddThh:mm:ss".length();
+
+    private long epochSecond = Long.MIN_VALUE;
+    private String dateAndTime;
+    private String offset;
+
+    boolean isFor(long epochSecond) {
+      return this.epochSecond == epochSecond;
+    }
+
+    // Returns false if the formatted time does not have the expected form, with no fraction of a second.
+    boolean update(long epochSecond, String formatted) {
+      if (formatted.length() <= PREFIX_LENGTH || "Z+-".indexOf(formatted.charAt(PREFIX_LENGTH)) < 0) {
+        return false;
+      }
+
+      this.epochSecond = epochSecond;
+      this.dateAndTime = formatted.substring(0, PREFIX_LENGTH);
+      this.offset = formatted.substring(PREFIX_LENGTH);
+      return true;
+    }
+
+    // Adds the fraction of a second as ISO_OFFSET_DATE_TIME does: omitted if zero, otherwise without trailing zeros.
+    String format(int nanos) {
+      if (nanos == 0) {
+        return dateAndTime + offset;
+      }
+
+      final StringBuilder builder = new StringBuilder(PREFIX_LENGTH + 16).append(dateAndTime).append('.');
+      final String digits = Integer.toString(nanos + 1_000_000_000);
+      int end = digits.length();
+      while (digits.charAt(end - 1) == '0') {
+        end--;
+      }
+      return builder.append(digits, 1, end).append(offset).toString();
+    }
+  }
 }
@@ -0,0 +1,13 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.common.logging;
+
+/** A log handler which may pass the records it receives to a console handler of its own. */
+public interface ConsoleWritingHandler {
+
+  /**
+   * Returns true if this handler writes the records it receives to the console.
+   */
+  boolean writesToConsole();
+}
@@ -0,0 +1,119 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.common.logging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * A LoggingFilter that logs each log message, which are typically message keys, at most a limited number of times
+ * in each interval. Messages are tracked independently and without locking, so that threads logging different
+ * messages do not wait for each other. A message which has not been logged for an interval is forgotten, and the
+ * number of messages remembered is bounded; if that many messages have been logged within the interval, further
+ * messages are logged without being tracked.
+ */
+public class RateLimitedLoggingFilter implements LoggingFilter {
+
+  static final int DEFAULT_MAX_MESSAGES = 1000;
+
+  private final int limit;
+  private final long intervalNanos;
+  private final int maxMessages;
+  private final LongSupplier clock;
+  final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+  // allow all messages to be logged when filtering is off
+  private volatile boolean filtering = false;
+
+  /**
+   * Creates a filter which logs each message at most the specified number of times in each interval.
+   *
+   * @param limit the number of times a message may be logged in an interval
+   * @param intervalSeconds the length of the interval, in seconds
+   */
+  public RateLimitedLoggingFilter(int limit, long intervalSeconds) {
+    this(limit, TimeUnit.SECONDS.toNanos(intervalSeconds), DEFAULT_MAX_MESSAGES, System::nanoTime);
+  }
+
+  RateLimitedLoggingFilter(int limit, long intervalNanos, int maxMessages, LongSupplier clock) {
+    this.limit = Math.max(1, limit);
+    this.intervalNanos = Math.max(1, intervalNanos);
+    this.maxMessages = maxMessages;
+    this.clock = clock;
+  }
+
+  /**
+   * Turn on or off the filtering of log messages. Messages logged while filtering is off still count toward
+   * their limits once it is turned on.
+   *
+   * @param value true if filtering should be on, false if filtering should be off
+   * @return logging filter
+   */
+  public RateLimitedLoggingFilter setFiltering(boolean value) {
+    filtering = value;
+    return this;
+  }
+
+  /**
+   * Forgets the messages logged, so that each may again be logged up to its limit.
+   *
+   * @return logging filter
+   */
+  public RateLimitedLoggingFilter resetLogHistory() {
+    windows.clear();
+    return this;
+  }
+
+  @Override
+  public boolean canLog(String msg) {
+    final long now = clock.getAsLong();
+    final Window window = getWindow(String.valueOf(msg), now);
+    final boolean withinLimit = window == null || window.record(now) <= limit;
+    return withinLimit || !filtering;
+  }
+
+  private Window getWindow(String key, long now) {
+    final Window window = windows.get(key);
+    if (window != null || !hasRoomForMessage(now)) {
+      return window;
+    }
+
+    final Window newWindow = new Window(now);
+    final Window existing = windows.putIfAbsent(key, newWindow);
+    return existing != null ? existing : newWindow;
+  }
+
+  private boolean hasRoomForMessage(long now) {
+    if (windows.size() >= maxMessages) {
+      windows.values().removeIf(w -> w.isExpired(now));
+    }
+    return windows.size() < maxMessages;
+  }
+
+  class Window {
+    private final AtomicLong start;
+    private final AtomicInteger count = new AtomicInteger();
+
+    Window(long start) {
+      this.start = new AtomicLong(start);
+    }
+
+    boolean isExpired(long now) {
+      return now - start.get() >= intervalNanos;
+    }
+
+    // Returns the number of times the message has been logged in the current interval, including this time.
+    int record(long now) {
+      final long windowStart = start.get();
+      if (now - windowStart >= intervalNanos && start.compareAndSet(windowStart, now)) {
+        count.set(0);
+      }
+      return count.incrementAndGet();
+    }
+  }
+}
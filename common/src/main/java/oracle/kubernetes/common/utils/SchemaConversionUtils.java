@@ -93,6 +93,11 @@ public class SchemaConversionUtils {
   private static final String V9_STATE_GOAL_KEY = "stateGoal";
   private static final String REASON = "reason";
 
+  // ObjectMapper is thread-safe once configured, so one instance serves every conversion
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+
+  // numbers the init containers created for legacy auxiliary images; instances converting domains concurrently
+  // would interleave these numbers, so each thread should use its own instance
   private final AtomicInteger containerIndex = new AtomicInteger(0);
   private final String targetAPIVersion;
 
@@ -920,7 +925,7 @@ public class SchemaConversionUtils {
       Map<String, Object> meta = getMetadata(domain);
       Map<String, Object> annotations = (Map<String, Object>) meta.computeIfAbsent(
           ANNOTATIONS, k -> new LinkedHashMap<>());
-      annotations.put(annoName, new ObjectMapper().writeValueAsString(toBePreserved));
+      annotations.put(annoName, objectMapper.writeValueAsString(toBePreserved));
     }
   }
 
@@ -964,7 +969,7 @@ public class SchemaConversionUtils {
   private void restore(String annoName, Map<String, Object> domain, RestoreValidator restoreValidator) {
     withAnnotation(annoName, domain, labelValue -> {
       try {
-        restore(domain, new ObjectMapper().readValue(labelValue, new TypeReference<>(){}), restoreValidator);
+        restore(domain, objectMapper.readValue(labelValue, new TypeReference<>(){}), restoreValidator);
       } catch (JsonProcessingException e) {
         throw new RuntimeException(e);
       }
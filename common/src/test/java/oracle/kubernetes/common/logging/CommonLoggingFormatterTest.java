@@ -1,8 +1,16 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.common.logging;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -17,6 +25,8 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 class CommonLoggingFormatterTest {
 
+  private static final int NUM_LINES = 100;
+
   private final LogRecord logRecord = new LogRecord(Level.INFO, "A simple one");
   private final CommonLoggingFormatter formatter = new CommonLoggingFormatter();
 
@@ -58,4 +68,80 @@ class CommonLoggingFormatterTest {
 
     assertThat(getFormattedMessage().get("exception"), containsString("java.lang.RuntimeException: in the test"));
   }
+
+  @Test
+  void formattedLine_matchesSerializationOfFieldMap() throws JsonProcessingException {
+    logRecord.setMessage("A \"quoted\" {0},\nwith a second line and a tab\t and café");
+    logRecord.setParameters(new Object[]{"value"});
+    logRecord.setSourceClassName("theClass");
+    logRecord.setSourceMethodName("itsMethod");
+    logRecord.setThrown(new RuntimeException("in the test"));
+
+    assertThat(formatter.format(logRecord), equalTo(formatWithFieldMap(logRecord)));
+  }
+
+  // The formatter once built a map of the fields in each line and serialized it with a new object mapper.
+  private String formatWithFieldMap(LogRecord logRecord) throws JsonProcessingException {
+    final Map<String, Object> map = new LinkedHashMap<>();
+    map.put("timestamp", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(
+          OffsetDateTime.ofInstant(logRecord.getInstant(), ZoneId.systemDefault())));
+    map.put("thread", Thread.currentThread().getId());
+    map.put("level", logRecord.getLevel().getLocalizedName());
+    map.put("class", logRecord.getSourceClassName());
+    map.put("method", logRecord.getSourceMethodName());
+    map.put("timeInMillis", logRecord.getMillis());
+    map.put("message", formatter.formatMessage(logRecord).replace("\n", "\\\n"));
+    map.put("exception", getStackTrace(logRecord).replace("\n", "\\\n"));
+    map.put("code", "");
+    map.put("headers", Collections.emptyMap());
+    map.put("body", "");
+    return new ObjectMapper().writeValueAsString(map) + "\n";
+  }
+
+  private String getStackTrace(LogRecord logRecord) {
+    if (logRecord.getThrown() == null) {
+      return "";
+    }
+
+    StringWriter sw = new StringWriter();
+    PrintWriter pw = new PrintWriter(sw);
+    pw.println();
+    logRecord.getThrown().printStackTrace(pw);
+    pw.close();
+    return sw.toString();
+  }
+
+  @Test
+  void formattedTimestamps_matchIsoOffsetDateTimes() {
+    for (int nanos : new int[] {0, 100_000_000, 123_000_000, 123_456_000, 123_456_789, 999_999_999}) {
+      logRecord.setInstant(Instant.ofEpochSecond(1_700_000_000L, nanos));
+
+      assertThat(getFormattedTimestamp(), equalTo(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(
+            OffsetDateTime.ofInstant(logRecord.getInstant(), ZoneId.systemDefault()))));
+    }
+  }
+
+  private String getFormattedTimestamp() {
+    try {
+      return getFormattedMessage().get("timestamp");
+    } catch (JsonProcessingException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  // The formatter reuses its JSON generator and formatted date from line to line, so formatting many lines in turn
+  // must give the same output as building and serializing a map of the fields of each line.
+  @Test
+  void whenManyLinesFormattedInTurn_eachMatchesSerializedFieldMap() throws JsonProcessingException {
+    logRecord.setMessage("Formatting line {0} of many");
+    logRecord.setSourceClassName("theClass");
+    logRecord.setSourceMethodName("itsMethod");
+
+    for (int i = 0; i < NUM_LINES; i++) {
+      logRecord.setParameters(new Object[] {i});
+      logRecord.setInstant(Instant.ofEpochSecond(1_700_000_000L + i / 10, i * 1_000_000L));
+
+      assertThat(formatter.format(logRecord), equalTo(formatWithFieldMap(logRecord)));
+    }
+  }
 }
@@ -0,0 +1,173 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.common.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class RateLimitedLoggingFilterTest {
+
+  private static final String MESSAGE = "some log message";
+  private static final long INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  private long now = 1000;
+
+  private RateLimitedLoggingFilter createFilter(int limit, int maxMessages) {
+    return new RateLimitedLoggingFilter(limit, INTERVAL_NANOS, maxMessages, () -> now).setFiltering(true);
+  }
+
+  @Test
+  void verifyCanLogReturnsTrueUntilLimitReached() {
+    RateLimitedLoggingFilter loggingFilter = createFilter(2, 10);
+
+    assertThat(loggingFilter.canLog(MESSAGE), is(true));
+    assertThat(loggingFilter.canLog(MESSAGE), is(true));
+    assertThat(loggingFilter.canLog(MESSAGE), is(false));
+  }
+
+  @Test
+  void verifyCanLogReturnsFalseForRepeatedNullMessage() {
+    RateLimitedLoggingFilter loggingFilter = createFilter(1, 10);
+
+    loggingFilter.canLog(null);
+    assertThat(loggingFilter.canLog(null), is(false));
+  }
+
+  @Test
+  void verifyCanLogReturnsTrueForDifferentMessage() {
+    RateLimitedLoggingFilter loggingFilter = createFilter(1, 10);
+
+    loggingFilter.canLog(MESSAGE);
+    assertThat(loggingFilter.canLog("another log message"), is(true));
+  }
+
+  @Test
+  void verifyCanLogReturnsTrueAgainAfterInterval() {
+    RateLimitedLoggingFilter loggingFilter = createFilter(1, 10);
+
+    loggingFilter.canLog(MESSAGE);
+    now += INTERVAL_NANOS;
+
+    assertThat(loggingFilter.canLog(MESSAGE), is(true));
+    assertThat(loggingFilter.canLog(MESSAGE), is(false));
+  }
+
+  @Test
+  void verifyCanLogReturnsTrueForRepeatedMessageWithoutFiltering() {
+    RateLimitedLoggingFilter loggingFilter = createFilter(1, 10).setFiltering(false);
+
+    assertThat(loggingFilter.canLog(MESSAGE), is(true));
+    assertThat(loggingFilter.canLog(MESSAGE), is(true));
+  }
+
+  @Test
+  void verifyMessageHistoryKeptBeforeFilteringIsOn() {
+    RateLimitedLoggingFilter loggingFilter = createFilter(1, 10).setFiltering(false);
+
+    loggingFilter.canLog(MESSAGE);
+    loggingFilter.setFiltering(true);
+
+    assertThat(loggingFilter.canLog(MESSAGE), is(false));
+  }
+
+  @Test
+  void verifyResetHistoryAllowsMessageAgain() {
+    RateLimitedLoggingFilter loggingFilter = createFilter(1, 10);
+
+    loggingFilter.canLog(MESSAGE);
+    loggingFilter.resetLogHistory();
+
+    assertThat(loggingFilter.canLog(MESSAGE), is(true));
+  }
+
+  @Test
+  void verifyCanLogReturnsTrueOnceAfterReenablingFilteringAfterOffAndReset() {
+    RateLimitedLoggingFilter loggingFilter = createFilter(1, 10);
+
+    loggingFilter.canLog(MESSAGE);
+    loggingFilter.setFiltering(false).resetLogHistory();
+    loggingFilter.setFiltering(true);
+
+    assertThat(loggingFilter.canLog(MESSAGE), is(true));
+    assertThat(loggingFilter.canLog(MESSAGE), is(false));
+  }
+
+  @Test
+  void verifyCanLogReturnsFalseAfterReenablingFilteringAfterOffWithoutReset() {
+    RateLimitedLoggingFilter loggingFilter = createFilter(1, 10);
+
+    loggingFilter.canLog(MESSAGE);
+    loggingFilter.setFiltering(false);
+    loggingFilter.setFiltering(true);
+
+    assertThat(loggingFilter.canLog(MESSAGE), is(false));
+  }
+
+  @Test
+  void whenMaxMessagesTracked_forgetExpiredMessages() {
+    RateLimitedLoggingFilter loggingFilter = createFilter(1, 2);
+
+    loggingFilter.canLog("message 1");
+    loggingFilter.canLog("message 2");
+    now += INTERVAL_NANOS;
+    loggingFilter.canLog("message 3");
+
+    assertThat(loggingFilter.windows.keySet(), equalTo(Set.of("message 3")));
+  }
+
+  @Test
+  void whenMaxMessagesTrackedWithinInterval_logUntrackedMessages() {
+    RateLimitedLoggingFilter loggingFilter = createFilter(1, 2);
+
+    loggingFilter.canLog("message 1");
+    loggingFilter.canLog("message 2");
+
+    assertThat(loggingFilter.canLog("message 3"), is(true));
+    assertThat(loggingFilter.canLog("message 3"), is(true));
+    assertThat(loggingFilter.windows.size(), equalTo(2));
+  }
+
+  @Test
+  void whenLoggedConcurrently_allowOnlyLimit() throws Exception {
+    final int limit = 5;
+    final RateLimitedLoggingFilter loggingFilter = createFilter(limit, 10);
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Callable<Integer>> tasks = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        tasks.add(() -> countLogged(loggingFilter, 1000));
+      }
+
+      int total = 0;
+      for (Future<Integer> future : executor.invokeAll(tasks)) {
+        total += future.get();
+      }
+      assertThat(total, equalTo(limit));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private int countLogged(RateLimitedLoggingFilter loggingFilter, int attempts) {
+    int logged = 0;
+    for (int i = 0; i < attempts; i++) {
+      if (loggingFilter.canLog(MESSAGE)) {
+        logged++;
+      }
+    }
+    return logged;
+  }
+}
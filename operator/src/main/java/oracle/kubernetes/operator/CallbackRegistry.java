@@ -0,0 +1,122 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+
+/**
+ * The callbacks registered by steps waiting for changes to resources, indexed by resource name. Each name may have
+ * any number of callbacks. The callbacks for a name are held in an immutable list which is replaced, by compare and
+ * set, when a callback is added or removed; watch events therefore read the callbacks for a resource without locking
+ * or copying them, and fibers waiting for different resources do not contend with each other.
+ *
+ * @param <T> the type of resource watched
+ */
+class CallbackRegistry<T> {
+
+  private final Map<String, Registrations<T>> registrations = new ConcurrentHashMap<>();
+
+  /**
+   * Registers a callback for changes to the named resource.
+   * @param name the name of the resource
+   * @param callback the callback to invoke when a change is reported
+   */
+  void add(String name, Consumer<T> callback) {
+    while (true) {
+      final Registrations<T> current = registrations.get(name);
+      if (current == null) {
+        if (registrations.putIfAbsent(name, new Registrations<>(List.of(callback))) == null) {
+          return;
+        }
+      } else if (registrations.replace(name, current, current.with(callback))) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Unregisters a callback for the named resource. Does nothing if the callback is not registered.
+   * @param name the name of the resource
+   * @param callback the previously registered callback
+   */
+  void remove(String name, Consumer<T> callback) {
+    while (true) {
+      final Registrations<T> current = registrations.get(name);
+      if (current == null || !current.callbacks.contains(callback)) {
+        return;
+      }
+
+      final Registrations<T> remaining = current.without(callback);
+      if (remaining.callbacks.isEmpty() ? registrations.remove(name, current)
+                                        : registrations.replace(name, current, remaining)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Returns the callbacks currently registered for the named resource. The returned list is not changed by later
+   * registrations, and so may be used while the callbacks add and remove themselves.
+   * @param name the name of the resource
+   */
+  @Nonnull
+  List<Consumer<T>> get(String name) {
+    final Registrations<T> current = registrations.get(name);
+    return current == null ? Collections.emptyList() : current.callbacks;
+  }
+
+  /**
+   * Unregisters and returns all callbacks for the named resource.
+   * @param name the name of the resource
+   */
+  @Nonnull
+  List<Consumer<T>> removeAll(String name) {
+    final Registrations<T> removed = registrations.remove(name);
+    return removed == null ? Collections.emptyList() : removed.callbacks;
+  }
+
+  /**
+   * Passes the resource to each callback registered for the named resource.
+   * @param name the name of the resource
+   * @param resource the changed resource
+   */
+  void dispatch(String name, T resource) {
+    get(name).forEach(callback -> callback.accept(resource));
+  }
+
+  /**
+   * Returns the number of resource names which have registered callbacks.
+   */
+  int size() {
+    return registrations.size();
+  }
+
+  // Compared by identity, so that a replacement succeeds only if no other thread changed the callbacks in between.
+  private static final class Registrations<T> {
+    private final List<Consumer<T>> callbacks;
+
+    private Registrations(List<Consumer<T>> callbacks) {
+      this.callbacks = callbacks;
+    }
+
+    private Registrations<T> with(Consumer<T> callback) {
+      final List<Consumer<T>> result = new ArrayList<>(callbacks.size() + 1);
+      result.addAll(callbacks);
+      result.add(callback);
+      return new Registrations<>(Collections.unmodifiableList(result));
+    }
+
+    private Registrations<T> without(Consumer<T> callback) {
+      final List<Consumer<T>> result = new ArrayList<>(callbacks);
+      result.remove(callback);
+      return new Registrations<>(Collections.unmodifiableList(result));
+    }
+  }
+}
@@ -60,4 +60,6 @@ public interface CoreDelegate extends PacketComponent {
 
   ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit);
 
+  ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit);
+
 }
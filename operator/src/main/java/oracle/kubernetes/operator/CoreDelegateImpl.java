@@ -15,6 +15,7 @@ import oracle.kubernetes.operator.helpers.HealthCheckHelper;
 import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.work.Engine;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
@@ -46,11 +47,18 @@ public class CoreDelegateImpl implements CoreDelegate {
     productVersion = new SemanticVersion(buildVersion);
     kubernetesVersion = HealthCheckHelper.performK8sVersionCheck();
 
-    engine = new Engine(scheduledExecutorService);
+    engine = new Engine(selectEngineExecutor(scheduledExecutorService));
 
     PodHelper.setProductVersion(productVersion.toString());
   }
 
+  private static ScheduledExecutorService selectEngineExecutor(ScheduledExecutorService scheduledExecutorService) {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .filter(TuningParameters::isEngineUseVirtualThreads)
+        .map(p -> Engine.wrappedVirtualThreadExecutorService("operator", BaseMain.container))
+        .orElse(scheduledExecutorService);
+  }
+
   protected static String getBuildVersion(Properties buildProps) {
     return Optional.ofNullable(buildProps.getProperty(GIT_BUILD_VERSION_KEY)).orElse("1.0");
   }
@@ -126,4 +134,9 @@ public class CoreDelegateImpl implements CoreDelegate {
   public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
     return engine.getExecutor().scheduleWithFixedDelay(command, initialDelay, delay, unit);
   }
+
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    return engine.getExecutor().schedule(command, delay, unit);
+  }
 }
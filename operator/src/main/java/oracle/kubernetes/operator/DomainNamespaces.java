@@ -3,6 +3,8 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -14,21 +16,26 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.CoreV1Event;
 import io.kubernetes.client.openapi.models.CoreV1EventList;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodDisruptionBudget;
 import io.kubernetes.client.openapi.models.V1PodDisruptionBudgetList;
 import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.watcher.ResourceInformer;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.ThreadFactorySingleton;
@@ -37,6 +44,7 @@ import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.DomainList;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 
+import static oracle.kubernetes.operator.calls.AsyncRequestStep.accessContinue;
 import static oracle.kubernetes.operator.helpers.KubernetesUtils.getResourceVersion;
 
 /**
@@ -46,14 +54,17 @@ import static oracle.kubernetes.operator.helpers.KubernetesUtils.getResourceVers
 @SuppressWarnings("SameParameterValue")
 public class DomainNamespaces {
   private static final WatchListener<V1Job> NULL_LISTENER = w -> { };
+  private static final boolean CLUSTER_SCOPE_SUPPORTED = true;
+  private static final boolean RESOURCES_STORED = true;
 
   private final Map<String, NamespaceStatus> namespaceStatuses = new ConcurrentHashMap<>();
   private final Map<String, AtomicBoolean> namespaceStoppingMap = new ConcurrentHashMap<>();
+  private final AtomicBoolean clusterWatchesStopping = new AtomicBoolean(false);
 
   private final WatcherControl<ClusterResource, ClusterWatcher> clusterWatchers
       = new WatcherControl<>(ClusterWatcher::create, d -> d::dispatchClusterWatch);
   private final WatcherControl<V1ConfigMap, ConfigMapWatcher> configMapWatchers
-        = new WatcherControl<>(ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch);
+        = new WatcherControl<>(ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch, CLUSTER_SCOPE_SUPPORTED);
   private final WatcherControl<DomainResource, DomainWatcher> domainWatchers
         = new WatcherControl<>(DomainWatcher::create, d -> d::dispatchDomainWatch);
   private final WatcherControl<CoreV1Event, EventWatcher> eventWatchers
@@ -61,13 +72,14 @@ public class DomainNamespaces {
   private final WatcherControl<CoreV1Event, OperatorEventWatcher> operatorEventWatchers
       = new WatcherControl<>(OperatorEventWatcher::create, d -> d::dispatchEventWatch);
   private final WatcherControl<V1Job, JobWatcher> jobWatchers
-        = new WatcherControl<>(JobWatcher::create, d -> NULL_LISTENER);
+        = new WatcherControl<>(JobWatcher::create, d -> NULL_LISTENER, CLUSTER_SCOPE_SUPPORTED);
   private final WatcherControl<V1Pod, PodWatcher> podWatchers
-        = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch);
+        = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch, CLUSTER_SCOPE_SUPPORTED, RESOURCES_STORED);
   private final WatcherControl<V1Service, ServiceWatcher> serviceWatchers
-        = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch);
+        = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch, CLUSTER_SCOPE_SUPPORTED);
   private final WatcherControl<V1PodDisruptionBudget, PodDisruptionBudgetWatcher> podDisruptionBudgetWatchers
-          = new WatcherControl<>(PodDisruptionBudgetWatcher::create, d -> d::dispatchPodDisruptionBudgetWatch);
+          = new WatcherControl<>(PodDisruptionBudgetWatcher::create, d -> d::dispatchPodDisruptionBudgetWatch,
+                                 CLUSTER_SCOPE_SUPPORTED);
 
   private final SemanticVersion productVersion;
 
@@ -108,6 +120,7 @@ public class DomainNamespaces {
    */
   void stopAllWatchers() {
     namespaceStoppingMap.forEach((key, value) -> value.set(true));
+    clusterWatchesStopping.set(true);
   }
 
   /**
@@ -158,6 +171,11 @@ public class DomainNamespaces {
     return podWatchers.getWatcher(namespace);
   }
 
+  // for test
+  PodWatcher getClusterScopedPodWatcher() {
+    return podWatchers.getClusterScopedWatcher();
+  }
+
   ServiceWatcher getServiceWatcher(String namespace) {
     return serviceWatchers.getWatcher(namespace);
   }
@@ -166,6 +184,10 @@ public class DomainNamespaces {
     return podDisruptionBudgetWatchers.getWatcher(namespace);
   }
 
+  ResourceInformer<V1Pod> getPodInformer() {
+    return podWatchers.getInformer();
+  }
+
   /**
    * Returns the internal status object for the specified namespace.
    * @param ns the name of the namespace.
@@ -175,6 +197,18 @@ public class DomainNamespaces {
     return namespaceStatuses.computeIfAbsent(ns, key -> new NamespaceStatus());
   }
 
+  /**
+   * Returns true if resources of the kinds created by the operator should be watched with a single watch across
+   * all namespaces, whose events are then distributed to the managed namespaces. This requires cluster-wide
+   * read access, so it is only supported with selection strategies which already need to read all namespaces.
+   */
+  static boolean useClusterScopedWatches() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::isClusterScopedWatches)
+          .orElse(false)
+        && Namespaces.getSelectionStrategy().isClusterScopedWatchSupported();
+  }
+
   static WatchTuning getWatchTuning() {
     return TuningParameters.getInstance().getWatchTuning();
   }
@@ -191,12 +225,21 @@ public class DomainNamespaces {
    * @param processor processing to be done to bring up any found domains
    */
   Step readExistingResources(String ns, DomainProcessor processor) {
+    expectNamespace(ns);
     NamespacedResources resources = new NamespacedResources(ns, null, this);
     resources.addProcessing(new DomainResourcesValidation(ns, processor).getProcessors());
     resources.addProcessing(createWatcherStartupProcessing(ns, processor));
     return Step.chain(ConfigMapHelper.createScriptConfigMapStep(ns, productVersion), resources.createListSteps());
   }
 
+  private void expectNamespace(String ns) {
+    configMapWatchers.expectNamespace(ns);
+    jobWatchers.expectNamespace(ns);
+    podWatchers.expectNamespace(ns);
+    serviceWatchers.expectNamespace(ns);
+    podDisruptionBudgetWatchers.expectNamespace(ns);
+  }
+
   public boolean shouldStartNamespace(String ns) {
     return getNamespaceStatus(ns).shouldStartNamespace();
   }
@@ -217,31 +260,119 @@ public class DomainNamespaces {
 
   interface ListenerSelector<T> extends Function<DomainProcessor, WatchListener<T>> { }
 
-  class WatcherControl<T, W extends Watcher<T>> {
+  class WatcherControl<T extends KubernetesObject, W extends Watcher<T>> {
     private final Map<String, W> watchers = new ConcurrentHashMap<>();
+    private W clusterScopedWatcher;
+    private final ResourceInformer<T> informer;
     private final WatcherFactory<T,W> factory;
     private final ListenerSelector<T> selector;
+    private final boolean clusterScopeSupported;
 
     private WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector) {
+      this(factory, selector, false);
+    }
+
+    private WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector, boolean clusterScopeSupported) {
+      this(factory, selector, clusterScopeSupported, false);
+    }
+
+    // Only the resources of kinds which are looked up are stored; the informers for other kinds just dispatch events.
+    private WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector,
+                           boolean clusterScopeSupported, boolean resourcesStored) {
       this.factory = factory;
       this.selector = selector;
+      this.clusterScopeSupported = clusterScopeSupported;
+      this.informer = resourcesStored ? new ResourceInformer<>() : new ResourceInformer<T>().withoutStore();
+    }
+
+    private boolean isDemultiplexed() {
+      return clusterScopeSupported && useClusterScopedWatches();
+    }
+
+    // Registers the namespace with the cluster-scoped watch before it is listed, so that events which that watch
+    // receives while the list is in progress are held for the namespace, rather than dropped.
+    void expectNamespace(String namespace) {
+      if (isDemultiplexed()) {
+        watchers.computeIfAbsent(namespace, n -> createWatcher(n, null));
+      }
+    }
+
+    // The first page of a list replaces the resources known for the namespace; later pages add to them.
+    void addListPage(String namespace, List<T> resources, boolean firstPage) {
+      if (firstPage) {
+        informer.replaceNamespace(namespace, resources);
+      } else {
+        informer.addResources(resources);
+      }
     }
 
     void startWatcher(String namespace, String resourceVersion, DomainProcessor domainProcessor) {
-      watchers.computeIfAbsent(namespace, n -> createWatcher(n, resourceVersion, selector.apply(domainProcessor)));
+      informer.addListener(namespace, selector.apply(domainProcessor));
+      watchers.computeIfAbsent(namespace, n -> createWatcher(n, resourceVersion));
+      if (isDemultiplexed()) {
+        ensureClusterScopedWatcher();
+      }
       getWatcher(namespace).withResourceVersion(resourceVersion).resume();
     }
 
-    W createWatcher(String ns, String resourceVersion, WatchListener<T> listener) {
-      return factory.create(getThreadFactory(), ns, resourceVersion, getWatchTuning(), listener, isStopping(ns));
+    W createWatcher(String ns, String resourceVersion) {
+      if (isDemultiplexed()) {
+        final W watcher = factory.create(null, ns, resourceVersion, getWatchTuning(), informer, isStopping(ns));
+        watcher.withRelistAction(this::relistClusterScopedWatch);
+        return watcher;
+      }
+      return factory.create(getThreadFactory(), ns, resourceVersion, getWatchTuning(), informer, isStopping(ns));
+    }
+
+    // Starts the single cluster-scoped watch for this resource kind once the first namespace is listed. The watch
+    // starts from the current state of the resources, which it reports as additions, so that the namespace misses
+    // no change made after its list.
+    private synchronized void ensureClusterScopedWatcher() {
+      if (clusterScopedWatcher == null) {
+        clusterScopedWatcher = factory.create(
+            getThreadFactory(), null, null, getWatchTuning(), this::demultiplex, clusterWatchesStopping);
+      }
+    }
+
+    // A namespace which discarded the events it held while awaiting its list needs the current state again.
+    private void relistClusterScopedWatch() {
+      Optional.ofNullable(getClusterScopedWatcher()).ifPresent(Watcher::relist);
+    }
+
+    // Events for namespaces which are neither managed nor about to be listed are dropped; any such resources
+    // will be found when the namespace is listed.
+    private void demultiplex(Watch.Response<T> response) {
+      Optional.ofNullable(response.object)
+          .map(KubernetesObject::getMetadata)
+          .map(V1ObjectMeta::getNamespace)
+          .map(watchers::get)
+          .ifPresent(w -> w.receiveDemultiplexed(response));
+    }
+
+    void addResumedListPage(String namespace, List<T> resources, boolean firstPage) {
+      Optional.ofNullable(getWatcher(namespace)).ifPresent(w -> addListPage(namespace, resources, firstPage));
+    }
+
+    void resumeWatcher(String namespace, String resourceVersion) {
+      Optional.ofNullable(getWatcher(namespace)).ifPresent(w -> w.withResourceVersion(resourceVersion).resume());
     }
 
     W getWatcher(String ns) {
       return watchers.get(ns);
     }
 
+    // for test
+    synchronized W getClusterScopedWatcher() {
+      return clusterScopedWatcher;
+    }
+
+    ResourceInformer<T> getInformer() {
+      return informer;
+    }
+
     void removeWatcher(String ns) {
       watchers.remove(ns);
+      informer.removeNamespace(ns);
     }
   }
 
@@ -252,121 +383,135 @@ public class DomainNamespaces {
   class WatcherStartupProcessing implements Processors {
     private final String ns;
     private final DomainProcessor domainProcessor;
+    private final Set<WatcherControl<?, ?>> listed = new HashSet<>();
 
     WatcherStartupProcessing(String ns, DomainProcessor domainProcessor) {
       this.ns = ns;
       this.domainProcessor = domainProcessor;
     }
 
+    // Records each page of a list as it arrives, and starts the watcher once the last page has been recorded.
+    private <T extends KubernetesObject> void startWatcher(
+          WatcherControl<T, ?> control, KubernetesListObject list, List<T> items) {
+      control.addListPage(ns, items, listed.add(control));
+      if (isLastPage(list)) {
+        control.startWatcher(ns, getResourceVersion(list), domainProcessor);
+      }
+    }
+
     @Override
     public Consumer<V1ConfigMapList> getConfigMapListProcessing() {
-      return l -> configMapWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> startWatcher(configMapWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<CoreV1EventList> getEventListProcessing() {
-      return l -> eventWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> startWatcher(eventWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<CoreV1EventList> getOperatorEventListProcessing() {
-      return l -> operatorEventWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> startWatcher(operatorEventWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<V1JobList> getJobListProcessing() {
-      return l -> jobWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> startWatcher(jobWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<V1PodList> getPodListProcessing() {
-      return l -> podWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> startWatcher(podWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<V1ServiceList> getServiceListProcessing() {
-      return l -> serviceWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> startWatcher(serviceWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<V1PodDisruptionBudgetList> getPodDisruptionBudgetListProcessing() {
-      return l -> podDisruptionBudgetWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> startWatcher(podDisruptionBudgetWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<DomainList> getDomainListProcessing() {
-      return l -> domainWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> startWatcher(domainWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<ClusterList> getClusterListProcessing() {
-      return l -> clusterWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> startWatcher(clusterWatchers, l, l.getItems());
     }
   }
 
+  private static boolean isLastPage(KubernetesListObject list) {
+    return accessContinue(list) == null;
+  }
+
   Processors createWatcherResumeProcessing(String ns) {
     return new WatcherResumeProcessing(ns);
   }
 
   class WatcherResumeProcessing implements Processors {
     private final String ns;
+    private final Set<WatcherControl<?, ?>> listed = new HashSet<>();
 
     WatcherResumeProcessing(String ns) {
       this.ns = ns;
     }
 
+    private <T extends KubernetesObject> void resumeWatcher(
+          WatcherControl<T, ?> control, KubernetesListObject list, List<T> items) {
+      control.addResumedListPage(ns, items, listed.add(control));
+      if (isLastPage(list)) {
+        control.resumeWatcher(ns, getResourceVersion(list));
+      }
+    }
+
     @Override
     public Consumer<V1ConfigMapList> getConfigMapListProcessing() {
-      return l -> Optional.ofNullable(configMapWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+      return l -> resumeWatcher(configMapWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<CoreV1EventList> getEventListProcessing() {
-      return l -> Optional.ofNullable(eventWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+      return l -> resumeWatcher(eventWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<CoreV1EventList> getOperatorEventListProcessing() {
-      return l -> Optional.ofNullable(operatorEventWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+      return l -> resumeWatcher(operatorEventWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<V1JobList> getJobListProcessing() {
-      return l -> Optional.ofNullable(jobWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+      return l -> resumeWatcher(jobWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<V1PodList> getPodListProcessing() {
-      return l -> Optional.ofNullable(podWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+      return l -> resumeWatcher(podWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<V1ServiceList> getServiceListProcessing() {
-      return l -> Optional.ofNullable(serviceWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+      return l -> resumeWatcher(serviceWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<V1PodDisruptionBudgetList> getPodDisruptionBudgetListProcessing() {
-      return l -> Optional.ofNullable(podDisruptionBudgetWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+      return l -> resumeWatcher(podDisruptionBudgetWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<DomainList> getDomainListProcessing() {
-      return l -> Optional.ofNullable(domainWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+      return l -> resumeWatcher(domainWatchers, l, l.getItems());
     }
 
     @Override
     public Consumer<ClusterList> getClusterListProcessing() {
-      return l -> Optional.ofNullable(clusterWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+      return l -> resumeWatcher(clusterWatchers, l, l.getItems());
     }
   }
 }
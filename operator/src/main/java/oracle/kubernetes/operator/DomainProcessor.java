@@ -108,6 +108,14 @@ public interface DomainProcessor {
     // no-op
   }
 
+  /**
+   * Records that the operator has just finished listing the domain and cluster resources in a namespace.
+   * @param namespace the namespace
+   */
+  default void recordResourcesListed(String namespace) {
+    // no-op
+  }
+
   /**
    * Get the map of domain presence infos for a given namespace.
    *
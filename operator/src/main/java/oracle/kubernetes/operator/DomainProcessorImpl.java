@@ -16,6 +16,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.models.CoreV1Event;
@@ -30,7 +31,7 @@ import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.common.logging.LoggingFilter;
 import oracle.kubernetes.common.logging.MessageKeys;
-import oracle.kubernetes.common.logging.OncePerMessageLoggingFilter;
+import oracle.kubernetes.common.logging.RateLimitedLoggingFilter;
 import oracle.kubernetes.operator.calls.UnrecoverableCallException;
 import oracle.kubernetes.operator.helpers.ClusterPresenceInfo;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
@@ -113,11 +114,17 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   @SuppressWarnings("FieldMayBeFinal")
   private static Map<String, Map<String, ScheduledFuture<?>>> statusUpdaters = new ConcurrentHashMap<>();
 
-  // List of clusters in a namespace.
-  private static final Map<String, Map<String, ClusterPresenceInfo>> clusters = new ConcurrentHashMap<>();
+  // List of clusters in a namespace; tests may replace this value.
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static Map<String, Map<String, ClusterPresenceInfo>> clusters = new ConcurrentHashMap<>();
+
+  // Map namespace to the time its domain and cluster resources were last listed; tests may replace this value.
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static Map<String, OffsetDateTime> resourcesListedTimes = new ConcurrentHashMap<>();
 
   private final DomainProcessorDelegate delegate;
   private final SemanticVersion productVersion;
+  private final StatusUpdateScheduler statusUpdateScheduler;
 
   // Map namespace to map of domainUID to KubernetesEventObjects; tests may replace this value.
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
@@ -135,9 +142,21 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     this(delegate, null);
   }
 
+  /**
+   * Creates a domain processor.
+   * @param delegate the delegate through which the processor interacts with the operator
+   * @param productVersion the version of the running operator
+   */
   public DomainProcessorImpl(DomainProcessorDelegate delegate, SemanticVersion productVersion) {
     this.delegate = delegate;
     this.productVersion = productVersion;
+    this.statusUpdateScheduler = new StatusUpdateScheduler(
+        (command, initialDelay, delay, unit) -> delegate.scheduleWithFixedDelay(command, initialDelay, delay, unit),
+        this::isDomainPresent);
+  }
+
+  private boolean isDomainPresent(String ns, String domainUid) {
+    return Optional.ofNullable(domains.get(ns)).map(m -> m.containsKey(domainUid)).orElse(false);
   }
 
   @Override
@@ -191,6 +210,14 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     domainEventK8SObjects.remove(namespace);
     namespaceEventK8SObjects.remove(namespace);
     statusUpdaters.remove((namespace));
+    resourcesListedTimes.remove(namespace);
+    PodHelper.discardCachedPodRecipes(namespace);
+  }
+
+  private static void unregisterStatusUpdater(String ns, String domainUid) {
+    Optional.ofNullable(statusUpdaters.get(ns))
+          .map(m -> m.remove(domainUid))
+          .ifPresent(existing -> existing.cancel(false));
   }
 
   private static void registerStatusUpdater(
@@ -316,6 +343,29 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     return domains;
   }
 
+  /**
+   * Get all the cluster resources in the given namespace.
+   *
+   * @param ns the namespace
+   * @return list of the cluster resources
+   */
+  public static List<ClusterResource> getClusters(String ns) {
+    return Optional.ofNullable(clusters.get(ns)).map(Map::values).orElse(Collections.emptyList()).stream()
+          .map(ClusterPresenceInfo::getCluster)
+          .filter(Objects::nonNull)
+          .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the time at which the domain and cluster resources in the given namespace were last listed, or null
+   * if they have not been listed. Between listings, watches keep the operator's copies of them current.
+   *
+   * @param ns the namespace
+   */
+  public static OffsetDateTime getResourcesListedTime(String ns) {
+    return resourcesListedTimes.get(ns);
+  }
+
   private static void addToList(List<DomainResource> list, DomainPresenceInfo info) {
     if (isNotDeleting(info)) {
       list.add(info.getDomain());
@@ -461,17 +511,27 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   public void scheduleDomainStatusUpdates(DomainPresenceInfo info) {
     final int statusUpdateTimeoutSeconds = TuningParameters.getInstance().getStatusUpdateTimeoutSeconds();
     final int initialShortDelay = TuningParameters.getInstance().getInitialShortDelay();
-    final OncePerMessageLoggingFilter loggingFilter = new OncePerMessageLoggingFilter();
+    final RateLimitedLoggingFilter loggingFilter = new RateLimitedLoggingFilter(
+          TuningParameters.getInstance().getRepeatedMessageLogLimit(),
+          TuningParameters.getInstance().getRepeatedMessageLogIntervalSeconds());
+    final Runnable statusUpdate = () -> new ScheduledStatusUpdater(info.getNamespace(), info.getDomainUid(),
+        loggingFilter).withTimeoutSeconds(statusUpdateTimeoutSeconds).updateStatus();
+
+    if (TuningParameters.getInstance().isEventDrivenStatusUpdates()) {
+      unregisterStatusUpdater(info.getNamespace(), info.getDomainUid());
+      statusUpdateScheduler.schedule(info.getNamespace(), info.getDomainUid(), statusUpdate);
+    } else {
+      statusUpdateScheduler.cancel(info.getNamespace(), info.getDomainUid());
+      registerStatusUpdater(
+          info.getNamespace(),
+          info.getDomainUid(),
+          delegate.scheduleWithFixedDelay(statusUpdate, initialShortDelay, initialShortDelay, TimeUnit.SECONDS));
+    }
+  }
 
-    registerStatusUpdater(
-        info.getNamespace(),
-        info.getDomainUid(),
-        delegate.scheduleWithFixedDelay(
-            () -> new ScheduledStatusUpdater(info.getNamespace(), info.getDomainUid(), loggingFilter)
-                .withTimeoutSeconds(statusUpdateTimeoutSeconds).updateStatus(),
-            initialShortDelay,
-            initialShortDelay,
-            TimeUnit.SECONDS));
+  @Override
+  public void recordResourcesListed(String namespace) {
+    resourcesListedTimes.put(namespace, SystemClock.now());
   }
 
   @Override
@@ -491,6 +551,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   @Override
   public void unregisterDomainPresenceInfo(DomainPresenceInfo info) {
     unregisterPresenceInfo(info.getNamespace(), info.getDomainUid());
+    DomainStatusUpdater.forgetStatusWrites(info);
   }
 
   @Override
@@ -509,6 +570,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
   private static void unregisterPresenceInfo(String ns, String domainUid) {
     Optional.ofNullable(domains.get(ns)).ifPresent(m -> m.remove(domainUid));
+    PodHelper.discardCachedPodRecipes(ns, domainUid);
   }
 
   private static void unregisterPresenceInfoForCluster(String ns, String clusterName) {
@@ -517,6 +579,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
   @Override
   public void endScheduledDomainStatusUpdates(DomainPresenceInfo info) {
+    statusUpdateScheduler.cancel(info.getNamespace(), info.getDomainUid());
     Map<String, ScheduledFuture<?>> map = statusUpdaters.get(info.getNamespace());
     if (map != null) {
       ScheduledFuture<?> existing = map.remove(info.getDomainUid());
@@ -586,6 +649,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
       return;
     }
 
+    statusUpdateScheduler.onActivity(info.getNamespace(), domainUid);
     String serverName = getPodLabel(pod, LabelConstants.SERVERNAME_LABEL);
     switch (watchType) {
       case ADDED:
@@ -693,6 +757,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
       return;
     }
 
+    statusUpdateScheduler.onActivity(namespace, domainUid);
     switch (item.type) {
       case ADDED:
       case MODIFIED:
@@ -1160,7 +1225,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   private class ScheduledStatusUpdater {
     private final String namespace;
     private final String domainUid;
-    private final OncePerMessageLoggingFilter loggingFilter;
+    private final RateLimitedLoggingFilter loggingFilter;
     private int timeoutSeconds;
 
     ScheduledStatusUpdater withTimeoutSeconds(int timeoutSeconds) {
@@ -1168,7 +1233,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
       return this;
     }
 
-    public ScheduledStatusUpdater(String namespace, String domainUid, OncePerMessageLoggingFilter loggingFilter) {
+    public ScheduledStatusUpdater(String namespace, String domainUid, RateLimitedLoggingFilter loggingFilter) {
       this.namespace = namespace;
       this.domainUid = domainUid;
       this.loggingFilter = loggingFilter;
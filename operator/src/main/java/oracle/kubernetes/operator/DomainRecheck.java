@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -6,7 +6,9 @@ package oracle.kubernetes.operator;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -22,22 +24,27 @@ import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.helpers.HealthCheckHelper;
+import oracle.kubernetes.operator.http.metrics.NamespaceStartupMetrics;
 import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
 
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.NAMESPACE_WATCHING_STARTED;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
 import static oracle.kubernetes.operator.logging.ThreadLoggingContext.setThreadContext;
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.FAILED;
 
 class DomainRecheck {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
@@ -209,35 +216,109 @@ class DomainRecheck {
   }
 
   Step createStartNamespacesStep(Collection<String> domainNamespaces) {
-    return RunInParallel.perNamespace(domainNamespaces, this::startNamespaceSteps);
+    return RunInParallel.perNamespace(inStartupOrder(domainNamespaces), this::startNamespaceSteps,
+          TuningParameters.getInstance().getNamespaceStartupConcurrency());
+  }
+
+  // Namespaces containing domains which have failed or are rolling are started first, so that a limit on the number
+  // of namespaces started at once does not delay them. On operator startup no domains are known yet.
+  private List<String> inStartupOrder(Collection<String> namespaces) {
+    return Optional.ofNullable(namespaces)
+          .map(c -> c.stream().sorted(Comparator.comparing(this::hasNoDomainNeedingAttention))
+                .collect(Collectors.toList()))
+          .orElse(null);
+  }
+
+  private boolean hasNoDomainNeedingAttention(String ns) {
+    return Optional.ofNullable(domainProcessor.getDomainPresenceInfoMapForNS(ns))
+          .map(Map::values).orElse(Collections.emptyList()).stream()
+          .map(DomainPresenceInfo::getDomain)
+          .filter(Objects::nonNull)
+          .map(DomainResource::getStatus)
+          .filter(Objects::nonNull)
+          .noneMatch(status -> status.hasConditionWithType(FAILED) || status.isRolling());
   }
 
   private Step startNamespaceSteps(String ns) {
     try (ThreadLoggingContext ignored =
              setThreadContext().namespace(ns)) {
+      final NamespaceStartupTimer timer = new NamespaceStartupTimer(ns);
       return Step.chain(
+          new TimerStep(timer::dispatched),
           createNamespaceReview(ns),
-          new StartNamespaceBeforeStep(ns),
-          domainNamespaces.readExistingResources(ns, domainProcessor));
+          new StartNamespaceBeforeStep(ns, timer),
+          domainNamespaces.readExistingResources(ns, domainProcessor),
+          new TimerStep(timer::completed));
     }
   }
 
   // for testing
   public Step createStartNamespaceBeforeStep(String ns) {
-    return new StartNamespaceBeforeStep(ns);
+    return new StartNamespaceBeforeStep(ns, new NamespaceStartupTimer(ns));
+  }
+
+  /**
+   * Measures how long a namespace waits to be started, and then how long the operator takes to start it. Nothing is
+   * recorded if the namespace turns out to be started already.
+   */
+  private static class NamespaceStartupTimer {
+    private final String ns;
+    private final long scheduledNanos = System.nanoTime();
+    private long dispatchedNanos;
+    private boolean starting;
+
+    NamespaceStartupTimer(String ns) {
+      this.ns = ns;
+    }
+
+    void dispatched() {
+      dispatchedNanos = System.nanoTime();
+    }
+
+    void starting() {
+      starting = true;
+    }
+
+    void completed() {
+      if (starting) {
+        NamespaceStartupMetrics.recordStartup(ns,
+              toSeconds(dispatchedNanos - scheduledNanos), toSeconds(System.nanoTime() - dispatchedNanos));
+      }
+    }
+
+    private double toSeconds(long nanos) {
+      return nanos / 1_000_000_000.0;
+    }
+  }
+
+  private static class TimerStep extends Step {
+    private final Runnable action;
+
+    TimerStep(Runnable action) {
+      this.action = action;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      action.run();
+      return doNext(packet);
+    }
   }
 
   private class StartNamespaceBeforeStep extends Step {
 
     private final String ns;
+    private final NamespaceStartupTimer timer;
 
-    StartNamespaceBeforeStep(String ns) {
+    StartNamespaceBeforeStep(String ns, NamespaceStartupTimer timer) {
       this.ns = ns;
+      this.timer = timer;
     }
 
     @Override
     public NextAction apply(Packet packet) {
       if (domainNamespaces.shouldStartNamespace(ns)) {
+        timer.starting();
         return doNext(addNSWatchingStartingEventsStep(), packet);
       }
       if (fullRecheck) {
@@ -261,20 +342,28 @@ class DomainRecheck {
   /**
    * Given a list of namespace names and a method that creates steps for the namespace,
    * will create the appropriate steps and run them in parallel, waiting for all to complete
-   * before proceeding.
+   * before proceeding. If a maximum concurrency is specified, the namespaces are started in order,
+   * each waiting until fewer than that number are still running.
    */
   static class RunInParallel extends Step {
 
     final Function<String, Step> stepFactory;
     private final Collection<String> domainNamespaces;
+    private final int maxConcurrency;
 
-    RunInParallel(Collection<String> domainNamespaces, Function<String, Step> stepFactory) {
+    RunInParallel(Collection<String> domainNamespaces, Function<String, Step> stepFactory, int maxConcurrency) {
       this.domainNamespaces = domainNamespaces;
       this.stepFactory = stepFactory;
+      this.maxConcurrency = maxConcurrency;
     }
 
     static Step perNamespace(Collection<String> domainNamespaces, Function<String, Step> stepFactory) {
-      return new RunInParallel(domainNamespaces, stepFactory);
+      return perNamespace(domainNamespaces, stepFactory, 0);
+    }
+
+    static Step perNamespace(
+          Collection<String> domainNamespaces, Function<String, Step> stepFactory, int maxConcurrency) {
+      return new RunInParallel(domainNamespaces, stepFactory, maxConcurrency);
     }
 
     @Override
@@ -294,7 +383,7 @@ class DomainRecheck {
             startDetails.add(new StepAndPacket(stepFactory.apply(ns), packet.copy()));
           }
         }
-        return doForkJoin(getNext(), packet, startDetails);
+        return doForkJoin(getNext(), packet, startDetails, maxConcurrency);
       }
     }
   }
@@ -53,7 +53,8 @@ import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_CR
 class DomainResourcesValidation {
   private final String namespace;
   private final DomainProcessor processor;
-  private ClusterList activeClusterResources;
+  private List<ClusterResource> activeClusterResources;
+  private Set<String> listedDomainUids;
   private final Set<String> modifiedClusterNames = new HashSet<>();
   private final Set<String> newClusterNames = new HashSet<>();
   private final Set<String> modifiedDomainNames = new HashSet<>();
@@ -99,6 +100,7 @@ class DomainResourcesValidation {
       @Override
       public void completeProcessing(Packet packet) {
         DomainProcessor dp = Optional.ofNullable(packet.getSpi(DomainProcessor.class)).orElse(processor);
+        Optional.ofNullable(listedDomainUids).ifPresent(DomainResourcesValidation.this::updateDeletedDomainsinDPI);
         getStrandedDomainPresenceInfos(dp).forEach(info -> removeStrandedDomainPresenceInfo(dp, info));
         Optional.ofNullable(activeClusterResources).ifPresent(c -> getActiveDomainPresenceInfos()
             .forEach(info -> adjustClusterResources(c, info)));
@@ -106,6 +108,9 @@ class DomainResourcesValidation {
         getActiveDomainPresenceInfos().forEach(info -> activateDomain(dp, info));
         getDomainPresenceInfoMap().values().forEach(DomainResourcesValidation.this::removeDeletedPodsFromDPI);
         getDomainPresenceInfoMap().values().forEach(DomainPresenceInfo::clearServerPodNamesFromList);
+        if (listedDomainUids != null && activeClusterResources != null) {
+          dp.recordResourcesListed(namespace);
+        }
       }
     };
   }
@@ -122,11 +127,11 @@ class DomainResourcesValidation {
 
   @NotNull
   private List<ClusterResource> getActiveClusterResources() {
-    return Optional.ofNullable(activeClusterResources).map(ClusterList::getItems).orElse(new ArrayList<>());
+    return Optional.ofNullable(activeClusterResources).orElse(new ArrayList<>());
   }
 
-  private void adjustClusterResources(ClusterList clusters, DomainPresenceInfo info) {
-    List<ClusterResource> resources = clusters.getItems().stream()
+  private void adjustClusterResources(List<ClusterResource> clusters, DomainPresenceInfo info) {
+    List<ClusterResource> resources = clusters.stream()
         .filter(c -> isForDomain(c, info)).collect(Collectors.toList());
     info.adjustClusterResources(resources);
   }
@@ -208,15 +213,16 @@ class DomainResourcesValidation {
     }
   }
 
+  // A list may arrive in several pages, so domains missing from it are only recognized once all have been seen.
   private void addDomainList(DomainList list) {
-    getDomainPresenceInfoMap().values().forEach(dpi -> updateDeletedDomainsinDPI(list));
+    if (listedDomainUids == null) {
+      listedDomainUids = new HashSet<>();
+    }
+    list.getItems().stream().map(DomainResource::getDomainUid).forEach(listedDomainUids::add);
     list.getItems().forEach(this::addDomain);
   }
 
-  private void updateDeletedDomainsinDPI(DomainList list) {
-    Collection<String> domainNamesFromList = list.getItems().stream()
-        .map(DomainResource::getDomainUid).collect(Collectors.toList());
-
+  private void updateDeletedDomainsinDPI(Collection<String> domainNamesFromList) {
     getDomainPresenceInfoMap().values().stream()
         .filter(dpi -> !domainNamesFromList.contains(dpi.getDomainUid()))
         .filter(dpi -> isNotBeingProcessed(dpi.getNamespace(), dpi.getDomainUid()))
@@ -239,7 +245,10 @@ class DomainResourcesValidation {
   }
 
   private void addClusterList(ClusterList list) {
-    activeClusterResources = list;
+    if (activeClusterResources == null) {
+      activeClusterResources = new ArrayList<>();
+    }
+    activeClusterResources.addAll(list.getItems());
     list.getItems().forEach(this::addCluster);
   }
 
@@ -16,10 +16,12 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -40,6 +42,7 @@ import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.helpers.LastKnownStatus;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.http.metrics.DomainStatusWriteMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.processing.EffectiveServerSpec;
@@ -77,6 +80,7 @@ import static oracle.kubernetes.common.logging.MessageKeys.PODS_FAILED;
 import static oracle.kubernetes.common.logging.MessageKeys.PODS_NOT_READY;
 import static oracle.kubernetes.common.logging.MessageKeys.PODS_NOT_RUNNING;
 import static oracle.kubernetes.operator.ClusterResourceStatusUpdater.createClusterResourceStatusUpdaterStep;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_CONFLICT;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
 import static oracle.kubernetes.operator.KubernetesConstants.MINIMUM_CLUSTER_COUNT;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
@@ -121,9 +125,20 @@ public class DomainStatusUpdater {
   public static final int SERVER_DISPLAY_LIMIT = 5;
   public static final int CLUSTER_MESSAGE_LIMIT = 2;
 
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static DomainStatusWriteCoalescer writeCoalescer = new DomainStatusWriteCoalescer();
+
   private DomainStatusUpdater() {
   }
 
+  /**
+   * Discards the status write state recorded for a domain which is no longer being managed.
+   * @param info the domain presence info
+   */
+  static void forgetStatusWrites(DomainPresenceInfo info) {
+    writeCoalescer.forget(info.getNamespace(), info.getDomainUid());
+  }
+
   public interface StepWithRetryCount {
     @SuppressWarnings("unused")
     Step forIntrospection(@Nullable V1Job introspectorJob);
@@ -361,24 +376,28 @@ public class DomainStatusUpdater {
     }
 
     // Note: this step is created with no next step, as that is added via a call to Step.chain, later.
-    private ResponseStep<DomainResource> createResponseStep(DomainStatusUpdaterContext context) {
-      return new StatusReplaceResponseStep(this, context, null);
+    private ResponseStep<DomainResource> createResponseStep(DomainStatusUpdaterContext context, DomainStatus status) {
+      return new StatusReplaceResponseStep(this, context, status, null);
     }
   }
 
   static class StatusReplaceResponseStep extends DefaultResponseStep<DomainResource> {
     private final DomainStatusUpdaterStep updaterStep;
     private final DomainStatusUpdaterContext context;
+    private final DomainStatus attemptedStatus;
 
     public StatusReplaceResponseStep(DomainStatusUpdaterStep updaterStep,
-                                     DomainStatusUpdaterContext context, Step nextStep) {
+                                     DomainStatusUpdaterContext context, DomainStatus attemptedStatus, Step nextStep) {
       super(nextStep);
       this.updaterStep = updaterStep;
       this.context = context;
+      this.attemptedStatus = attemptedStatus;
     }
 
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<DomainResource> callResponse) {
+      DomainStatusWriteMetrics.recordWritten();
+      writeCoalescer.recordWrite(context.getInfo());
       if (callResponse.getResult() != null) {
         packet.getSpi(DomainPresenceInfo.class).setDomain(callResponse.getResult());
       }
@@ -387,9 +406,13 @@ public class DomainStatusUpdater {
 
     @Override
     public NextAction onFailure(Packet packet, CallResponse<DomainResource> callResponse) {
+      if (callResponse.getStatusCode() == HTTP_CONFLICT) {
+        DomainStatusWriteMetrics.recordConflicted();
+      }
       if (UnrecoverableErrorBuilder.isAsyncCallUnrecoverableFailure(callResponse)) {
         return super.onFailure(packet, callResponse);
       } else {
+        writeCoalescer.retainFailedChanges(context.getInfo(), attemptedStatus);
         return onFailure(createRetry(context), packet, callResponse);
       }
     }
@@ -407,7 +430,9 @@ public class DomainStatusUpdater {
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<DomainResource> callResponse) {
       if (callResponse.getResult() != null) {
-        packet.getSpi(DomainPresenceInfo.class).setDomain(callResponse.getResult());
+        DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+        info.setDomain(callResponse.getResult());
+        writeCoalescer.reapplyFailedChanges(info);
       }
       return doNext(packet);
     }
@@ -495,14 +520,17 @@ public class DomainStatusUpdater {
       LOGGER.fine(MessageKeys.DOMAIN_STATUS, getDomainUid(), getNewStatus());
       LOGGER.finer("status change: " + createPatchString());
 
-      DomainResource oldDomain = getDomain();
+      final DomainStatus status = getUpdatedStatus();
+      return getCallStep(getDomain(), status, () -> writeCoalescer.createStatusPatch(info, status));
+    }
+
+    private DomainStatus getUpdatedStatus() {
       DomainStatus status = getNewStatus();
       if (isMakeRight) {
         // Only set observedGeneration during a make-right, but not during a background status update
-        status.setObservedGeneration(oldDomain.getMetadata().getGeneration());
+        status.setObservedGeneration(getDomain().getMetadata().getGeneration());
       }
-
-      return getCallStep(oldDomain, status);
+      return status;
     }
 
     Step createDomainStatusObservedGenerationReplaceStep() {
@@ -510,16 +538,26 @@ public class DomainStatusUpdater {
       DomainStatus status = oldDomain.getStatus();
 
       if (isGenerationChanged(oldDomain, status)) {
+        final DomainStatus writtenStatus = new DomainStatus(status);
         // Only set observedGeneration during a make-right, but not during a background status update
         status.setObservedGeneration(getDomainGeneration(oldDomain));
 
-        return getCallStep(oldDomain, status);
+        return getCallStep(oldDomain, status,
+            () -> DomainStatusWriteCoalescer.createMergePatch(oldDomain, writtenStatus, status));
       }
 
       return null;
     }
 
-    private Step getCallStep(DomainResource oldDomain, DomainStatus status) {
+    private Step getCallStep(DomainResource oldDomain, DomainStatus status, Supplier<String> mergePatch) {
+      if (writeCoalescer.isEnabled()) {
+        return new CallBuilder().patchDomainStatusAsync(
+            getDomainName(),
+            getNamespace(),
+            new V1Patch(mergePatch.get()),
+            domainStatusUpdaterStep.createResponseStep(this, status));
+      }
+
       DomainResource newDomain = new DomainResource()
           .withKind(KubernetesConstants.DOMAIN)
           .withApiVersion(KubernetesConstants.API_VERSION_WEBLOGIC_ORACLE)
@@ -531,7 +569,7 @@ public class DomainStatusUpdater {
           getDomainName(),
           getNamespace(),
           newDomain,
-          domainStatusUpdaterStep.createResponseStep(this));
+          domainStatusUpdaterStep.createResponseStep(this, status));
     }
 
     private String createPatchString() {
@@ -542,8 +580,12 @@ public class DomainStatusUpdater {
 
     Step createUpdateSteps(Step next) {
       final List<Step> result = new ArrayList<>();
-      if (!isStatusUnchanged()) {
-        result.add(createDomainStatusReplaceStep());
+      if (!isStatusUnchanged() || hasPendingStatusChanges()) {
+        if (isStatusWriteDeferred()) {
+          writeCoalescer.deferChange(info, getUpdatedStatus());
+        } else {
+          result.add(createDomainStatusReplaceStep());
+        }
       } else {
         if (endOfProcessing && isMakeRight) {
           Optional.ofNullable(createDomainStatusObservedGenerationReplaceStep()).ifPresent(result::add);
@@ -555,6 +597,16 @@ public class DomainStatusUpdater {
     }
 
 
+    private boolean hasPendingStatusChanges() {
+      return getDomain() != null && writeCoalescer.hasPendingChanges(info);
+    }
+
+    // A change is held back only within the coalescing window, and never at the end of a make-right,
+    // so that the final status of each make-right is always written.
+    private boolean isStatusWriteDeferred() {
+      return !endOfProcessing && writeCoalescer.isWithinWindow(info);
+    }
+
     private boolean isGenerationChanged(DomainResource domain, DomainStatus status) {
       return !getDomainGeneration(domain).equals(getObservedGeneration(status));
     }
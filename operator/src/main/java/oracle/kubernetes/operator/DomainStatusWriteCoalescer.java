@@ -0,0 +1,242 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.io.StringReader;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import jakarta.json.Json;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.http.metrics.DomainStatusWriteMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+
+/**
+ * Merges the status changes made to a domain within a configurable window into a single write. After a status
+ * write, further changes within the window are applied only to the in-memory domain; the first write after the
+ * window has passed, or at the end of a make-right, sends all of them as one JSON merge patch computed against
+ * the status last written. The patch carries the resource version of the domain as last written, so that it fails
+ * with a conflict if the domain has since been changed by anyone else; the pending changes are then reapplied to
+ * the domain as read again, and written with its new resource version.
+ */
+class DomainStatusWriteCoalescer {
+
+  private static final JSON json = new JSON();
+
+  private final Map<String, DomainWrites> writes = new ConcurrentHashMap<>();
+
+  /**
+   * Returns true if status writes are to be coalesced.
+   */
+  boolean isEnabled() {
+    return getWindowSeconds() > 0;
+  }
+
+  private int getWindowSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getDomainStatusWriteCoalescingSeconds)
+          .orElse(0);
+  }
+
+  /**
+   * Returns true if a status change for the specified domain should be held back, because its status was last
+   * written within the coalescing window.
+   * @param info the domain presence info
+   */
+  boolean isWithinWindow(DomainPresenceInfo info) {
+    return isEnabled() && Optional.ofNullable(writes.get(toKey(info)))
+          .map(DomainWrites::getLastWriteTime)
+          .map(t -> t.plusSeconds(getWindowSeconds()).isAfter(SystemClock.now()))
+          .orElse(false);
+  }
+
+  /**
+   * Returns true if changes to the status of the specified domain have been applied in memory but not yet written.
+   * @param info the domain presence info
+   */
+  boolean hasPendingChanges(DomainPresenceInfo info) {
+    return Optional.ofNullable(writes.get(toKey(info))).map(DomainWrites::hasPendingChanges).orElse(false);
+  }
+
+  /**
+   * Applies a status change to the in-memory domain, to be included in the next write.
+   * @param info the domain presence info
+   * @param newStatus the updated status
+   */
+  void deferChange(DomainPresenceInfo info, DomainStatus newStatus) {
+    writes.computeIfAbsent(toKey(info), k -> new DomainWrites()).deferChange(info.getDomain(), newStatus);
+    DomainStatusWriteMetrics.recordCoalesced();
+  }
+
+  private static DomainStatus cloneStatus(DomainStatus status) {
+    return Optional.ofNullable(status).map(DomainStatus::new).orElse(new DomainStatus());
+  }
+
+  /**
+   * Creates the JSON merge patch with which to write a new status. The patch is computed against the status
+   * last written if changes are pending, and otherwise against the current status of the in-memory domain, and
+   * requires that the domain still have the resource version it had when that status was read.
+   * @param info the domain presence info
+   * @param newStatus the status to write
+   */
+  @Nonnull
+  String createStatusPatch(DomainPresenceInfo info, @Nonnull DomainStatus newStatus) {
+    return Optional.ofNullable(writes.get(toKey(info)))
+          .map(w -> w.createStatusPatch(info.getDomain(), newStatus))
+          .orElseGet(() -> createMergePatch(info.getDomain(), info.getDomain().getStatus(), newStatus));
+  }
+
+  /**
+   * Records a successful status write, starting a new coalescing window.
+   * @param info the domain presence info
+   */
+  void recordWrite(DomainPresenceInfo info) {
+    if (isEnabled()) {
+      writes.computeIfAbsent(toKey(info), k -> new DomainWrites()).recordWrite(SystemClock.now());
+    }
+  }
+
+  /**
+   * Retains the changes which a failed write attempted, so that they may be reapplied to the domain once it has
+   * been read again.
+   * @param info the domain presence info
+   * @param attemptedStatus the status which the failed write attempted to set
+   */
+  void retainFailedChanges(DomainPresenceInfo info, @Nonnull DomainStatus attemptedStatus) {
+    if (isEnabled()) {
+      writes.computeIfAbsent(toKey(info), k -> new DomainWrites())
+            .retainFailedChanges(info.getDomain(), attemptedStatus);
+    }
+  }
+
+  /**
+   * Applies any changes retained from a failed write to the domain as just read from Kubernetes. Those changes
+   * are then pending, to be written against the status and resource version that was read.
+   * @param info the domain presence info, whose domain has just been read
+   */
+  void reapplyFailedChanges(DomainPresenceInfo info) {
+    Optional.ofNullable(writes.get(toKey(info))).ifPresent(w -> w.reapplyFailedChanges(info.getDomain()));
+  }
+
+  /**
+   * Discards everything recorded for a domain which is no longer being managed.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   */
+  void forget(String namespace, String domainUid) {
+    writes.remove(toKey(namespace, domainUid));
+  }
+
+  /**
+   * Creates a JSON merge patch which changes a domain status from one value to another. Fields which are absent
+   * from the new status are explicitly removed. The patch requires that the domain still have its current
+   * resource version, if any.
+   * @param domain the domain whose status is to be changed
+   * @param oldStatus the status as last written, or null if none
+   * @param newStatus the status to write
+   */
+  @Nonnull
+  static String createMergePatch(DomainResource domain, @Nullable DomainStatus oldStatus,
+                                 @Nonnull DomainStatus newStatus) {
+    return createMergePatch(getResourceVersion(domain), createStatusDiff(oldStatus, newStatus));
+  }
+
+  private static String createMergePatch(@Nullable String resourceVersion, JsonValue statusDiff) {
+    JsonObjectBuilder builder = Json.createObjectBuilder();
+    Optional.ofNullable(resourceVersion)
+          .ifPresent(v -> builder.add("metadata", Json.createObjectBuilder().add("resourceVersion", v)));
+    return builder.add("status", statusDiff).build().toString();
+  }
+
+  private static JsonValue createStatusDiff(@Nullable DomainStatus oldStatus, @Nonnull DomainStatus newStatus) {
+    return Json.createMergeDiff(toJsonValue(oldStatus), toJsonValue(newStatus)).toJsonValue();
+  }
+
+  private static String getResourceVersion(DomainResource domain) {
+    return Optional.ofNullable(domain).map(DomainResource::getMetadata).map(V1ObjectMeta::getResourceVersion)
+          .orElse(null);
+  }
+
+  private static JsonValue toJsonValue(DomainStatus status) {
+    return Optional.ofNullable(status)
+          .map(s -> Json.createReader(new StringReader(json.serialize(s))).readValue())
+          .orElse(JsonValue.EMPTY_JSON_OBJECT);
+  }
+
+  private static DomainStatus fromJsonValue(JsonValue value) {
+    return json.deserialize(value.toString(), DomainStatus.class);
+  }
+
+  private String toKey(DomainPresenceInfo info) {
+    return toKey(info.getNamespace(), info.getDomainUid());
+  }
+
+  private static String toKey(String namespace, String domainUid) {
+    return namespace + '/' + domainUid;
+  }
+
+  // The write state of a single domain, which status updates for the domain may change from different threads.
+  private static class DomainWrites {
+    private OffsetDateTime lastWriteTime;
+    private DomainStatus writtenStatus;
+    private String writtenResourceVersion;
+    private JsonValue failedChanges;
+
+    synchronized OffsetDateTime getLastWriteTime() {
+      return lastWriteTime;
+    }
+
+    synchronized boolean hasPendingChanges() {
+      return writtenStatus != null;
+    }
+
+    synchronized void deferChange(DomainResource domain, DomainStatus newStatus) {
+      if (writtenStatus == null) {
+        writtenStatus = cloneStatus(domain.getStatus());
+        writtenResourceVersion = getResourceVersion(domain);
+      }
+      domain.setStatus(newStatus);
+    }
+
+    synchronized String createStatusPatch(DomainResource domain, DomainStatus newStatus) {
+      if (writtenStatus == null) {
+        return createMergePatch(domain, domain.getStatus(), newStatus);
+      }
+      return createMergePatch(writtenResourceVersion, createStatusDiff(writtenStatus, newStatus));
+    }
+
+    synchronized void recordWrite(OffsetDateTime writeTime) {
+      lastWriteTime = writeTime;
+      writtenStatus = null;
+      writtenResourceVersion = null;
+      failedChanges = null;
+    }
+
+    synchronized void retainFailedChanges(DomainResource domain, DomainStatus attemptedStatus) {
+      failedChanges = createStatusDiff(Optional.ofNullable(writtenStatus).orElse(domain.getStatus()), attemptedStatus);
+      writtenStatus = null;
+      writtenResourceVersion = null;
+    }
+
+    synchronized void reapplyFailedChanges(DomainResource domain) {
+      if (failedChanges != null) {
+        writtenStatus = cloneStatus(domain.getStatus());
+        writtenResourceVersion = getResourceVersion(domain);
+        domain.setStatus(fromJsonValue(Json.createMergePatch(failedChanges).apply(toJsonValue(writtenStatus))));
+        failedChanges = null;
+      }
+    }
+  }
+}
@@ -7,10 +7,8 @@ import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -56,8 +54,8 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job>,
 
   private final String namespace;
 
-  // Map of Job name to Runnable
-  private final Map<String,Consumer<V1Job>> completeCallbackRegistrations = new ConcurrentHashMap<>();
+  // Callbacks by job name
+  private final CallbackRegistry<V1Job> completeCallbackRegistrations = new CallbackRegistry<>();
 
   private JobWatcher(
       String namespace,
@@ -70,7 +68,7 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job>,
   }
 
   private void dispatchCallback(String jobName, V1Job job) {
-    Optional.ofNullable(completeCallbackRegistrations.get(jobName)).ifPresent(callback -> callback.accept(job));
+    completeCallbackRegistrations.dispatch(jobName, job);
   }
 
   @Override
@@ -274,7 +272,7 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job>,
     }
 
     private void addOnModifiedCallback(String jobName, Consumer<V1Job> callback) {
-      completeCallbackRegistrations.put(jobName, callback);
+      completeCallbackRegistrations.add(jobName, callback);
     }
 
     @Override
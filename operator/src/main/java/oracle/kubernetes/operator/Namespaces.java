@@ -112,6 +112,11 @@ public class Namespaces {
     },
     @SerializedName("LabelSelector")
     LABEL_SELECTOR("LabelSelector") {
+      @Override
+      public boolean isClusterScopedWatchSupported() {
+        return true;
+      }
+
       @Override
       public <V> V getSelection(NamespaceStrategyVisitor<V> visitor) {
         return visitor.getLabelSelectorStrategySelection();
@@ -150,6 +155,11 @@ public class Namespaces {
     },
     @SerializedName("RegExp")
     REG_EXP("RegExp") {
+      @Override
+      public boolean isClusterScopedWatchSupported() {
+        return true;
+      }
+
       @Override
       public boolean isDomainNamespace(@Nonnull V1Namespace namespace) {
         try {
@@ -198,6 +208,14 @@ public class Namespaces {
 
     public abstract boolean isDomainNamespace(@Nonnull V1Namespace namespace);
 
+    /**
+     * Returns true if this strategy requires the operator to have cluster-wide access, and may therefore
+     * watch resources across all namespaces.
+     */
+    public boolean isClusterScopedWatchSupported() {
+      return false;
+    }
+
     public @Nullable Collection<String> getConfiguredDomainNamespaces() {
       return null;
     }
@@ -3,17 +3,11 @@
 
 package oracle.kubernetes.operator;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
-import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -51,10 +45,9 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
   private final String namespace;
   private final WatchListener<V1Pod> listener;
 
-  // Map of Pod name to callback. Note that since each pod name can be mapped to multiple callback registrations,
-  // a concurrent map will not suffice; we therefore use an ordinary map and synchronous accesses.
-  private final Map<String, Collection<Consumer<V1Pod>>> modifiedCallbackRegistrations = new HashMap<>();
-  private final Map<String, Collection<Consumer<V1Pod>>> deletedCallbackRegistrations = new HashMap<>();
+  // Callbacks by pod name
+  private final CallbackRegistry<V1Pod> modifiedCallbackRegistrations = new CallbackRegistry<>();
+  private final CallbackRegistry<V1Pod> deletedCallbackRegistrations = new CallbackRegistry<>();
 
   private PodWatcher(
       String namespace,
@@ -91,18 +84,6 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     return watcher;
   }
 
-  private @Nonnull Collection<Consumer<V1Pod>> getOnModifiedCallbacks(String podName) {
-    synchronized (modifiedCallbackRegistrations) {
-      return Optional.ofNullable(modifiedCallbackRegistrations.get(podName)).orElse(Collections.emptyList());
-    }
-  }
-
-  private @Nonnull Collection<Consumer<V1Pod>> getOnDeleteCallbacks(String podName) {
-    synchronized (deletedCallbackRegistrations) {
-      return Optional.ofNullable(deletedCallbackRegistrations.remove(podName)).orElse(Collections.emptyList());
-    }
-  }
-
   @Override
   public Watchable<V1Pod> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
     return watchBuilder
@@ -132,21 +113,16 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     switch (item.type) {
       case "ADDED":
       case "MODIFIED":
-        copyOf(getOnModifiedCallbacks(PodHelper.getPodName(pod))).forEach(c -> c.accept(pod));
+        modifiedCallbackRegistrations.dispatch(PodHelper.getPodName(pod), pod);
         break;
       case "DELETED":
-        getOnDeleteCallbacks(PodHelper.getPodName(pod)).forEach(c -> c.accept(pod));
+        deletedCallbackRegistrations.removeAll(PodHelper.getPodName(pod)).forEach(c -> c.accept(pod));
         break;
       case "ERROR":
       default:
     }
   }
 
-  // make a copy to avoid concurrent modification
-  private <T> Collection<T> copyOf(Collection<T> collection) {
-    return new ArrayList<>(collection);
-  }
-
   /**
    * Waits until the Pod is Ready.
    *
@@ -288,9 +264,7 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     }
 
     private void addOnModifiedCallback(String podName, Consumer<V1Pod> callback) {
-      synchronized (modifiedCallbackRegistrations) {
-        modifiedCallbackRegistrations.computeIfAbsent(podName, k -> new ArrayList<>()).add(callback);
-      }
+      modifiedCallbackRegistrations.add(podName, callback);
     }
 
     @Override
@@ -299,9 +273,7 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     }
 
     private void removeOnModifiedCallback(String podName, Consumer<V1Pod> callback) {
-      synchronized (modifiedCallbackRegistrations) {
-        Optional.ofNullable(modifiedCallbackRegistrations.get(podName)).ifPresent(c -> c.remove(callback));
-      }
+      modifiedCallbackRegistrations.remove(podName, callback);
     }
 
     @Override
@@ -339,9 +311,7 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     }
 
     private void addOnDeleteCallback(String podName, Consumer<V1Pod> callback) {
-      synchronized (deletedCallbackRegistrations) {
-        deletedCallbackRegistrations.computeIfAbsent(podName, k -> new ArrayList<>()).add(callback);
-      }
+      deletedCallbackRegistrations.add(podName, callback);
     }
 
     @Override
@@ -350,9 +320,7 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     }
 
     private void removeOnDeleteCallback(String podName, Consumer<V1Pod> callback) {
-      synchronized (deletedCallbackRegistrations) {
-        Optional.ofNullable(deletedCallbackRegistrations.get(podName)).ifPresent(c -> c.remove(callback));
-      }
+      deletedCallbackRegistrations.remove(podName, callback);
     }
 
     @Override
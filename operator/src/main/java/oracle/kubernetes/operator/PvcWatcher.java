@@ -3,9 +3,7 @@
 
 package oracle.kubernetes.operator;
 
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -29,8 +27,8 @@ public class PvcWatcher implements PvcAwaiterStepFactory {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
-  // Map of Pvc name to Runnable
-  private final Map<String,Consumer<V1PersistentVolumeClaim>> completeCallbackRegistrations = new ConcurrentHashMap<>();
+  // Callbacks by pvc name
+  private final CallbackRegistry<V1PersistentVolumeClaim> completeCallbackRegistrations = new CallbackRegistry<>();
   public final DomainProcessor processor;
 
   PvcWatcher(DomainProcessor processor) {
@@ -102,7 +100,7 @@ public class PvcWatcher implements PvcAwaiterStepFactory {
     }
 
     private void addOnModifiedCallback(String pvcName, Consumer<V1PersistentVolumeClaim> callback) {
-      completeCallbackRegistrations.put(pvcName, callback);
+      completeCallbackRegistrations.add(pvcName, callback);
     }
 
     @Override
@@ -7,11 +7,13 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -26,10 +28,12 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.LastKnownStatus;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.http.metrics.ServerStatusReadMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
 import oracle.kubernetes.operator.steps.ReadHealthStep;
+import oracle.kubernetes.operator.steps.ReadStateStep;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.utils.KubernetesExec;
 import oracle.kubernetes.operator.utils.KubernetesExecFactory;
@@ -53,6 +57,12 @@ public class ServerStatusReader {
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static Function<Step, Step> stepFactory = ReadHealthStep::createReadHealthStep;
 
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static BiFunction<String, Step, Step> stateStepFactory = ReadStateStep::createReadStateStep;
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static Function<Step, Step> domainStepFactory = ReadHealthStep::createReadDomainHealthStep;
+
   @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit test
   private static KubernetesExecFactory execFactory = new KubernetesExecFactoryImpl();
 
@@ -88,19 +98,51 @@ public class ServerStatusReader {
     public NextAction apply(Packet packet) {
       packet.put(SERVER_STATE_MAP, new ConcurrentHashMap<String, String>());
       packet.put(SERVER_HEALTH_MAP, new ConcurrentHashMap<String, ServerHealth>());
+      packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ,
+          new AtomicInteger((int) info.getServerPods().count()));
+      ServerStatusReadMetrics.recordStatusRead();
 
-      AtomicInteger remainingServerHealthToRead = new AtomicInteger();
-      packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, remainingServerHealthToRead);
+      Step serverStatusReaderStep = new ServerStatusReaderForkStep(info, timeoutSeconds, getNext());
+      if (isBulkReadPossible()) {
+        return doNext(domainStepFactory.apply(serverStatusReaderStep), packet);
+      } else {
+        return doNext(serverStatusReaderStep, packet);
+      }
+    }
 
+    private boolean isBulkReadPossible() {
+      return TuningParameters.getInstance().isBulkServerStatusRead()
+          && Optional.ofNullable(info.getAdminServerName()).map(info::getServerPod).map(PodHelper::hasReadyStatus)
+              .orElse(false);
+    }
+  }
+
+  /**
+   * Reads the state and health of each server whose health has not already been recorded,
+   * typically by a bulk read from the administration server.
+   */
+  private static class ServerStatusReaderForkStep extends Step {
+    private final DomainPresenceInfo info;
+    private final long timeoutSeconds;
+
+    ServerStatusReaderForkStep(DomainPresenceInfo info, long timeoutSeconds, Step next) {
+      super(next);
+      this.info = info;
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      final Map<String, ServerHealth> serverHealthMap = packet.getValue(SERVER_HEALTH_MAP);
       Collection<StepAndPacket> startDetails =
           info.getServerPods()
+              .filter(pod -> !serverHealthMap.containsKey(PodHelper.getPodServerName(pod)))
               .map(pod -> createStatusReaderStep(packet, pod))
               .collect(Collectors.toList());
 
       if (startDetails.isEmpty()) {
         return doNext(packet);
       } else {
-        remainingServerHealthToRead.set(startDetails.size());
         return doForkJoin(getNext(), packet, startDetails);
       }
     }
@@ -161,9 +203,46 @@ public class ServerStatusReader {
         return doNext(packet);
       }
 
+      Step readStateWithExecStep = new ReadStateWithExecStep(serverName, timeoutSeconds, getNext());
+      if (TuningParameters.getInstance().isHttpServerStateRead()) {
+        return doNext(stateStepFactory.apply(serverName, readStateWithExecStep), packet);
+      } else {
+        return doNext(readStateWithExecStep, packet);
+      }
+    }
+  }
+
+  /**
+   * Reads the state of a server by running a script in its pod, unless the state has already been recorded.
+   */
+  private static class ReadStateWithExecStep extends Step {
+    private final String serverName;
+    private final long timeoutSeconds;
+
+    ReadStateWithExecStep(String serverName, long timeoutSeconds, Step next) {
+      super(next);
+      this.serverName = serverName;
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      @SuppressWarnings("unchecked")
+      final ConcurrentMap<String, String> serverStateMap =
+          (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
+      if (serverStateMap.containsKey(serverName)) {
+        return doNext(packet);
+      }
+
+      final DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      final LastKnownStatus lastKnownStatus = info.getLastKnownServerStatus(serverName);
+      final V1Pod currentPod = info.getServerPod(serverName);
+
       final boolean stdin = false;
       final boolean tty = false;
 
+      ServerStatusReadMetrics.recordServerExecRead();
+
       return doSuspend(
           fiber -> {
             Process proc = null;
@@ -0,0 +1,214 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+
+import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+
+/**
+ * Schedules the periodic status updates of all domains on a single shared timer, using a hashed timing wheel.
+ * Each second, the wheel advances one slot and runs the updates of the domains due in that slot.
+ *
+ * <p>A domain is checked at the initial short delay until it has been checked the configured number of times
+ * without any activity being reported for it, after which it is checked only at the eventual long delay.
+ * Reporting activity with {@link #onActivity(String, String)}, typically on a watch event for one of its
+ * resources, returns the domain to the short delay.
+ */
+class StatusUpdateScheduler {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  static final int WHEEL_SIZE = 64;
+  private static final long TICK_SECONDS = 1;
+
+  /** The operation used to start the timer which advances the wheel. */
+  interface Timer {
+    ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit);
+  }
+
+  private final Timer timer;
+  private final BiPredicate<String, String> isDomainPresent;
+  private final List<Set<Entry>> wheel = new ArrayList<>(WHEEL_SIZE);
+  private final Map<String, Entry> entries = new HashMap<>();
+  private ScheduledFuture<?> ticker;
+  private int cursor;
+
+  /**
+   * Creates a scheduler.
+   * @param timer the timer used to advance the wheel
+   * @param isDomainPresent a test for whether the domain with a namespace and UID is still present; entries for
+   *                        domains which are no longer present are discarded when they become due.
+   */
+  StatusUpdateScheduler(Timer timer, BiPredicate<String, String> isDomainPresent) {
+    this.timer = timer;
+    this.isDomainPresent = isDomainPresent;
+    for (int i = 0; i < WHEEL_SIZE; i++) {
+      wheel.add(new HashSet<>());
+    }
+  }
+
+  /**
+   * Schedules periodic updates for a domain at the initial short delay, replacing any already scheduled.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   * @param update the update to run
+   */
+  synchronized void schedule(String namespace, String domainUid, Runnable update) {
+    Optional.ofNullable(entries.remove(toKey(namespace, domainUid))).ifPresent(this::removeFromWheel);
+
+    Entry entry = new Entry(namespace, domainUid, update);
+    entries.put(entry.getKey(), entry);
+    place(entry, getInitialShortDelay());
+    ensureTicking();
+  }
+
+  /**
+   * Ends periodic updates for a domain.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   */
+  synchronized void cancel(String namespace, String domainUid) {
+    Optional.ofNullable(entries.remove(toKey(namespace, domainUid))).ifPresent(this::removeFromWheel);
+    if (entries.isEmpty()) {
+      stopTicking();
+    }
+  }
+
+  /**
+   * Reports activity for a domain, returning it to the initial short delay. If its next update is due later than
+   * that delay, it is moved earlier.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   */
+  synchronized void onActivity(String namespace, String domainUid) {
+    Optional.ofNullable(entries.get(toKey(namespace, domainUid))).ifPresent(this::resetCadence);
+  }
+
+  private void resetCadence(Entry entry) {
+    entry.quietChecks = 0;
+    if (entry.getTicksUntilDue(cursor) > getInitialShortDelay()) {
+      removeFromWheel(entry);
+      place(entry, getInitialShortDelay());
+    }
+  }
+
+  /**
+   * Returns the number of domains whose updates are scheduled.
+   */
+  synchronized int getNumScheduled() {
+    return entries.size();
+  }
+
+  /**
+   * Advances the wheel one slot and runs the updates which are then due.
+   */
+  void tick() {
+    for (Entry entry : advance()) {
+      try {
+        entry.update.run();
+      } catch (Exception e) {
+        LOGGER.severe(MessageKeys.EXCEPTION, e);
+      }
+    }
+  }
+
+  private synchronized List<Entry> advance() {
+    cursor = (cursor + 1) % WHEEL_SIZE;
+    List<Entry> due = new ArrayList<>();
+    for (Entry entry : new ArrayList<>(wheel.get(cursor))) {
+      if (entry.rounds > 0) {
+        entry.rounds--;
+      } else {
+        wheel.get(cursor).remove(entry);
+        if (isDomainPresent.test(entry.namespace, entry.domainUid)) {
+          due.add(entry);
+          entry.quietChecks++;
+          place(entry, getNextDelay(entry));
+        } else {
+          entries.remove(entry.getKey());
+        }
+      }
+    }
+    if (entries.isEmpty()) {
+      stopTicking();
+    }
+    return due;
+  }
+
+  private int getNextDelay(Entry entry) {
+    return entry.quietChecks < getTuningParameters().getUnchangedCountToDelayStatusRecheck()
+          ? getInitialShortDelay()
+          : getTuningParameters().getEventualLongDelay();
+  }
+
+  private void place(Entry entry, int delaySeconds) {
+    int ticks = Math.max(1, (int) (delaySeconds / TICK_SECONDS));
+    entry.slot = (cursor + ticks) % WHEEL_SIZE;
+    entry.rounds = (ticks - 1) / WHEEL_SIZE;
+    wheel.get(entry.slot).add(entry);
+  }
+
+  private void removeFromWheel(Entry entry) {
+    wheel.get(entry.slot).remove(entry);
+  }
+
+  private void ensureTicking() {
+    if (ticker == null) {
+      ticker = timer.scheduleWithFixedDelay(this::tick, TICK_SECONDS, TICK_SECONDS, TimeUnit.SECONDS);
+    }
+  }
+
+  private void stopTicking() {
+    Optional.ofNullable(ticker).ifPresent(t -> t.cancel(false));
+    ticker = null;
+  }
+
+  private int getInitialShortDelay() {
+    return getTuningParameters().getInitialShortDelay();
+  }
+
+  private TuningParameters getTuningParameters() {
+    return TuningParameters.getInstance();
+  }
+
+  private static String toKey(String namespace, String domainUid) {
+    return namespace + '/' + domainUid;
+  }
+
+  private static class Entry {
+    private final String namespace;
+    private final String domainUid;
+    private final Runnable update;
+    private int slot;
+    private int rounds;
+    private int quietChecks;
+
+    Entry(String namespace, String domainUid, Runnable update) {
+      this.namespace = namespace;
+      this.domainUid = domainUid;
+      this.update = update;
+    }
+
+    String getKey() {
+      return toKey(namespace, domainUid);
+    }
+
+    int getTicksUntilDue(int cursor) {
+      return (slot - cursor - 1 + WHEEL_SIZE) % WHEEL_SIZE + 1 + rounds * WHEEL_SIZE;
+    }
+  }
+}
@@ -1,19 +1,27 @@
-// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
-import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.PodHelper;
@@ -21,6 +29,8 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.watcher.ResourceInformer;
+import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -31,64 +41,190 @@ import static oracle.kubernetes.common.logging.MessageKeys.POD_FORCE_DELETED;
 /**
  * Under certain circumstances, when a Kubernetes node goes down, it may mark its pods as terminating, but never
  * actually remove them. This code detects such cases, deletes the pods and triggers the necessary make-right flows.
+ *
+ * <p>Pod watch events are used to keep an index of the operator-created pods which are being deleted, ordered by
+ * the time by which each should be gone. A timer is set for the earliest of those times, so that a pod which is
+ * still present when its time comes is deleted then, without listing the pods in each namespace.
  */
-public class StuckPodProcessing {
+public class StuckPodProcessing implements WatchListener<V1Pod> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private final MainDelegate mainDelegate;
+  private final PriorityQueue<DeletionDeadline> deadlines
+        = new PriorityQueue<>(Comparator.comparing(DeletionDeadline::getTime));
+  private final Map<String, DeletionDeadline> deadlinesByPod = new HashMap<>();
+  private ScheduledFuture<?> timer;
+  private OffsetDateTime timerTime;
 
   public StuckPodProcessing(MainDelegate mainDelegate) {
     this.mainDelegate = mainDelegate;
   }
 
+  @Override
+  public void receivedResponse(Watch.Response<V1Pod> item) {
+    switch (item.type) {
+      case "ADDED":
+      case "MODIFIED":
+        recordPod(item.object);
+        break;
+      case "DELETED":
+        forgetPod(getKey(item.object));
+        break;
+      default:
+    }
+  }
+
+  /**
+   * Brings the deletion deadlines for a namespace up to date with the pods known to the pod informer, and deletes
+   * any pods already past their deadlines. This covers the pods which were listed, rather than reported by
+   * watch events, when the namespace was started.
+   * @param namespace the namespace to check
+   */
   void checkStuckPods(String namespace) {
-    Step step = new CallBuilder()
-          .withLabelSelectors(LabelConstants.getCreatedByOperatorSelector())
-          .listPodAsync(namespace, new PodListProcessing(namespace, SystemClock.now()));
-    mainDelegate.runSteps(OperatorMain.createPacketWithLoggingContext(namespace), step, null);
+    getPodInformer().getResources(namespace).forEach(this::recordPod);
+    deleteStuckPods();
   }
 
-  @SuppressWarnings("unchecked")
-  private List<V1Pod> getStuckPodList(Packet packet) {
-    return (List<V1Pod>) packet.computeIfAbsent("STUCK_PODS", k -> new ArrayList<>());
+  private ResourceInformer<V1Pod> getPodInformer() {
+    return mainDelegate.getDomainNamespaces().getPodInformer();
   }
 
-  class PodListProcessing extends DefaultResponseStep<V1PodList> {
+  private void recordPod(V1Pod pod) {
+    if (isDeletingOperatorPod(pod)) {
+      addDeadline(new DeletionDeadline(pod));
+    } else {
+      forgetPod(getKey(pod));
+    }
+  }
+
+  private boolean isDeletingOperatorPod(V1Pod pod) {
+    return pod != null && isCreatedByOperator(pod) && getMetadata(pod).getDeletionTimestamp() != null;
+  }
 
-    private final OffsetDateTime now;
+  private boolean isCreatedByOperator(V1Pod pod) {
+    return Optional.ofNullable(getMetadata(pod).getLabels())
+          .map(l -> l.get(LabelConstants.CREATEDBYOPERATOR_LABEL))
+          .map(Boolean::parseBoolean)
+          .orElse(false);
+  }
 
-    public PodListProcessing(String namespace, OffsetDateTime dateTime) {
-      super(new PodActionsStep(namespace));
-      now = dateTime;
+  private static V1ObjectMeta getMetadata(V1Pod pod) {
+    return Objects.requireNonNull(pod.getMetadata());
+  }
+
+  private static String getKey(V1Pod pod) {
+    return getKey(getMetadata(pod).getNamespace(), getMetadata(pod).getName());
+  }
+
+  private static String getKey(String namespace, String name) {
+    return namespace + "/" + name;
+  }
+
+  private synchronized void addDeadline(DeletionDeadline deadline) {
+    final DeletionDeadline existing = deadlinesByPod.get(deadline.key);
+    if (existing == null || !existing.time.equals(deadline.time)) {
+      deadlinesByPod.put(deadline.key, deadline);
+      deadlines.add(deadline);
+      scheduleTimer();
     }
+  }
 
-    @Override
-    public NextAction onSuccess(Packet packet, CallResponse<V1PodList> callResponse) {
-      callResponse.getResult().getItems().stream()
-            .filter(pod -> isStuck(pod, now))
-            .forEach(pod -> addStuckPodToPacket(packet, pod));
-      
-      return doContinueListOrNext(callResponse, packet);
+  // A forgotten deadline stays in the queue until it reaches the head, where it is discarded.
+  private synchronized void forgetPod(String key) {
+    deadlinesByPod.remove(key);
+  }
+
+  private DeletionDeadline getEarliestDeadline() {
+    while (!deadlines.isEmpty() && deadlinesByPod.get(deadlines.peek().key) != deadlines.peek()) {
+      deadlines.poll();
+    }
+    return deadlines.peek();
+  }
+
+  private void scheduleTimer() {
+    final DeletionDeadline earliest = getEarliestDeadline();
+    if (earliest == null || (timer != null && !timerTime.isAfter(earliest.time))) {
+      return;
+    }
+
+    Optional.ofNullable(timer).ifPresent(t -> t.cancel(false));
+    timerTime = earliest.time;
+    timer = mainDelegate.schedule(this::onTimer, getDelayMillis(earliest.time), TimeUnit.MILLISECONDS);
+  }
+
+  private long getDelayMillis(OffsetDateTime time) {
+    return Math.max(0, Duration.between(SystemClock.now(), time).toMillis());
+  }
+
+  private void onTimer() {
+    synchronized (this) {
+      timer = null;
     }
+    deleteStuckPods();
+  }
+
+  private void deleteStuckPods() {
+    getDueDeadlines().stream()
+          .map(this::getCurrentPod)
+          .filter(Objects::nonNull)
+          .collect(Collectors.groupingBy(pod -> getMetadata(pod).getNamespace()))
+          .forEach(this::deletePods);
+  }
 
-    private boolean isStuck(V1Pod pod, OffsetDateTime now)  {
-      return getExpectedDeleteTime(pod).isBefore(now);
+  private synchronized List<DeletionDeadline> getDueDeadlines() {
+    final OffsetDateTime now = SystemClock.now();
+    final List<DeletionDeadline> due = new ArrayList<>();
+    for (DeletionDeadline earliest = getEarliestDeadline();
+         earliest != null && !earliest.time.isAfter(now);
+         earliest = getEarliestDeadline()) {
+      due.add(deadlines.poll());
+      deadlinesByPod.remove(earliest.key);
     }
+    scheduleTimer();
+    return due;
+  }
+
+  // Returns the pod as last reported, if it is still being deleted.
+  private V1Pod getCurrentPod(DeletionDeadline deadline) {
+    return Optional.ofNullable(getPodInformer().getResource(deadline.namespace, deadline.name))
+          .filter(this::isDeletingOperatorPod)
+          .orElse(null);
+  }
+
+  private void deletePods(String namespace, List<V1Pod> stuckPods) {
+    final Packet packet = OperatorMain.createPacketWithLoggingContext(namespace);
+    getStuckPodList(packet).addAll(stuckPods);
+    mainDelegate.runSteps(packet, new PodActionsStep(namespace), null);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<V1Pod> getStuckPodList(Packet packet) {
+    return (List<V1Pod>) packet.computeIfAbsent("STUCK_PODS", k -> new ArrayList<>());
+  }
+
+  static class DeletionDeadline {
+    private final String key;
+    private final String namespace;
+    private final String name;
+    private final OffsetDateTime time;
 
-    private OffsetDateTime getExpectedDeleteTime(V1Pod pod) {
-      return getDeletionTimeStamp(pod).plusSeconds((int) getDeletionGracePeriodSeconds(pod));
+    DeletionDeadline(V1Pod pod) {
+      namespace = getMetadata(pod).getNamespace();
+      name = getMetadata(pod).getName();
+      key = getKey(namespace, name);
+      time = getExpectedDeleteTime(pod);
     }
 
-    private long getDeletionGracePeriodSeconds(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
+    OffsetDateTime getTime() {
+      return time;
     }
 
-    private OffsetDateTime getDeletionTimeStamp(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).orElse(SystemClock.now());
+    private static OffsetDateTime getExpectedDeleteTime(V1Pod pod) {
+      return getMetadata(pod).getDeletionTimestamp().plusSeconds(getDeletionGracePeriodSeconds(pod));
     }
 
-    private void addStuckPodToPacket(Packet packet, V1Pod stuckPod) {
-      getStuckPodList(packet).add(stuckPod);
+    private static long getDeletionGracePeriodSeconds(V1Pod pod) {
+      return Optional.ofNullable(getMetadata(pod).getDeletionGracePeriodSeconds()).orElse(1L);
     }
   }
 
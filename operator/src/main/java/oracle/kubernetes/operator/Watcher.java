@@ -1,15 +1,18 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Status;
@@ -32,6 +35,7 @@ import static oracle.kubernetes.operator.KubernetesConstants.HTTP_GONE;
  */
 abstract class Watcher<T> {
   static final String HAS_NEXT_EXCEPTION_MESSAGE = "IO Exception during hasNext method.";
+  static final int MAX_HELD_EVENTS = 1000;
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String IGNORED = "0";
   private static final Pattern RESOURCE_VERSION_PATTERN = Pattern.compile("\\((\\d+)\\)");
@@ -42,12 +46,23 @@ abstract class Watcher<T> {
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can set it
   private static WatcherStarter starter = Watcher::startAsynchronousWatch;
 
-  private String resourceVersion;
+  private volatile String resourceVersion;
   private final AtomicBoolean stopping;
   private WatchListener<T> listener;
   private Thread thread = null;
   private long lastInitialize = 0;
 
+  // set when a cluster-scoped watch should restart from the current state of the resources it watches
+  private final AtomicBoolean relistRequested = new AtomicBoolean(false);
+  private volatile Watchable<T> currentWatch;
+
+  // the events received from a cluster-scoped watch while this watcher awaits a list of its namespace
+  private final List<Watch.Response<T>> heldEvents = new ArrayList<>();
+  private boolean demultiplexed;
+  private boolean awaitingList;
+  private boolean heldEventsDiscarded;
+  private Runnable relistAction;
+
   /**
    * Constructs a watcher without specifying a listener. Needed when the listener is the watch
    * subclass itself.
@@ -95,7 +110,7 @@ abstract class Watcher<T> {
     return resourceVersion;
   }
 
-  Watcher<T> withResourceVersion(String resourceVersion) {
+  synchronized Watcher<T> withResourceVersion(String resourceVersion) {
     this.resourceVersion = resourceVersion;
     return this;
   }
@@ -109,9 +124,103 @@ abstract class Watcher<T> {
     this.listener = listener;
   }
 
-  /** Kick off the watcher processing that runs in a separate thread. */
+  /**
+   * Sets the action to run if this watcher has to discard events which it received from a cluster-scoped watch.
+   *
+   * @param relistAction an action which causes the cluster-scoped watch to report its resources again
+   */
+  Watcher<T> withRelistAction(Runnable relistAction) {
+    this.relistAction = relistAction;
+    return this;
+  }
+
+  /**
+   * Kick off the watcher processing that runs in a separate thread. If no thread factory is specified,
+   * the watcher does not open a watch of its own; instead, it receives events from a cluster-scoped watcher
+   * via {@link #receiveDemultiplexed(Watch.Response)}, holding them until it is resumed after a list of its
+   * namespace.
+   */
   void start(ThreadFactory factory) {
-    thread = starter.startWatcher(factory, this::doWatch);
+    if (factory != null) {
+      thread = starter.startWatcher(factory, this::doWatch);
+    } else {
+      startDemultiplexed();
+    }
+  }
+
+  private synchronized void startDemultiplexed() {
+    demultiplexed = true;
+    awaitList();
+  }
+
+  /**
+   * Processes an event received by a cluster-scoped watch for this watcher's namespace. While the watcher awaits
+   * a list of its namespace, the event is held, to be replayed when the watcher is resumed. No more than
+   * {@link #MAX_HELD_EVENTS} events are held; if more are received, all are discarded, and the cluster-scoped watch
+   * is asked to report its resources again once the watcher is resumed.
+   * @param item the watch response
+   */
+  synchronized void receiveDemultiplexed(Watch.Response<T> item) {
+    if (isError(item)) {
+      return;
+    }
+
+    if (!awaitingList) {
+      handleRegularUpdate(item);
+    } else if (heldEventsDiscarded) {
+      return;
+    } else if (heldEvents.size() < MAX_HELD_EVENTS) {
+      heldEvents.add(item);
+    } else {
+      heldEvents.clear();
+      heldEventsDiscarded = true;
+    }
+  }
+
+  // The events already received were delivered before the list was requested, so the list reflects them. Only
+  // those received from now on need be replayed.
+  private synchronized void awaitList() {
+    if (demultiplexed) {
+      awaitingList = true;
+      heldEvents.clear();
+      heldEventsDiscarded = false;
+    }
+  }
+
+  // Resource versions are opaque, so the held events are not compared with the list. Some of them may already be
+  // reflected in it; replaying them in the order received still leaves the latest state of each resource.
+  private synchronized void replayHeldEvents() {
+    if (demultiplexed) {
+      awaitingList = false;
+      heldEvents.forEach(this::handleRegularUpdate);
+      heldEvents.clear();
+      if (heldEventsDiscarded) {
+        heldEventsDiscarded = false;
+        Optional.ofNullable(relistAction).ifPresent(Runnable::run);
+      }
+    }
+  }
+
+  /**
+   * Restarts the watch from the current state of the watched resources, which it reports as additions. Used to
+   * restart a cluster-scoped watch when a namespace had to discard the events it received while awaiting a list.
+   */
+  void relist() {
+    relistRequested.set(true);
+    Optional.ofNullable(currentWatch).ifPresent(this::closeWatch);
+  }
+
+  // for test
+  boolean isRelistRequested() {
+    return relistRequested.get();
+  }
+
+  private void closeWatch(Watchable<T> watch) {
+    try {
+      watch.close();
+    } catch (Exception e) {
+      LOGGER.finer(MessageKeys.EXCEPTION, e);
+    }
   }
 
   public static Thread startAsynchronousWatch(ThreadFactory factory, Runnable doWatch) {
@@ -150,11 +259,13 @@ abstract class Watcher<T> {
   // Set the stopping state to true to pause watches.
   protected void pause() {
     this.stopping.set(true);
+    awaitList();
   }
 
-  // Set the stopping state to false to resume watches.
+  // Set the stopping state to false to resume watches, and replay any events held while paused.
   protected void resume() {
     this.stopping.set(false);
+    replayHeldEvents();
   }
 
   private void watchForEvents() {
@@ -171,21 +282,25 @@ abstract class Watcher<T> {
     } else {
       lastInitialize = now;
     }
+    if (relistRequested.getAndSet(false)) {
+      resourceVersion = IGNORED;
+    }
     try (Watchable<T> watch =
         initiateWatch(
             new WatchBuilder()
                 .withResourceVersion(resourceVersion)
                 .withTimeoutSeconds(getWatchLifetime()))) {
-      while (hasNext(watch)) {
+      currentWatch = watch;
+      while (!relistRequested.get() && hasNext(watch)) {
         Watch.Response<T> item = watch.next();
 
         setIsDraining(isStopping());
-        if (isDraining()) {
+        if (isDraining() || relistRequested.get()) {
           continue;
         }
 
-        try (ThreadLoggingContext ignored =
-                 ThreadLoggingContext.setThreadContext().namespace(getNamespace()).domainUid(getDomainUid(item))) {
+        try (ThreadLoggingContext ignored = ThreadLoggingContext.setThreadContext()
+                 .namespace(getLoggingNamespace(item)).domainUid(getDomainUid(item))) {
           if (isError(item)) {
             handleErrorResponse(item);
           } else {
@@ -198,6 +313,19 @@ abstract class Watcher<T> {
     }
   }
 
+  private String getLoggingNamespace(Watch.Response<T> item) {
+    return Optional.ofNullable(getNamespace()).orElseGet(() -> getResourceNamespace(item.object));
+  }
+
+  private String getResourceNamespace(T object) {
+    return Optional.ofNullable(object)
+          .filter(KubernetesObject.class::isInstance)
+          .map(KubernetesObject.class::cast)
+          .map(KubernetesObject::getMetadata)
+          .map(V1ObjectMeta::getNamespace)
+          .orElse(null);
+  }
+
   private int getWatchLifetime() {
     return tuning.getWatchLifetime();
   }
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.builders;
@@ -45,7 +45,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track service calls.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -56,7 +56,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track pod disruption budgets.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -68,7 +68,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track pods.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -80,7 +80,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track jobs.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -121,7 +121,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track config map calls.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -218,6 +218,22 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listServiceForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
+
         return new CoreV1Api(client)
             .listNamespacedServiceCall(
                 namespace,
@@ -255,6 +271,22 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listPodForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
+
         return new CoreV1Api(client)
             .listNamespacedPodCall(
                 namespace,
@@ -287,6 +319,22 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new BatchV1Api(client)
+              .listJobForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
+
         return new BatchV1Api(client)
             .listNamespacedJobCall(
                 namespace,
@@ -351,6 +399,22 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new PolicyV1Api(client)
+              .listPodDisruptionBudgetForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
+
         return new PolicyV1Api(client)
             .listNamespacedPodDisruptionBudgetCall(
                 namespace,
@@ -443,6 +507,22 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listConfigMapForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
+
         return new CoreV1Api(client)
             .listNamespacedConfigMapCall(
                 namespace,
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.calls;
@@ -59,6 +59,9 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
   private static final int MAX = 10000;
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static RequestScheduler scheduler = new RequestScheduler();
+
   private final Pool<ApiClient> helper;
   private final RequestParams requestParams;
   private final CallFactory<T> factory;
@@ -170,18 +173,20 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     final RetryStrategy retryStrategy;
     final String cont;
     final AtomicBoolean didResume = new AtomicBoolean(false);
-    final ApiClient client;
+    final boolean scheduled = RequestScheduler.isEnabled();
+    ApiClient client;
 
     public AsyncRequestStepProcessing(Packet packet, RetryStrategy retry, String cont) {
       this.packet = packet;
       retryStrategy = Optional.ofNullable(retry)
             .orElse(new DefaultRetryStrategy(maxRetryCount, AsyncRequestStep.this, AsyncRequestStep.this));
       this.cont = Optional.ofNullable(cont).orElse(null);
-      client = helper.take();
     }
 
-    // Create a call to Kubernetes that we can cancel if it doesn't succeed in time.
+    // Create a call to Kubernetes that we can cancel if it doesn't succeed in time. The client is only taken
+    // from the pool now, so that none is held by a request which the scheduler drops without sending.
     private CancellableCall createCall(AsyncFiber fiber) throws ApiException {
+      client = helper.take();
       return factory.generate(requestParams, client, cont, new ApiCallbackImpl(this, fiber));
     }
 
@@ -193,6 +198,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
         }
 
         helper.recycle(client);
+        releaseRequestSlot();
         addResponseComponent(Component.createFor(
             createSuccess(requestParams, result, statusCode).withResponseHeaders(responseHeaders)));
         fiber.resume(packet);
@@ -212,6 +218,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
         } else {
           helper.recycle(client);
         }
+        releaseRequestSlot();
 
         addResponseComponent(Component.createFor(
               RetryStrategy.class, retryStrategy,
@@ -227,6 +234,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
         try {
           cc.cancel();
         } finally {
+          releaseRequestSlot();
           if (LOGGER.isFinerEnabled()) {
             logTimeout();
           }
@@ -236,14 +244,33 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
       }
     }
 
+    // The scheduler held the request for longer than the timeout without sending it. So prepare to try again;
+    // no request slot was acquired, so there is none to release.
+    private void handleExpiredHold(AsyncFiber fiber) {
+      if (firstTimeResumed()) {
+        if (LOGGER.isFinerEnabled()) {
+          logTimeout();
+        }
+        addResponseComponent(Component.createFor(RetryStrategy.class, retryStrategy));
+        fiber.resume(packet);
+      }
+    }
+
     // A throwable occurred while attempting to set up the call. So prepare to try again.
     private void resumeAfterThrowable(AsyncFiber fiber) {
       if (firstTimeResumed()) {
+        releaseRequestSlot();
         addResponseComponent(Component.createFor(RetryStrategy.class, retryStrategy));
         fiber.resume(packet);
       }
     }
 
+    private void releaseRequestSlot() {
+      if (scheduled) {
+        scheduler.release(requestParams);
+      }
+    }
+
     private void addResponseComponent(Component component) {
       packet.getComponents().put(RESPONSE_COMPONENT_NAME, component);
     }
@@ -354,19 +381,26 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     }
 
     AsyncRequestStepProcessing processing = new AsyncRequestStepProcessing(packet, retry, cont);
-    return doSuspend(
-        fiber -> {
-          try {
-            CancellableCall cc = processing.createCall(fiber);
-            scheduleTimeoutCheck(fiber, timeoutSeconds, () -> processing.handleTimeout(fiber, cc));
-          } catch (ApiException t) {
-            logAsyncFailure(t, t.getResponseBody());
-            processing.resumeAfterThrowable(fiber);
-          } catch (Throwable t) {
-            logAsyncFailure(t, "");
-            processing.resumeAfterThrowable(fiber);
-          }
-        });
+    if (!processing.scheduled) {
+      return doSuspend(fiber -> sendRequest(processing, fiber));
+    }
+    return doSuspend(fiber -> scheduler.submit(requestParams, fiber, timeoutSeconds,
+          () -> sendRequest(processing, fiber), () -> processing.handleExpiredHold(fiber)));
+  }
+
+  // Sends the request, once the scheduler permits if it is in use. The timeout is measured from that point, so that
+  // time spent waiting behind other requests does not count against it.
+  private void sendRequest(AsyncRequestStepProcessing processing, AsyncFiber fiber) {
+    try {
+      CancellableCall cc = processing.createCall(fiber);
+      scheduleTimeoutCheck(fiber, timeoutSeconds, () -> processing.handleTimeout(fiber, cc));
+    } catch (ApiException t) {
+      logAsyncFailure(t, t.getResponseBody());
+      processing.resumeAfterThrowable(fiber);
+    } catch (Throwable t) {
+      logAsyncFailure(t, "");
+      processing.resumeAfterThrowable(fiber);
+    }
   }
 
   // Schedule the timeout check to happen on the fiber at some number of seconds in the future.
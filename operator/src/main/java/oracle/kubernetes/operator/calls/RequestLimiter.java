@@ -0,0 +1,80 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import oracle.kubernetes.operator.http.metrics.KubernetesClientMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+
+/**
+ * Limits the number of asynchronous requests with each verb which may be in flight at once. The limiter only
+ * counts requests; holding back those which may not yet be sent is left to the {@link RequestScheduler}.
+ */
+class RequestLimiter {
+
+  private final Map<String, VerbLimit> limits = new ConcurrentHashMap<>();
+
+  /**
+   * Returns true if the limit for the specified verb permits another request to be sent.
+   * @param verb the request verb
+   */
+  boolean hasCapacity(String verb) {
+    return getLimit(verb).hasCapacity();
+  }
+
+  /**
+   * Records that a request with the specified verb has been sent. Each such request must later be reported
+   * with {@link #release(String)}.
+   * @param verb the request verb
+   */
+  void acquire(String verb) {
+    getLimit(verb).acquire();
+  }
+
+  /**
+   * Records that a request with the specified verb has completed.
+   * @param verb the request verb
+   */
+  void release(String verb) {
+    getLimit(verb).release();
+  }
+
+  int getNumInFlight(String verb) {
+    return getLimit(verb).getNumInFlight();
+  }
+
+  private VerbLimit getLimit(String verb) {
+    return limits.computeIfAbsent(verb, VerbLimit::new);
+  }
+
+  private static class VerbLimit {
+    private final String verb;
+    private int inFlight;
+
+    VerbLimit(String verb) {
+      this.verb = verb;
+    }
+
+    synchronized boolean hasCapacity() {
+      int limit = TuningParameters.getInstance().getKubernetesMaxInFlightRequestsPerVerb();
+      return limit <= 0 || inFlight < limit;
+    }
+
+    synchronized void acquire() {
+      inFlight++;
+      KubernetesClientMetrics.recordInFlight(verb, inFlight);
+    }
+
+    synchronized void release() {
+      inFlight = Math.max(0, inFlight - 1);
+      KubernetesClientMetrics.recordInFlight(verb, inFlight);
+    }
+
+    synchronized int getNumInFlight() {
+      return inFlight;
+    }
+  }
+}
@@ -124,6 +124,14 @@ public final class RequestParams {
     throw new RuntimeException(call + " is not a valid call name");
   }
 
+  /**
+   * Returns the verb of the call, such as 'list' or 'patch', without any resource type or subresource.
+   */
+  @Nonnull
+  public String getVerb() {
+    return call.substring(0, indexOfFirstCapitalInCallName());
+  }
+
   @Nonnull
   public String getOperationName() {
     return call.substring(0, indexOfFirstCapitalInCallName()) + getCallSuffix();
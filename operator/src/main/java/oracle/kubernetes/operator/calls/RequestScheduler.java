@@ -0,0 +1,360 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.http.metrics.KubernetesClientMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.ThreadFactorySingleton;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Decides when each asynchronous Kubernetes request may be sent. Requests are held in flows, one for each
+ * combination of domain (or namespace, for requests not made on behalf of a domain) and call class. Whenever a
+ * request may be sent, the call classes take turns in proportion to their weights, so that writes, such as status
+ * patches, pod deletions and events, are not delayed behind bulk lists; within a class, the flows take turns, so
+ * that one busy domain cannot starve the others. A request is sent only if the per-verb in-flight limit and the
+ * configured request rate both permit. A request is held no longer than its call timeout, and is dropped if the
+ * fiber waiting for it is cancelled first.
+ *
+ * <p>The scheduler is only used when a per-verb in-flight limit or a request rate is configured; otherwise,
+ * requests are sent as soon as they are made.
+ */
+class RequestScheduler {
+
+  /** The classes of call, with the relative share of sending opportunities each receives under contention. */
+  enum CallClass {
+    WRITE(4),
+    READ(2),
+    LIST(1);
+
+    private final int weight;
+
+    CallClass(int weight) {
+      this.weight = weight;
+    }
+
+    static CallClass forVerb(String verb) {
+      switch (verb) {
+        case "list":
+          return LIST;
+        case "read":
+        case "get":
+          return READ;
+        default:
+          return WRITE;
+      }
+    }
+  }
+
+  private final RequestLimiter limiter;
+  private final ScheduledExecutorService timer;
+  private final Map<CallClass, ClassQueue> classQueues = new EnumMap<>(CallClass.class);
+  private final Map<String, Integer> numWaitingByVerb = new HashMap<>();
+  private final RateLimit rateLimit = new RateLimit();
+  private boolean dispatchScheduled;
+
+  RequestScheduler() {
+    this(new RequestLimiter(), Executors.newSingleThreadScheduledExecutor(ThreadFactorySingleton.getInstance()));
+  }
+
+  RequestScheduler(RequestLimiter limiter, ScheduledExecutorService timer) {
+    this.limiter = limiter;
+    this.timer = timer;
+    for (CallClass callClass : CallClass.values()) {
+      classQueues.put(callClass, new ClassQueue(callClass));
+    }
+  }
+
+  /**
+   * Returns true if requests should be passed to the scheduler, which is the case only when a per-verb in-flight
+   * limit or a request rate is configured.
+   */
+  static boolean isEnabled() {
+    TuningParameters tuningParameters = TuningParameters.getInstance();
+    return tuningParameters.getKubernetesMaxInFlightRequestsPerVerb() > 0
+          || tuningParameters.getKubernetesRequestQps() > 0;
+  }
+
+  /**
+   * Holds a request until it may be sent, which may be immediately. Each request which is sent must later be
+   * reported with {@link #release(RequestParams)}.
+   * @param requestParams the parameters of the request
+   * @param fiber the fiber which is waiting for the request, used to expire the request if it is held too long
+   * @param timeoutSeconds the longest time, in seconds, to hold the request; if not positive, the request is held
+   *                       until it may be sent
+   * @param request the operation which sends the request
+   * @param onExpired the operation to run, instead of sending the request, if it is held for too long
+   */
+  void submit(RequestParams requestParams, AsyncFiber fiber, int timeoutSeconds, Runnable request, Runnable onExpired) {
+    HeldRequest heldRequest = new HeldRequest(requestParams, fiber, request);
+    synchronized (this) {
+      classQueues.get(heldRequest.callClass).add(heldRequest);
+      updateNumWaiting(heldRequest.verb, 1);
+    }
+    if (timeoutSeconds > 0) {
+      fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, () -> expire(heldRequest, onExpired));
+    }
+    dispatch();
+  }
+
+  // Gives up on a request which is still held when its timeout expires.
+  private void expire(HeldRequest heldRequest, Runnable onExpired) {
+    if (removeHeldRequest(heldRequest)) {
+      onExpired.run();
+    }
+  }
+
+  private synchronized boolean removeHeldRequest(HeldRequest heldRequest) {
+    if (!classQueues.get(heldRequest.callClass).remove(heldRequest)) {
+      return false;
+    }
+    updateNumWaiting(heldRequest.verb, -1);
+    return true;
+  }
+
+  /**
+   * Reports that a request has completed, and sends any held requests which may now be sent.
+   * @param requestParams the parameters of the completed request
+   */
+  void release(RequestParams requestParams) {
+    limiter.release(requestParams.getVerb());
+    dispatch();
+  }
+
+  // Selects requests while holding the lock, but sends them after releasing it, as sending a request may
+  // complete it immediately and so re-enter the scheduler.
+  private void dispatch() {
+    selectRequests().forEach(HeldRequest::send);
+  }
+
+  private synchronized List<HeldRequest> selectRequests() {
+    List<HeldRequest> selected = new ArrayList<>();
+    while (hasWaitingRequests() && rateLimit.permitsRequest()) {
+      HeldRequest next = selectNext();
+      if (next == null) {
+        break;
+      }
+      updateNumWaiting(next.verb, -1);
+      if (next.fiber.isCancelled()) {
+        continue;
+      }
+      rateLimit.recordRequest();
+      limiter.acquire(next.verb);
+      selected.add(next);
+    }
+
+    if (hasWaitingRequests() && !rateLimit.permitsRequest()) {
+      scheduleDispatch();
+    }
+    return selected;
+  }
+
+  private boolean hasWaitingRequests() {
+    return classQueues.values().stream().anyMatch(ClassQueue::hasRequests);
+  }
+
+  // Chooses among the classes with a request which may be sent, using smooth weighted round-robin.
+  private HeldRequest selectNext() {
+    ClassQueue chosen = null;
+    int totalWeight = 0;
+    for (ClassQueue classQueue : classQueues.values()) {
+      if (classQueue.hasSendableRequest()) {
+        classQueue.currentWeight += classQueue.callClass.weight;
+        totalWeight += classQueue.callClass.weight;
+        if (chosen == null || classQueue.currentWeight > chosen.currentWeight) {
+          chosen = classQueue;
+        }
+      }
+    }
+
+    if (chosen == null) {
+      return null;
+    }
+    chosen.currentWeight -= totalWeight;
+    return chosen.pollSendableRequest();
+  }
+
+  private void scheduleDispatch() {
+    if (!dispatchScheduled) {
+      dispatchScheduled = true;
+      KubernetesClientMetrics.recordThrottled();
+      timer.schedule(this::onDelay, rateLimit.getMillisUntilPermitted(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void onDelay() {
+    synchronized (this) {
+      dispatchScheduled = false;
+    }
+    dispatch();
+  }
+
+  private void updateNumWaiting(String verb, int change) {
+    int numWaiting = numWaitingByVerb.merge(verb, change, Integer::sum);
+    KubernetesClientMetrics.recordWaiting(verb, numWaiting);
+  }
+
+  synchronized int getNumWaiting(String verb) {
+    return numWaitingByVerb.getOrDefault(verb, 0);
+  }
+
+  int getNumInFlight(String verb) {
+    return limiter.getNumInFlight(verb);
+  }
+
+  private static String toFlowKey(RequestParams requestParams) {
+    return Optional.ofNullable(requestParams.namespace).orElse("")
+          + Optional.ofNullable(requestParams.domainUid).map(uid -> '/' + uid).orElse("");
+  }
+
+  // The flows of a single call class, which take turns in the order in which they became active.
+  private class ClassQueue {
+    private final CallClass callClass;
+    private final Map<String, Deque<HeldRequest>> flows = new HashMap<>();
+    private final Deque<String> activeFlows = new ArrayDeque<>();
+    private int currentWeight;
+
+    ClassQueue(CallClass callClass) {
+      this.callClass = callClass;
+    }
+
+    void add(HeldRequest request) {
+      flows.computeIfAbsent(request.flowKey, this::activate).add(request);
+    }
+
+    boolean remove(HeldRequest request) {
+      Deque<HeldRequest> flow = flows.get(request.flowKey);
+      if (flow == null || !flow.remove(request)) {
+        return false;
+      }
+      if (flow.isEmpty()) {
+        flows.remove(request.flowKey);
+        activeFlows.remove(request.flowKey);
+      }
+      return true;
+    }
+
+    private Deque<HeldRequest> activate(String flowKey) {
+      activeFlows.add(flowKey);
+      return new ArrayDeque<>();
+    }
+
+    boolean hasRequests() {
+      return !activeFlows.isEmpty();
+    }
+
+    boolean hasSendableRequest() {
+      return activeFlows.stream().map(flows::get).anyMatch(this::canSendFirst);
+    }
+
+    private boolean canSendFirst(Deque<HeldRequest> flow) {
+      return limiter.hasCapacity(flow.getFirst().verb);
+    }
+
+    // Takes the first request from the first flow which may send, and moves that flow to the back of the line.
+    HeldRequest pollSendableRequest() {
+      Iterator<String> iterator = activeFlows.iterator();
+      while (iterator.hasNext()) {
+        String flowKey = iterator.next();
+        Deque<HeldRequest> flow = flows.get(flowKey);
+        if (canSendFirst(flow)) {
+          iterator.remove();
+          HeldRequest request = flow.removeFirst();
+          if (flow.isEmpty()) {
+            flows.remove(flowKey);
+          } else {
+            activeFlows.add(flowKey);
+          }
+          return request;
+        }
+      }
+      return null;
+    }
+  }
+
+  // A token bucket which refills at the configured request rate, up to the configured burst.
+  private static class RateLimit {
+    private double tokens;
+    private OffsetDateTime lastRefill;
+
+    boolean permitsRequest() {
+      if (getQps() <= 0) {
+        return true;
+      }
+      refill();
+      return tokens >= 1;
+    }
+
+    void recordRequest() {
+      if (getQps() > 0) {
+        tokens--;
+      }
+    }
+
+    long getMillisUntilPermitted() {
+      return (long) Math.ceil((1 - tokens) * TimeUnit.SECONDS.toMillis(1) / getQps());
+    }
+
+    private void refill() {
+      OffsetDateTime now = SystemClock.now();
+      if (lastRefill == null) {
+        tokens = getBurst();
+      } else {
+        double elapsedSeconds = (double) Duration.between(lastRefill, now).toNanos() / TimeUnit.SECONDS.toNanos(1);
+        tokens = Math.min(getBurst(), tokens + elapsedSeconds * getQps());
+      }
+      lastRefill = now;
+    }
+
+    private int getQps() {
+      return TuningParameters.getInstance().getKubernetesRequestQps();
+    }
+
+    private int getBurst() {
+      return Math.max(1, TuningParameters.getInstance().getKubernetesRequestBurst());
+    }
+  }
+
+  private static class HeldRequest {
+    private final String verb;
+    private final CallClass callClass;
+    private final String flowKey;
+    private final AsyncFiber fiber;
+    private final Runnable request;
+    private final long heldAt = System.nanoTime();
+
+    HeldRequest(RequestParams requestParams, AsyncFiber fiber, Runnable request) {
+      this.verb = requestParams.getVerb();
+      this.callClass = CallClass.forVerb(verb);
+      this.flowKey = toFlowKey(requestParams);
+      this.fiber = fiber;
+      this.request = request;
+    }
+
+    void send() {
+      KubernetesClientMetrics.recordQueueWait(verb, getSecondsWaited());
+      request.run();
+    }
+
+    private double getSecondsWaited() {
+      return (double) (System.nanoTime() - heldAt) / TimeUnit.SECONDS.toNanos(1);
+    }
+  }
+}
@@ -1,8 +1,17 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -12,7 +21,10 @@ import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.util.Yaml;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.serializer.NumberAnchorGenerator;
 
 /** Annotates pods, services with details about the Domain instance and checks these annotations. */
 public class AnnotationHelper {
@@ -25,8 +37,12 @@ public class AnnotationHelper {
   private static final boolean DEBUG = false;
   private static final String HASHED_STRING = "hashedString";
 
+  // Building a SnakeYAML instance configured for the Kubernetes model is costly, and an instance may not be shared
+  // between threads, so each thread keeps its own, one for each kind of object hashed.
+  private static final ThreadLocal<Map<Class<?>, YamlDumper>> yamlDumpers = ThreadLocal.withInitial(HashMap::new);
+
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
-  private static Function<Object, String> hashFunction = o -> DigestUtils.sha256Hex(Yaml.dump(o));
+  private static Function<Object, String> hashFunction = AnnotationHelper::computeSha256Hash;
 
   /**
    * Marks metadata with annotations that let Prometheus know how to retrieve metrics from the
@@ -75,6 +91,31 @@ public class AnnotationHelper {
     return hashFunction.apply(objectToHash);
   }
 
+  /**
+   * Returns the SHA-256 hash of the YAML form of the specified object, as a hex string. The YAML is written directly
+   * into the digest rather than built as a string, but the result is the same as for
+   * {@code DigestUtils.sha256Hex(Yaml.dump(objectToHash))}, so hashes recorded in existing annotations remain valid.
+   * @param objectToHash the object to hash
+   */
+  static String computeSha256Hash(Object objectToHash) {
+    MessageDigest digest = DigestUtils.getSha256Digest();
+    try (Writer writer = createDigestWriter(digest)) {
+      getYamlDumper(objectToHash.getClass()).dump(objectToHash, writer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return Hex.encodeHexString(digest.digest());
+  }
+
+  private static Writer createDigestWriter(MessageDigest digest) {
+    return new OutputStreamWriter(
+          new DigestOutputStream(OutputStream.nullOutputStream(), digest), StandardCharsets.UTF_8);
+  }
+
+  private static YamlDumper getYamlDumper(Class<?> objectClass) {
+    return yamlDumpers.get().computeIfAbsent(objectClass, YamlDumper::new);
+  }
+
   static String getHash(KubernetesObject kubernetesObject) {
     return getAnnotation(kubernetesObject.getMetadata(), AnnotationHelper::getSha256Annotation);
   }
@@ -98,4 +139,22 @@ public class AnnotationHelper {
   private static String getSha256Annotation(Map<String, String> annotations) {
     return annotations.get(SHA256_ANNOTATION);
   }
-}
\ No newline at end of file
+
+  // Writes objects as YAML exactly as Yaml.dump does, but reuses the underlying SnakeYAML instance.
+  private static class YamlDumper {
+    private final DumperOptions options = new DumperOptions();
+    private final org.yaml.snakeyaml.Yaml yaml;
+
+    YamlDumper(Class<?> objectClass) {
+      options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);  // as set by the Kubernetes representer
+      yaml = Yaml.getSnakeYaml(objectClass, options, null);
+    }
+
+    void dump(Object object, Writer writer) {
+      // Anchors mark objects which appear more than once. Their numbering must restart for each dump,
+      // or hashing the same object twice would produce different YAML.
+      options.setAnchorGenerator(new NumberAnchorGenerator(0));
+      yaml.dump(object, writer);
+    }
+  }
+}
@@ -1,15 +1,21 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1TokenReview;
 import io.kubernetes.client.openapi.models.V1TokenReviewSpec;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.http.metrics.ReviewCacheMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import org.apache.commons.codec.digest.DigestUtils;
 
 /** Delegate authentication decisions to Kubernetes. */
 public class AuthenticationProxy {
@@ -17,6 +23,17 @@ public class AuthenticationProxy {
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static AuthorizationProxy authorizationProxy = new AuthorizationProxy();
 
+  // Caches the results of token reviews, identifying tokens by their hashes.
+  private static final ReviewCache<List<String>, V1TokenReviewStatus> tokenReviews
+        = new ReviewCache<>(ReviewCacheMetrics.TOKEN_REVIEW, AuthenticationProxy::isAuthenticated);
+
+  /**
+   * Discards the results of all past token reviews.
+   */
+  static void clearCachedReviews() {
+    tokenReviews.clear();
+  }
+
   /**
    * Check if the specified access token can be authenticated.
    *
@@ -27,6 +44,12 @@ public class AuthenticationProxy {
    *     explaining why the user couldn't be authenticated
    */
   public V1TokenReviewStatus check(String principal, String token, String namespace) {
+    return tokenReviews.computeIfAbsent(
+          Arrays.asList(principal, Optional.ofNullable(token).map(DigestUtils::sha256Hex).orElse(null), namespace),
+          () -> performTokenReview(principal, token, namespace));
+  }
+
+  private V1TokenReviewStatus performTokenReview(String principal, String token, String namespace) {
 
     LOGGER.entering(principal); // Don't expose the token since it's a credential
 
@@ -56,6 +79,10 @@ public class AuthenticationProxy {
     return status;
   }
 
+  private static boolean isAuthenticated(V1TokenReviewStatus status) {
+    return Boolean.TRUE.equals(status.getAuthenticated()) && status.getError() == null;
+  }
+
   private V1TokenReview prepareTokenReview(String token) {
     return new V1TokenReview().spec(new V1TokenReviewSpec().token(token));
   }
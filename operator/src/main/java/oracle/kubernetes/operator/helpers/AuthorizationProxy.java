@@ -1,8 +1,9 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.Arrays;
 import java.util.List;
 
 import io.kubernetes.client.openapi.ApiException;
@@ -14,6 +15,7 @@ import io.kubernetes.client.openapi.models.V1SubjectAccessReview;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReviewSpec;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReviewStatus;
 import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.http.metrics.ReviewCacheMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 
@@ -21,6 +23,17 @@ import oracle.kubernetes.operator.logging.LoggingFactory;
 public class AuthorizationProxy {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  // Caches the results of subject access reviews.
+  private static final ReviewCache<List<Object>, Boolean> subjectAccessReviews
+        = new ReviewCache<>(ReviewCacheMetrics.SUBJECT_ACCESS_REVIEW, Boolean.TRUE::equals);
+
+  /**
+   * Discards the results of all past subject access reviews.
+   */
+  static void clearCachedReviews() {
+    subjectAccessReviews.clear();
+  }
+
   /**
    * Check if the specified principal is allowed to perform the specified operation on the specified
    * resource in the specified scope. Call this version of the method when you know that the
@@ -67,6 +80,22 @@ public class AuthorizationProxy {
       String resourceName,
       Scope scope,
       String namespaceName) {
+    return Boolean.TRUE.equals(subjectAccessReviews.computeIfAbsent(
+          Arrays.asList(principal, groups, operation, resource, resourceName, scope, namespaceName),
+          () -> performSubjectAccessReview(
+              principal, groups, operation, resource, resourceName, scope, namespaceName)));
+  }
+
+  // Returns null if the review fails, so that its result is not cached.
+
+  private Boolean performSubjectAccessReview(
+      String principal,
+      final List<String> groups,
+      Operation operation,
+      Resource resource,
+      String resourceName,
+      Scope scope,
+      String namespaceName) {
     LOGGER.entering();
     V1SubjectAccessReview subjectAccessReview =
         prepareSubjectAccessReview(
@@ -75,8 +104,8 @@ public class AuthorizationProxy {
       subjectAccessReview = new CallBuilder().createSubjectAccessReview(subjectAccessReview);
     } catch (ApiException e) {
       LOGGER.severe(MessageKeys.APIEXCEPTION_FROM_SUBJECT_ACCESS_REVIEW, e);
-      LOGGER.exiting(Boolean.FALSE);
-      return Boolean.FALSE;
+      LOGGER.exiting(null);
+      return null;
     }
     V1SubjectAccessReviewStatus subjectAccessReviewStatus = subjectAccessReview.getStatus();
     Boolean result = subjectAccessReviewStatus.getAllowed();
@@ -149,6 +149,15 @@ public class CallBuilder {
                   requestParams.namespace,
                   (DomainResource) requestParams.body,
                   callback));
+  private final CallFactory<DomainResource> patchDomainStatus =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              patchDomainStatusAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Patch) requestParams.body,
+                  callback));
   private final CallFactory<V1CustomResourceDefinition> createCrd =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -1109,6 +1118,30 @@ public class CallBuilder {
         replaceDomainStatus);
   }
 
+  private Call patchDomainStatusAsync(
+      ApiClient client, String name, String namespace, V1Patch patch, ApiCallback<DomainResource> callback)
+      throws ApiException {
+    return new WeblogicApi(client)
+        .mergePatchNamespacedDomainStatusAsync(name, namespace, patch, callback);
+  }
+
+  /**
+   * Asynchronous step for applying a JSON merge patch to domain status.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param patchBody the merge patch to apply
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchDomainStatusAsync(
+      String name, String namespace, V1Patch patchBody, ResponseStep<DomainResource> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("patchDomainStatus", namespace, name, patchBody, name),
+        patchDomainStatus);
+  }
+
   /* CRD's */
 
   private Call readCustomResourceDefinitionAsync(
@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
@@ -16,11 +17,15 @@ import io.kubernetes.client.monitoring.Monitoring;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.Configuration;
 import io.kubernetes.client.util.ClientBuilder;
+import okhttp3.ConnectionPool;
 import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.http.metrics.KubernetesClientMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.work.Container;
 import oracle.kubernetes.operator.work.ContainerResolver;
 
@@ -33,7 +38,7 @@ public class ClientPool extends Pool<ApiClient> {
   private static ThreadFactory threadFactory;
   private final AtomicBoolean isFirst = new AtomicBoolean(true);
 
-  // With OKHttp3, each client has its own connection pool, so instance will be shared
+  // With OKHttp3, each client has its own connection pool and dispatcher, so instance will be shared
   private final AtomicReference<ApiClient> instance = new AtomicReference<>();
 
   public static void initialize(ThreadFactory threadFactory) {
@@ -92,6 +97,26 @@ public class ClientPool extends Pool<ApiClient> {
     return this;
   }
 
+  /**
+   * Applies the tuning parameters for the dispatcher and connection pool to an HTTP client. All requests share
+   * the client's pool, in which HTTP/2 connections to the API server multiplex concurrent requests as streams.
+   * @param builder a builder for the client
+   * @param dispatcher the dispatcher to be tuned and used by the client
+   * @return the builder
+   */
+  static OkHttpClient.Builder configureHttpClient(OkHttpClient.Builder builder, Dispatcher dispatcher) {
+    TuningParameters tuning = TuningParameters.getInstance();
+    dispatcher.setMaxRequests(tuning.getKubernetesClientMaxRequests());
+    dispatcher.setMaxRequestsPerHost(tuning.getKubernetesClientMaxRequestsPerHost());
+
+    return builder
+        .dispatcher(dispatcher)
+        .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+        .connectionPool(new ConnectionPool(tuning.getKubernetesClientMaxIdleConnections(),
+            tuning.getKubernetesClientKeepAliveSeconds(), TimeUnit.SECONDS))
+        .pingInterval(tuning.getKubernetesClientPingIntervalSeconds(), TimeUnit.SECONDS);
+  }
+
   private static class DefaultClientFactory implements ClientFactory {
     private final AtomicBoolean first = new AtomicBoolean(true);
 
@@ -115,6 +140,8 @@ public class ClientPool extends Pool<ApiClient> {
           Configuration.setDefaultApiClient(client);
         }
 
+        OkHttpClient.Builder builder = client.getHttpClient().newBuilder();
+        Dispatcher dispatcher = new Dispatcher();
         if (threadFactory != null) {
           ExecutorService exec =
               new ThreadPoolExecutor(
@@ -129,13 +156,13 @@ public class ClientPool extends Pool<ApiClient> {
                   super.execute(wrapRunnable(command));
                 }
               };
-          OkHttpClient httpClient =
-              client.getHttpClient().newBuilder().addInterceptor(new HeaderModifierInterceptor())
-                  .dispatcher(new Dispatcher(exec)).build();
-          client.setHttpClient(httpClient);
+          builder.addInterceptor(new HeaderModifierInterceptor());
+          dispatcher = new Dispatcher(exec);
         }
+        client.setHttpClient(configureHttpClient(builder, dispatcher).build());
 
         Monitoring.installMetrics(client);
+        KubernetesClientMetrics.monitor(client.getHttpClient());
 
         return client;
       } catch (IOException e) {
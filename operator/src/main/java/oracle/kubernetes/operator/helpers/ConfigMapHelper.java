@@ -76,6 +76,9 @@ public class ConfigMapHelper {
 
   private static final FileGroupReader scriptReader = new FileGroupReader(SCRIPT_LOCATION);
 
+  // The scripts are the same for every namespace, so they are read and hashed once, on first use.
+  private static ScriptBundle scriptBundle;
+
   private ConfigMapHelper() {
   }
 
@@ -121,7 +124,7 @@ public class ConfigMapHelper {
       String line = reader.readLine();
       while (line != null) {
         if (line.startsWith(">>>") && line.endsWith("EOF")) {
-          map.put(fileName, stringBuilder.toString().trim());
+          map.put(fileName, trimmed(stringBuilder));
           return;
         } else {
           // add line to StringBuilder
@@ -135,6 +138,19 @@ public class ConfigMapHelper {
     }
   }
 
+  // Equivalent to builder.toString().trim(), but copies the contents only once.
+  private static String trimmed(StringBuilder builder) {
+    int start = 0;
+    int end = builder.length();
+    while (start < end && builder.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && builder.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    return builder.substring(start, end);
+  }
+
   static String extractFilename(String line) {
     int lastSlash = line.lastIndexOf('/');
     return line.substring(lastSlash + 1);
@@ -189,25 +205,65 @@ public class ConfigMapHelper {
   }
 
   static class ScriptConfigMapContext extends ConfigMapContext {
+    private final ScriptBundle bundle;
+
     ScriptConfigMapContext(Step conflictStep, String domainNamespace, SemanticVersion productVersion) {
       super(conflictStep, SCRIPT_CONFIG_MAP_NAME, domainNamespace,
-          loadScriptsFromClasspath(domainNamespace), null, productVersion);
+          new HashMap<>(loadScriptsFromClasspath(domainNamespace)), null, productVersion);
+      bundle = getScriptBundle();
 
       addLabel(LabelConstants.OPERATORNAME_LABEL, getOperatorNamespace());
     }
 
+    // Uses the hash computed when the scripts were loaded, unless the data is not the loaded scripts.
+    @Override
+    V1ConfigMap withContentsHash(V1ConfigMap configMap, Map<String, String> data) {
+      if (!bundle.scripts.equals(data)) {
+        return super.withContentsHash(configMap, data);
+      }
+      configMap.getMetadata().putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, bundle.hash);
+      return configMap;
+    }
+
     @Override
     void recordCurrentMap(Packet packet, V1ConfigMap configMap) {
       packet.put(ProcessingConstants.SCRIPT_CONFIG_MAP, configMap);
     }
   }
 
-  static synchronized Map<String, String> loadScriptsFromClasspath(String domainNamespace) {
-    Map<String, String> scripts = scriptReader.loadFilesFromClasspath();
+  /**
+   * Returns the scripts to be placed in the script config map of the specified namespace.
+   * @param domainNamespace the namespace
+   * @return an unmodifiable map of script names to their contents
+   */
+  static Map<String, String> loadScriptsFromClasspath(String domainNamespace) {
+    Map<String, String> scripts = getScriptBundle().scripts;
     LOGGER.finer(MessageKeys.SCRIPT_LOADED, domainNamespace);
     return scripts;
   }
 
+  private static synchronized ScriptBundle getScriptBundle() {
+    if (scriptBundle == null) {
+      scriptBundle = new ScriptBundle(scriptReader.loadFilesFromClasspath());
+    }
+    return scriptBundle;
+  }
+
+  /**
+   * The scripts for the script config map, with the hash recorded in its annotation. The hash is computed
+   * directly, rather than by the replaceable hash function, so that it never depends on which code first
+   * needed the scripts.
+   */
+  private static class ScriptBundle {
+    private final Map<String, String> scripts;
+    private final String hash;
+
+    ScriptBundle(Map<String, String> scripts) {
+      this.scripts = Collections.unmodifiableMap(scripts);
+      this.hash = AnnotationHelper.computeSha256Hash(this.scripts);
+    }
+  }
+
   abstract static class ConfigMapContext extends StepContextBase {
     private final Map<String, String> contents;
     private final Step conflictStep;
@@ -260,10 +316,20 @@ public class ConfigMapHelper {
     }
 
     protected final V1ConfigMap createModel(Map<String, String> data) {
-      return AnnotationHelper.withSha256Hash(
+      return withContentsHash(
           new V1ConfigMap().kind("ConfigMap").apiVersion("v1").metadata(createMetadata()).data(data), data);
     }
 
+    /**
+     * Records the hash of the config map data in its annotation.
+     * @param configMap the config map
+     * @param data the data in the map
+     * @return the config map
+     */
+    V1ConfigMap withContentsHash(V1ConfigMap configMap, Map<String, String> data) {
+      return AnnotationHelper.withSha256Hash(configMap, data);
+    }
+
     private V1ObjectMeta createMetadata() {
       V1ObjectMeta metadata = updateForOwnerReference(
           new V1ObjectMeta()
@@ -533,9 +599,11 @@ public class ConfigMapHelper {
       Optional.ofNullable(data.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML))
               .map(t -> data.put(IntrospectorConfigMapConstants.TOPOLOGY_JSON, convertToJson(t)));
 
-      LOGGER.fine("================");
-      LOGGER.fine(data.toString());
-      LOGGER.fine("================");
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine("================");
+        LOGGER.fine(data.toString());
+        LOGGER.fine("================");
+      }
 
       wlsDomainConfig = Optional.ofNullable(data.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML))
             .map(this::getDomainTopology)
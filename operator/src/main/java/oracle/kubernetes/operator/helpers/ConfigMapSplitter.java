@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -96,7 +96,8 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
 
   static class DataEntry implements Comparable<DataEntry> {
     private final String key;
-    private String value;
+    private final String value;
+    private int numCharsAdded;
 
     public DataEntry(Map.Entry<String, String> mapEntry) {
       key = mapEntry.getKey();
@@ -104,21 +105,22 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
     }
 
     /**
-     * Adds to the specified map, as much of this entry as will fit, removing it from the string
-     * still to be added. Returns the number of characters added.
+     * Adds to the specified map, as much of this entry as will fit, starting after any characters
+     * already added. Returns the number of characters added. An entry which fits entirely in a single map
+     * is added without copying it; for a larger one, only the characters added to each map are copied.
      * @param map the map to update
      * @param limit the maximum number of characters to add
      */
     int addToMap(Map<String, String> map, int limit) {
-      final int numCharsAdded = Math.min(limit, value.length());
-      map.put(key, value.substring(0, numCharsAdded));
-      value = value.substring(numCharsAdded);
+      final int start = numCharsAdded;
+      numCharsAdded += Math.min(limit, getRemainingLength());
+      map.put(key, value.substring(start, numCharsAdded));
 
-      return numCharsAdded;
+      return numCharsAdded - start;
     }
 
     private int getRemainingLength() {
-      return value.length();
+      return value.length() - numCharsAdded;
     }
 
     @Override
@@ -79,7 +79,6 @@ public class JobHelper {
   private static final int JOB_DELETE_TIMEOUT_SECONDS = 1;
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   public static final String INTROSPECTOR_LOG_PREFIX = "Introspector Job Log: ";
-  private static final String EOL_PATTERN = "\\r?\\n";
 
   private JobHelper() {
   }
@@ -513,7 +512,9 @@ public class JobHelper {
 
     private static class ReadPodLogResponseStep extends ResponseStep<String> {
       public static final String INTROSPECTION_FAILED = "INTROSPECTION_FAILED";
+      private static final String FILE_SECTION_MARKER = ">>>";
       private StringBuilder logMessage = new StringBuilder();
+      private boolean inFileSection;
       private final List<String> severeStatuses = new ArrayList<>();
 
       ReadPodLogResponseStep(Step nextStep) {
@@ -554,7 +555,9 @@ public class JobHelper {
       }
 
       private void processIntrospectionResult(Packet packet, String result) {
-        LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result);
+        if (LOGGER.isFineEnabled()) {
+          LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result);
+        }
         convertJobLogsToOperatorLogs(result);
         packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, result);
         MakeRightDomainOperation.recordInspection(packet);
@@ -597,18 +600,30 @@ public class JobHelper {
       //  - assumes any lines that don't start with '@[' are part
       //    of the previous log message
       //  - ignores all lines in the log up to the first line that starts with '@['
+      //  - ignores the contents of generated files, which are bracketed by '>>>' lines
+      //    and may be very large; they are parsed separately by the config map step
       private void convertJobLogsToOperatorLogs(String jobLogs) {
-        for (String line : jobLogs.split(EOL_PATTERN)) {
-          if (line.startsWith("@[")) {
-            logToOperator();
-            logMessage = new StringBuilder(INTROSPECTOR_LOG_PREFIX).append(line.trim());
-          } else if (logMessage.length() > 0) {
-            logMessage.append(System.lineSeparator()).append(line.trim());
-          }
-        }
+        jobLogs.lines().forEachOrdered(this::processJobLogLine);
         logToOperator();
       }
 
+      private void processJobLogLine(String line) {
+        if (line.startsWith(FILE_SECTION_MARKER)) {
+          inFileSection = !line.endsWith("EOF");
+        } else if (!inFileSection) {
+          addToLogMessages(line);
+        }
+      }
+
+      private void addToLogMessages(String line) {
+        if (line.startsWith("@[")) {
+          logToOperator();
+          logMessage = new StringBuilder(INTROSPECTOR_LOG_PREFIX).append(line.trim());
+        } else if (logMessage.length() > 0) {
+          logMessage.append(System.lineSeparator()).append(line.trim());
+        }
+      }
+
       private void logToOperator() {
         if (logMessage.length() == 0) {
           return;
@@ -651,7 +666,7 @@ public class JobHelper {
       }
 
       private String getFirstLine(String logMsg) {
-        return logMsg.split(EOL_PATTERN)[0];
+        return logMsg.lines().findFirst().orElse("");
       }
 
       private String onSeparateLines(List<String> lines) {
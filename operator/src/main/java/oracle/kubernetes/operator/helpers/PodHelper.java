@@ -400,6 +400,25 @@ public class PodHelper {
     return new DeletePodStep(serverName, next);
   }
 
+  /**
+   * Discards any pod recipes remembered for the specified domain, which is no longer being managed.
+   *
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   */
+  public static void discardCachedPodRecipes(String namespace, String domainUid) {
+    PodStepContext.discardCachedRecipes(namespace, domainUid);
+  }
+
+  /**
+   * Discards any pod recipes remembered for domains in the specified namespace, which is no longer being managed.
+   *
+   * @param namespace the namespace
+   */
+  public static void discardCachedPodRecipes(String namespace) {
+    PodStepContext.discardCachedRecipes(namespace);
+  }
+
   /**
    * Create a copy of the list of V1EnvVar environment variables.
    *
@@ -0,0 +1,152 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+/**
+ * Remembers the pod recipe most recently computed for each server, along with its hash, so that a make-right which
+ * finds nothing changed need not rebuild and rehash the recipe. A remembered recipe is used only if every input
+ * from which it was built is unchanged.
+ */
+class PodRecipeCache {
+
+  private final Map<String, Map<String, Map<String, CachedRecipe>>> recipes = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the recipe remembered for the specified server, if it was built from the specified inputs.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   * @param serverName the name of the server
+   * @param inputs the inputs from which a new recipe would be built
+   * @return a cached recipe, or null
+   */
+  CachedRecipe lookup(String namespace, String domainUid, String serverName, Inputs inputs) {
+    return Optional.ofNullable(recipes.get(namespace))
+          .map(m -> m.get(domainUid))
+          .map(m -> m.get(serverName))
+          .filter(cached -> cached.inputs.equals(inputs))
+          .orElse(null);
+  }
+
+  /**
+   * Remembers a recipe for the specified server, replacing any recipe built from other inputs. The recipe
+   * must not be modified after being recorded.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   * @param serverName the name of the server
+   * @param inputs the inputs from which the recipe was built
+   * @param recipe the pod recipe
+   * @param hash the hash of the recipe
+   */
+  void record(String namespace, String domainUid, String serverName, Inputs inputs, V1Pod recipe, String hash) {
+    recipes.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>())
+          .computeIfAbsent(domainUid, k -> new ConcurrentHashMap<>())
+          .put(serverName, new CachedRecipe(inputs, recipe, hash));
+  }
+
+  void removeDomain(String namespace, String domainUid) {
+    Optional.ofNullable(recipes.get(namespace)).ifPresent(m -> m.remove(domainUid));
+  }
+
+  void removeNamespace(String namespace) {
+    recipes.remove(namespace);
+  }
+
+  static class CachedRecipe {
+    private final Inputs inputs;
+    private final V1Pod recipe;
+    private final String hash;
+
+    private CachedRecipe(Inputs inputs, V1Pod recipe, String hash) {
+      this.inputs = inputs;
+      this.recipe = recipe;
+      this.hash = hash;
+    }
+
+    V1Pod getRecipe() {
+      return recipe;
+    }
+
+    String getHash() {
+      return hash;
+    }
+  }
+
+  /**
+   * The values, other than the domain and cluster specifications themselves, on which a pod recipe depends. The
+   * specifications are represented by their generations, which Kubernetes increments whenever they change.
+   */
+  static class Inputs {
+    private final long domainGeneration;
+    private final Long clusterGeneration;
+    private final String clusterName;
+    private final String domainZipHash;
+    private final String secretsHash;
+    private final String domainRestartVersion;
+    private final String numConfigMaps;
+    private final WlsDomainConfig domainTopology;
+    private final List<V1EnvVar> envVars;
+    private final List<Object> tuning;
+
+    Inputs(long domainGeneration, Long clusterGeneration, String clusterName, String domainZipHash,
+           String secretsHash, String domainRestartVersion, String numConfigMaps, WlsDomainConfig domainTopology,
+           List<V1EnvVar> envVars, List<Object> tuning) {
+      this.domainGeneration = domainGeneration;
+      this.clusterGeneration = clusterGeneration;
+      this.clusterName = clusterName;
+      this.domainZipHash = domainZipHash;
+      this.secretsHash = secretsHash;
+      this.domainRestartVersion = domainRestartVersion;
+      this.numConfigMaps = numConfigMaps;
+      this.domainTopology = domainTopology;
+      this.envVars = envVars;
+      this.tuning = tuning;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      } else if (!(o instanceof Inputs)) {
+        return false;
+      }
+
+      Inputs that = (Inputs) o;
+      return new EqualsBuilder()
+            .append(domainGeneration, that.domainGeneration)
+            .append(clusterGeneration, that.clusterGeneration)
+            .append(clusterName, that.clusterName)
+            .append(domainZipHash, that.domainZipHash)
+            .append(secretsHash, that.secretsHash)
+            .append(domainRestartVersion, that.domainRestartVersion)
+            .append(numConfigMaps, that.numConfigMaps)
+            .append(tuning, that.tuning)
+            .append(envVars, that.envVars)
+            .append(domainTopology, that.domainTopology)
+            .isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+      return new HashCodeBuilder(17, 37)
+            .append(domainGeneration)
+            .append(clusterGeneration)
+            .append(clusterName)
+            .append(domainZipHash)
+            .append(secretsHash)
+            .append(domainRestartVersion)
+            .toHashCode();
+    }
+  }
+}
@@ -37,6 +37,7 @@ import io.kubernetes.client.openapi.models.V1Lifecycle;
 import io.kubernetes.client.openapi.models.V1LifecycleHandler;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodBuilder;
 import io.kubernetes.client.openapi.models.V1PodReadinessGate;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodSpecBuilder;
@@ -123,6 +124,10 @@ public abstract class PodStepContext extends BasePodStepContext {
   private static final String WLS_EXPORTER = "/wls-exporter";
 
   private static String productVersion;
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static PodRecipeCache recipeCache = new PodRecipeCache();
+
   protected final ExporterContext exporterContext;
 
   final WlsServerConfig scan;
@@ -539,11 +544,59 @@ public abstract class PodStepContext extends BasePodStepContext {
   }
 
   V1Pod createPodModel() {
+    final PodRecipeCache.Inputs recipeInputs = getRecipeInputs();
+    final PodRecipeCache.CachedRecipe cachedRecipe = Optional.ofNullable(recipeInputs)
+          .map(inputs -> recipeCache.lookup(getNamespace(), getDomainUid(), getServerName(), inputs))
+          .orElse(null);
+    if (cachedRecipe != null) {
+      sha256Hash = cachedRecipe.getHash();
+      return withNonHashedElements(new V1PodBuilder(cachedRecipe.getRecipe()).build());
+    }
+
     final V1Pod podRecipe = createPodRecipe();
     sha256Hash = AnnotationHelper.createHash(podRecipe);
+    if (recipeInputs != null) {
+      recipeCache.record(getNamespace(), getDomainUid(), getServerName(),
+            recipeInputs, new V1PodBuilder(podRecipe).build(), sha256Hash);
+    }
     return withNonHashedElements(podRecipe);
   }
 
+  // Returns the values from which the pod recipe is built, or null if it is not possible to tell whether the
+  // domain or cluster specification has changed since a recipe was cached.
+  private PodRecipeCache.Inputs getRecipeInputs() {
+    final Long domainGeneration = Optional.ofNullable(getDomain().getMetadata())
+          .map(V1ObjectMeta::getGeneration).orElse(null);
+    final ClusterResource cluster = getCluster(getClusterName());
+    final Long clusterGeneration = Optional.ofNullable(cluster)
+          .map(ClusterResource::getMetadata).map(V1ObjectMeta::getGeneration).orElse(null);
+    if (domainGeneration == null || (cluster != null && clusterGeneration == null)) {
+      return null;
+    }
+
+    return new PodRecipeCache.Inputs(domainGeneration, clusterGeneration, getClusterName(),
+          miiDomainZipHash, miiModelSecretsHash, domainRestartVersion, packet.getValue(NUM_CONFIG_MAPS),
+          domainTopology, packet.getValue(ProcessingConstants.ENVVARS), getRecipeTuning());
+  }
+
+  private List<Object> getRecipeTuning() {
+    final PodTuning podTuning = TuningParameters.getInstance().getPodTuning();
+    return Arrays.asList(kubernetesPlatform,
+          podTuning.getReadinessProbeInitialDelaySeconds(), podTuning.getReadinessProbeTimeoutSeconds(),
+          podTuning.getReadinessProbePeriodSeconds(), podTuning.getReadinessProbeSuccessThreshold(),
+          podTuning.getReadinessProbeFailureThreshold(), podTuning.getLivenessProbeInitialDelaySeconds(),
+          podTuning.getLivenessProbeTimeoutSeconds(), podTuning.getLivenessProbePeriodSeconds(),
+          podTuning.getLivenessProbeSuccessThreshold(), podTuning.getLivenessProbeFailureThreshold());
+  }
+
+  static void discardCachedRecipes(String namespace, String domainUid) {
+    recipeCache.removeDomain(namespace, domainUid);
+  }
+
+  static void discardCachedRecipes(String namespace) {
+    recipeCache.removeNamespace(namespace);
+  }
+
   @Override
   protected Map<String, String> augmentSubVars(Map<String, String> vars) {
     String clusterName = getClusterName();
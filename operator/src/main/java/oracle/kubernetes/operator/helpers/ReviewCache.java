@@ -0,0 +1,104 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import oracle.kubernetes.operator.http.metrics.ReviewCacheMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * A cache of the results of reviews performed by Kubernetes. A result which grants access is kept for longer than
+ * one which denies it, and once the cache is full, the least recently used result is discarded. Failed reviews,
+ * which have no result, are never cached.
+ *
+ * @param <K> the type of the key identifying a review
+ * @param <V> the type of a review result
+ */
+class ReviewCache<K, V> {
+
+  private final String reviewType;
+  private final Predicate<V> isPositive;
+  private final Map<K, CachedResult<V>> results = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, CachedResult<V>> eldest) {
+      return size() > TuningParameters.getInstance().getReviewCacheMaxEntries();
+    }
+  };
+
+  /**
+   * Creates a cache.
+   * @param reviewType the type of review, used to label metrics
+   * @param isPositive a test for results which grant access
+   */
+  ReviewCache(String reviewType, Predicate<V> isPositive) {
+    this.reviewType = reviewType;
+    this.isPositive = isPositive;
+  }
+
+  /**
+   * Returns the cached result of the specified review, or performs the review and caches its result.
+   * @param key a key which identifies the review. It must not contain credentials.
+   * @param review a function which performs the review, returning null if it fails
+   * @return the review result
+   */
+  V computeIfAbsent(K key, Supplier<V> review) {
+    V result = get(key);
+    if (result == null) {
+      result = review.get();
+      if (result != null) {
+        put(key, result);
+      }
+    }
+    return result;
+  }
+
+  synchronized void clear() {
+    results.clear();
+  }
+
+  private synchronized V get(K key) {
+    CachedResult<V> cached = results.get(key);
+    if (cached == null || cached.isExpired()) {
+      results.remove(key);
+      ReviewCacheMetrics.recordMiss(reviewType);
+      return null;
+    }
+
+    ReviewCacheMetrics.recordHit(reviewType);
+    return cached.result;
+  }
+
+  private synchronized void put(K key, V result) {
+    final int ttlSeconds = getTtlSeconds(result);
+    if (ttlSeconds > 0) {
+      results.put(key, new CachedResult<>(result, SystemClock.now().plusSeconds(ttlSeconds)));
+    }
+  }
+
+  private int getTtlSeconds(V result) {
+    return isPositive.test(result)
+          ? TuningParameters.getInstance().getReviewCachePositiveTtlSeconds()
+          : TuningParameters.getInstance().getReviewCacheNegativeTtlSeconds();
+  }
+
+  private static class CachedResult<V> {
+    private final V result;
+    private final OffsetDateTime expiration;
+
+    CachedResult(V result, OffsetDateTime expiration) {
+      this.result = result;
+      this.expiration = expiration;
+    }
+
+    boolean isExpired() {
+      return !SystemClock.now().isBefore(expiration);
+    }
+  }
+}
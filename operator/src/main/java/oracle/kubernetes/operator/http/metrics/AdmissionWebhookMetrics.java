@@ -0,0 +1,42 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.metrics;
+
+import io.prometheus.client.Summary;
+
+/**
+ * Metrics for the admission webhook. The latency summary reports the median and 99th percentile time taken
+ * to answer admission requests, by resource kind and by whether the request needed validation, so that the cost
+ * of validating changed specs can be seen apart from the updates admitted without it.
+ */
+public final class AdmissionWebhookMetrics {
+
+  public static final String VALIDATED = "validated";
+  public static final String ADMITTED_WITHOUT_VALIDATION = "admitted";
+
+  private static final Summary LATENCY = Summary.build()
+        .name("wko_admission_review_seconds")
+        .help("Time taken to answer admission requests, by resource kind and by whether they were validated.")
+        .labelNames("kind", "path")
+        .quantile(0.5, 0.01)
+        .quantile(0.99, 0.001)
+        .register();
+
+  private AdmissionWebhookMetrics() {
+  }
+
+  /**
+   * Records the time taken to answer an admission request.
+   * @param kind the kind of resource in the request
+   * @param path {@link #VALIDATED} or {@link #ADMITTED_WITHOUT_VALIDATION}
+   * @param seconds the time taken
+   */
+  public static void recordReview(String kind, String path, double seconds) {
+    LATENCY.labels(kind, path).observe(seconds);
+  }
+
+  public static double getReviewCount(String kind, String path) {
+    return LATENCY.labels(kind, path).get().count;
+  }
+}
@@ -0,0 +1,59 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.metrics;
+
+import io.prometheus.client.Counter;
+
+/**
+ * Counters for the writes of domain status. A status change which is held back to be merged into a later write
+ * is counted as coalesced; comparing the coalesced and written counts shows how many API server requests the
+ * coalescing window saves, while the conflict count shows how often a write was rejected as out of date.
+ */
+public final class DomainStatusWriteMetrics {
+
+  private static final Counter COALESCED = Counter.build()
+        .name("wko_domain_status_updates_coalesced_total")
+        .help("Number of domain status changes merged into a later write instead of being written immediately.")
+        .register();
+
+  private static final Counter WRITTEN = Counter.build()
+        .name("wko_domain_status_writes_total")
+        .help("Number of domain status writes accepted by the Kubernetes API server.")
+        .register();
+
+  private static final Counter CONFLICTED = Counter.build()
+        .name("wko_domain_status_write_conflicts_total")
+        .help("Number of domain status writes rejected by the Kubernetes API server with a conflict.")
+        .register();
+
+  private DomainStatusWriteMetrics() {
+  }
+
+  /** Records a status change which was merged into a pending write. */
+  public static void recordCoalesced() {
+    COALESCED.inc();
+  }
+
+  /** Records a successful status write. */
+  public static void recordWritten() {
+    WRITTEN.inc();
+  }
+
+  /** Records a status write which failed with a conflict. */
+  public static void recordConflicted() {
+    CONFLICTED.inc();
+  }
+
+  public static double getCoalescedCount() {
+    return COALESCED.get();
+  }
+
+  public static double getWrittenCount() {
+    return WRITTEN.get();
+  }
+
+  public static double getConflictedCount() {
+    return CONFLICTED.get();
+  }
+}
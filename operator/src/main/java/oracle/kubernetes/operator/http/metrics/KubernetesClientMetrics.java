@@ -0,0 +1,143 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.GaugeMetricFamily;
+import io.prometheus.client.Histogram;
+import okhttp3.OkHttpClient;
+
+/**
+ * Metrics for the operator's use of the Kubernetes client. The in-flight and waiting gauges, the queue wait
+ * histogram and the throttled count describe the client-side scheduling of asynchronous requests; the dispatcher
+ * and connection gauges describe the HTTP client shared by all requests. A dispatcher saturation near one, or a
+ * growing number of queued calls, shows that the configured maximum number of requests is holding calls back.
+ */
+public final class KubernetesClientMetrics {
+
+  private static final Histogram QUEUE_WAIT = Histogram.build()
+        .name("wko_kubernetes_request_queue_wait_seconds")
+        .help("Time asynchronous Kubernetes requests waited to be sent, by verb.")
+        .labelNames("verb")
+        .buckets(0.001, 0.01, 0.1, 0.5, 1, 5, 10, 30)
+        .register();
+
+  private static final Gauge IN_FLIGHT = Gauge.build()
+        .name("wko_kubernetes_requests_in_flight")
+        .help("Number of asynchronous Kubernetes requests in flight, by verb.")
+        .labelNames("verb")
+        .register();
+
+  private static final Gauge WAITING = Gauge.build()
+        .name("wko_kubernetes_requests_waiting")
+        .help("Number of asynchronous Kubernetes requests held by the request scheduler, by verb.")
+        .labelNames("verb")
+        .register();
+
+  private static final Counter THROTTLED = Counter.build()
+        .name("wko_kubernetes_requests_throttled_total")
+        .help("Number of times a Kubernetes request was held back by the client-side request rate limit.")
+        .register();
+
+  private static final AtomicReference<OkHttpClient> httpClient = new AtomicReference<>();
+
+  static {
+    new HttpClientCollector().register();
+  }
+
+  private KubernetesClientMetrics() {
+  }
+
+  /**
+   * Selects the HTTP client whose dispatcher and connection pool are reported.
+   * @param client the client used for Kubernetes requests
+   */
+  public static void monitor(OkHttpClient client) {
+    httpClient.set(client);
+  }
+
+  /**
+   * Records the number of requests for a verb which are in flight.
+   * @param verb the request verb
+   * @param inFlight the number of requests in flight
+   */
+  public static void recordInFlight(String verb, int inFlight) {
+    IN_FLIGHT.labels(verb).set(inFlight);
+  }
+
+  /**
+   * Records the number of requests for a verb which are held by the request scheduler.
+   * @param verb the request verb
+   * @param waiting the number of requests waiting
+   */
+  public static void recordWaiting(String verb, int waiting) {
+    WAITING.labels(verb).set(waiting);
+  }
+
+  /** Records a request which was held back because the configured request rate was exceeded. */
+  public static void recordThrottled() {
+    THROTTLED.inc();
+  }
+
+  /**
+   * Records the time a request waited before it was sent.
+   * @param verb the request verb
+   * @param seconds the time waited
+   */
+  public static void recordQueueWait(String verb, double seconds) {
+    QUEUE_WAIT.labels(verb).observe(seconds);
+  }
+
+  public static double getInFlightCount(String verb) {
+    return IN_FLIGHT.labels(verb).get();
+  }
+
+  public static double getWaitingCount(String verb) {
+    return WAITING.labels(verb).get();
+  }
+
+  public static double getThrottledCount() {
+    return THROTTLED.get();
+  }
+
+  public static double getQueueWaitCount(String verb) {
+    double[] buckets = QUEUE_WAIT.labels(verb).get().buckets;
+    return buckets[buckets.length - 1];
+  }
+
+  private static class HttpClientCollector extends Collector {
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+      List<MetricFamilySamples> samples = new ArrayList<>();
+      Optional.ofNullable(httpClient.get()).ifPresent(client -> addSamples(samples, client));
+      return samples;
+    }
+
+    private void addSamples(List<MetricFamilySamples> samples, OkHttpClient client) {
+      samples.add(new GaugeMetricFamily("wko_kubernetes_client_running_calls",
+            "Number of asynchronous calls the Kubernetes client is running.",
+            client.dispatcher().runningCallsCount()));
+      samples.add(new GaugeMetricFamily("wko_kubernetes_client_queued_calls",
+            "Number of asynchronous calls queued by the Kubernetes client for lack of capacity.",
+            client.dispatcher().queuedCallsCount()));
+      samples.add(new GaugeMetricFamily("wko_kubernetes_client_saturation",
+            "Ratio of running asynchronous calls to the maximum the Kubernetes client will run.",
+            (double) client.dispatcher().runningCallsCount() / client.dispatcher().getMaxRequests()));
+      samples.add(new GaugeMetricFamily("wko_kubernetes_client_connections",
+            "Number of open connections in the Kubernetes client pool.",
+            client.connectionPool().connectionCount()));
+      samples.add(new GaugeMetricFamily("wko_kubernetes_client_idle_connections",
+            "Number of idle connections in the Kubernetes client pool.",
+            client.connectionPool().idleConnectionCount()));
+    }
+  }
+}
@@ -0,0 +1,33 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.metrics;
+
+import java.util.logging.Level;
+
+import io.prometheus.client.Counter;
+
+/**
+ * Counters for the log records which the operator discarded because they were logged faster than they could
+ * be written.
+ */
+public final class LoggingMetrics {
+
+  private static final Counter DROPPED_RECORDS = Counter.build()
+        .name("wko_log_records_dropped_total")
+        .help("Number of log records discarded because the queue of records to write was full, by level.")
+        .labelNames("level")
+        .register();
+
+  private LoggingMetrics() {
+  }
+
+  /** Records that a log record at the specified level was discarded. */
+  public static void recordDropped(Level level) {
+    DROPPED_RECORDS.labels(level.getName()).inc();
+  }
+
+  public static double getDroppedCount(Level level) {
+    return DROPPED_RECORDS.labels(level.getName()).get();
+  }
+}
@@ -0,0 +1,46 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.metrics;
+
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.Gauge;
+
+/**
+ * Timings of the most recent start of each domain namespace. The operator starts only a limited number of namespaces
+ * at once, so the time a namespace spent waiting for its turn is reported apart from the time taken to list its
+ * resources and start its watchers.
+ */
+public final class NamespaceStartupMetrics {
+
+  public static final String WAITING = "waiting";
+  public static final String PROCESSING = "processing";
+
+  private static final String STARTUP_SECONDS = "wko_namespace_startup_seconds";
+
+  private static final Gauge STARTUP = Gauge.build()
+        .name(STARTUP_SECONDS)
+        .help("Time taken by the most recent start of each domain namespace, by phase of the start.")
+        .labelNames("namespace", "phase")
+        .register();
+
+  private NamespaceStartupMetrics() {
+  }
+
+  /**
+   * Records the start of a domain namespace.
+   * @param namespace the namespace
+   * @param waitingSeconds the time the namespace waited before the operator began to start it
+   * @param processingSeconds the time taken to list the resources in the namespace and start its watchers
+   */
+  public static void recordStartup(String namespace, double waitingSeconds, double processingSeconds) {
+    STARTUP.labels(namespace, WAITING).set(waitingSeconds);
+    STARTUP.labels(namespace, PROCESSING).set(processingSeconds);
+  }
+
+  /** Returns the recorded time for the specified namespace and phase, or null if the namespace has not started. */
+  public static Double getStartupSeconds(String namespace, String phase) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+          STARTUP_SECONDS, new String[] {"namespace", "phase"}, new String[] {namespace, phase});
+  }
+}
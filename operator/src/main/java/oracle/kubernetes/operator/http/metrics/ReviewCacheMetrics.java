@@ -0,0 +1,46 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.metrics;
+
+import io.prometheus.client.Counter;
+
+/**
+ * Counters for lookups in the caches of the token and subject access reviews which the operator asks Kubernetes
+ * to perform when authenticating and authorizing REST requests. Each miss results in a call to Kubernetes.
+ */
+public final class ReviewCacheMetrics {
+
+  public static final String TOKEN_REVIEW = "token_review";
+  public static final String SUBJECT_ACCESS_REVIEW = "subject_access_review";
+
+  private static final String HIT = "hit";
+  private static final String MISS = "miss";
+
+  private static final Counter LOOKUPS = Counter.build()
+        .name("wko_review_cache_lookups_total")
+        .help("Number of lookups in the caches of review results, by type of review and whether a result was found.")
+        .labelNames("review", "result")
+        .register();
+
+  private ReviewCacheMetrics() {
+  }
+
+  /** Records a lookup which found a cached result for the specified type of review. */
+  public static void recordHit(String review) {
+    LOOKUPS.labels(review, HIT).inc();
+  }
+
+  /** Records a lookup which found no cached result for the specified type of review. */
+  public static void recordMiss(String review) {
+    LOOKUPS.labels(review, MISS).inc();
+  }
+
+  public static double getHitCount(String review) {
+    return LOOKUPS.labels(review, HIT).get();
+  }
+
+  public static double getMissCount(String review) {
+    return LOOKUPS.labels(review, MISS).get();
+  }
+}
@@ -0,0 +1,67 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.metrics;
+
+import io.prometheus.client.Counter;
+
+/**
+ * Counters for the calls made to read the state and health of WebLogic servers. Dividing the number of calls
+ * of each type by the number of status reads gives the calls made per domain on each status update tick,
+ * which allows the cost of reading each server individually to be compared with that of reading a domain
+ * in bulk from its administration server.
+ */
+public final class ServerStatusReadMetrics {
+
+  public static final String DOMAIN_REST = "domain_rest";
+  public static final String SERVER_REST = "server_rest";
+  public static final String SERVER_STATE_REST = "server_state_rest";
+  public static final String SERVER_EXEC = "server_exec";
+
+  private static final Counter STATUS_READS = Counter.build()
+        .name("wko_server_status_reads_total")
+        .help("Number of times the operator has read the server status of a domain.")
+        .register();
+
+  private static final Counter STATUS_READ_CALLS = Counter.build()
+        .name("wko_server_status_read_calls_total")
+        .help("Number of calls made to read server status, by type of call.")
+        .labelNames("type")
+        .register();
+
+  private ServerStatusReadMetrics() {
+  }
+
+  /** Records the start of a status read for a domain. */
+  public static void recordStatusRead() {
+    STATUS_READS.inc();
+  }
+
+  /** Records a single REST call to the administration server for the runtimes of all servers in a domain. */
+  public static void recordDomainRestRead() {
+    STATUS_READ_CALLS.labels(DOMAIN_REST).inc();
+  }
+
+  /** Records a REST call to a single server for its health. */
+  public static void recordServerRestRead() {
+    STATUS_READ_CALLS.labels(SERVER_REST).inc();
+  }
+
+  /** Records a REST call to a single server for its state. */
+  public static void recordServerStateRestRead() {
+    STATUS_READ_CALLS.labels(SERVER_STATE_REST).inc();
+  }
+
+  /** Records an exec into a single server pod to read its state. */
+  public static void recordServerExecRead() {
+    STATUS_READ_CALLS.labels(SERVER_EXEC).inc();
+  }
+
+  public static double getStatusReadCount() {
+    return STATUS_READS.get();
+  }
+
+  public static double getCallCount(String type) {
+    return STATUS_READ_CALLS.labels(type).get();
+  }
+}
@@ -31,6 +31,7 @@ import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.OperatorMain;
 import oracle.kubernetes.operator.helpers.AuthenticationProxy;
@@ -47,6 +48,7 @@ import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
@@ -183,6 +185,10 @@ public class RestBackendImpl implements RestBackend {
   }
 
   private List<DomainResource> getDomains(String ns) {
+    if (canUseOperatorCopies(ns)) {
+      return DomainProcessorImpl.getDomains(ns).stream().filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
     try {
       return callBuilder.listDomain(ns).getItems();
     } catch (ApiException e) {
@@ -191,6 +197,10 @@ public class RestBackendImpl implements RestBackend {
   }
 
   private List<ClusterResource> getClusterResources(String ns) {
+    if (canUseOperatorCopies(ns)) {
+      return DomainProcessorImpl.getClusters(ns);
+    }
+
     try {
       return callBuilder.listCluster(ns).getItems();
     } catch (ApiException e) {
@@ -198,6 +208,18 @@ public class RestBackendImpl implements RestBackend {
     }
   }
 
+  // The operator's own copies of the resources, kept current by its watches, may be read instead of listing them
+  // if they were last listed recently enough, and if the operator checks the caller's access to them itself, since
+  // otherwise it is Kubernetes that does so, when the resources are listed with the caller's token.
+  private boolean canUseOperatorCopies(String ns) {
+    final int maxStalenessSeconds = TuningParameters.getInstance().getRestReadMaxStalenessSeconds();
+    return maxStalenessSeconds > 0
+        && useAuthenticateWithTokenReview()
+        && Optional.ofNullable(DomainProcessorImpl.getResourcesListedTime(ns))
+            .map(listed -> !listed.plusSeconds(maxStalenessSeconds).isBefore(SystemClock.now()))
+            .orElse(false);
+  }
+
   @Override
   public boolean isDomainUid(String domainUid) {
     return getDomain(domainUid).isPresent();
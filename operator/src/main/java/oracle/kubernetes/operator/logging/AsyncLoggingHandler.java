@@ -0,0 +1,277 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+import oracle.kubernetes.common.logging.BaseLoggingFormatter;
+import oracle.kubernetes.common.logging.ConsoleWritingHandler;
+import oracle.kubernetes.operator.http.metrics.LoggingMetrics;
+
+/**
+ * A logging handler which passes log records to other handlers on a background thread, so that the threads which log,
+ * such as those running fibers, are not held up when writing the log is slow. Each record is copied on the thread
+ * which logs it, with its message formatted and with the fiber, namespace and domain UID current at that time.
+ *
+ * <p>Records wait for the background thread in a bounded, lock-free queue. When the queue is full, the overflow
+ * policy decides which records wait for space and which are discarded. Discarded records are counted by level.
+ *
+ * <p>The handler is configured with the following logging properties, each prefixed by the name of this class:
+ * <ul>
+ *   <li>handlers: the handlers to which records are passed (default: java.util.logging.ConsoleHandler)</li>
+ *   <li>capacity: the maximum number of records waiting to be written (default: 10000)</li>
+ *   <li>overflowPolicy: BLOCK, DROP_DEBUG or SAMPLE (default: DROP_DEBUG)</li>
+ *   <li>sampleRate: the proportion of records kept by the SAMPLE policy (default: 10, keeping one in ten)</li>
+ *   <li>level: the lowest level of record which the handler accepts (default: ALL)</li>
+ * </ul>
+ *
+ * <p>When this handler passes records to a console handler, the logging facades do not add console handlers of their
+ * own, so that each record is written to the console once.
+ */
+public class AsyncLoggingHandler extends Handler implements ConsoleWritingHandler {
+
+  private static final String DEFAULT_HANDLERS = ConsoleHandler.class.getName();
+  private static final int DEFAULT_CAPACITY = 10_000;
+  private static final int DEFAULT_SAMPLE_RATE = 10;
+  private static final long SPACE_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+  private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final long CLOSE_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+  /** Decides which records are kept when the queue is full. */
+  public enum OverflowPolicy {
+    /** Every record waits for space. */
+    BLOCK {
+      @Override
+      boolean keeps(Level level, long overflowCount, int sampleRate) {
+        return true;
+      }
+    },
+    /** Records below INFO are discarded. Others wait for space. */
+    DROP_DEBUG {
+      @Override
+      boolean keeps(Level level, long overflowCount, int sampleRate) {
+        return level.intValue() >= Level.INFO.intValue();
+      }
+    },
+    /** Warnings, severe records and one in every sampleRate other records wait for space. The rest are discarded. */
+    SAMPLE {
+      @Override
+      boolean keeps(Level level, long overflowCount, int sampleRate) {
+        return level.intValue() >= Level.WARNING.intValue() || overflowCount % sampleRate == 0;
+      }
+    };
+
+    abstract boolean keeps(Level level, long overflowCount, int sampleRate);
+  }
+
+  private final List<Handler> handlers;
+  private final int capacity;
+  private final OverflowPolicy overflowPolicy;
+  private final int sampleRate;
+  private final BaseLoggingFormatter<?> contextFormatter = new OperatorLoggingFormatter();
+  private final Queue<LogRecord> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger numQueued = new AtomicInteger();
+  // the number of records queued or being written
+  private final AtomicInteger numPending = new AtomicInteger();
+  private final AtomicLong overflowCount = new AtomicLong();
+  private final Thread writer;
+  private volatile boolean writerWaiting;
+  private volatile boolean closed;
+
+  /**
+   * Creates a handler configured from the logging properties.
+   */
+  public AsyncLoggingHandler() {
+    this(createHandlers(getProperty("handlers", DEFAULT_HANDLERS)),
+          getIntProperty("capacity", DEFAULT_CAPACITY),
+          getOverflowPolicy(),
+          getIntProperty("sampleRate", DEFAULT_SAMPLE_RATE));
+    Optional.ofNullable(getProperty("level", null)).ifPresent(level -> setLevel(Level.parse(level)));
+  }
+
+  AsyncLoggingHandler(List<Handler> handlers, int capacity, OverflowPolicy overflowPolicy, int sampleRate) {
+    this.handlers = handlers;
+    this.capacity = Math.max(1, capacity);
+    this.overflowPolicy = overflowPolicy;
+    this.sampleRate = Math.max(1, sampleRate);
+    writer = new Thread(this::writeRecords, "async-log-writer");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  private static String getProperty(String name, String defaultValue) {
+    final String propertyName = AsyncLoggingHandler.class.getName() + "." + name;
+    return Optional.ofNullable(LogManager.getLogManager().getProperty(propertyName))
+          .map(String::trim)
+          .orElse(defaultValue);
+  }
+
+  private static int getIntProperty(String name, int defaultValue) {
+    try {
+      return Integer.parseInt(getProperty(name, Integer.toString(defaultValue)));
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
+  private static OverflowPolicy getOverflowPolicy() {
+    try {
+      return OverflowPolicy.valueOf(getProperty("overflowPolicy", OverflowPolicy.DROP_DEBUG.name()));
+    } catch (IllegalArgumentException e) {
+      return OverflowPolicy.DROP_DEBUG;
+    }
+  }
+
+  private static List<Handler> createHandlers(String classNames) {
+    final List<Handler> result = new ArrayList<>();
+    for (String className : classNames.split("[,\\s]+")) {
+      if (!className.isEmpty()) {
+        result.add(createHandler(className));
+      }
+    }
+    return result;
+  }
+
+  private static Handler createHandler(String className) {
+    try {
+      return (Handler) ClassLoader.getSystemClassLoader().loadClass(className).getConstructor().newInstance();
+    } catch (ReflectiveOperationException | ClassCastException e) {
+      throw new IllegalArgumentException("Unable to create log handler " + className, e);
+    }
+  }
+
+  @Override
+  public boolean writesToConsole() {
+    return handlers.stream().anyMatch(ConsoleHandler.class::isInstance);
+  }
+
+  @Override
+  public void publish(LogRecord logRecord) {
+    if (!isLoggable(logRecord)) {
+      return;
+    }
+
+    final LogRecord capturedRecord = contextFormatter.withCurrentContext(logRecord);
+    if (closed || Thread.currentThread() == writer) {
+      writeRecord(capturedRecord);
+    } else if (!tryEnqueue(capturedRecord)) {
+      handleOverflow(capturedRecord);
+    }
+  }
+
+  private void handleOverflow(LogRecord logRecord) {
+    if (overflowPolicy.keeps(logRecord.getLevel(), overflowCount.incrementAndGet(), sampleRate)) {
+      enqueueWhenSpaceAvailable(logRecord);
+    } else {
+      LoggingMetrics.recordDropped(logRecord.getLevel());
+    }
+  }
+
+  private void enqueueWhenSpaceAvailable(LogRecord logRecord) {
+    while (!tryEnqueue(logRecord)) {
+      if (closed) {
+        writeRecord(logRecord);
+        return;
+      }
+      LockSupport.parkNanos(SPACE_WAIT_NANOS);
+    }
+  }
+
+  private boolean tryEnqueue(LogRecord logRecord) {
+    if (numQueued.incrementAndGet() > capacity) {
+      numQueued.decrementAndGet();
+      return false;
+    }
+
+    numPending.incrementAndGet();
+    queue.add(logRecord);
+    if (writerWaiting) {
+      LockSupport.unpark(writer);
+    }
+    return true;
+  }
+
+  private void writeRecords() {
+    while (!closed) {
+      if (!writeNextRecord()) {
+        awaitRecords();
+      }
+    }
+  }
+
+  private boolean writeNextRecord() {
+    final LogRecord logRecord = queue.poll();
+    if (logRecord == null) {
+      return false;
+    }
+
+    numQueued.decrementAndGet();
+    writeRecord(logRecord);
+    numPending.decrementAndGet();
+    return true;
+  }
+
+  // the waiting flag is set before checking the queue, so that a record added after the check will unpark the writer
+  private void awaitRecords() {
+    writerWaiting = true;
+    if (queue.isEmpty() && !closed) {
+      LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+    }
+    writerWaiting = false;
+  }
+
+  private void writeRecord(LogRecord logRecord) {
+    for (Handler handler : handlers) {
+      try {
+        handler.publish(logRecord);
+      } catch (RuntimeException e) {
+        reportError(null, e, ErrorManager.WRITE_FAILURE);
+      }
+    }
+  }
+
+  /**
+   * Waits for the records already queued to be written, and then flushes the handlers to which they were passed.
+   */
+  @Override
+  public void flush() {
+    while (numPending.get() > 0 && writer.isAlive() && Thread.currentThread() != writer) {
+      LockSupport.parkNanos(SPACE_WAIT_NANOS);
+    }
+    handlers.forEach(Handler::flush);
+  }
+
+  /**
+   * Stops the background thread, writes any records still queued, and closes the handlers to which they were passed.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    LockSupport.unpark(writer);
+    try {
+      writer.join(CLOSE_WAIT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    while (!queue.isEmpty()) {
+      writeNextRecord();
+    }
+    handlers.forEach(Handler::close);
+  }
+}
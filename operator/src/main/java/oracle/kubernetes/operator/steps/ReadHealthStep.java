@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
@@ -31,6 +31,7 @@ import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.SecretHelper;
 import oracle.kubernetes.operator.http.client.HttpResponseStep;
+import oracle.kubernetes.operator.http.metrics.ServerStatusReadMetrics;
 import oracle.kubernetes.operator.http.rest.Scan;
 import oracle.kubernetes.operator.http.rest.ScanCache;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -72,6 +73,18 @@ public class ReadHealthStep extends Step {
     return new ReadHealthStep(next);
   }
 
+  /**
+   * Creates asynchronous {@link Step} to read the state and health of all running servers in a domain
+   * with a single request to the administration server. Servers which the administration server reports
+   * are recorded in the packet's state and health maps; others are left for the caller to read individually.
+   *
+   * @param next Next processing step
+   * @return asynchronous step
+   */
+  public static Step createReadDomainHealthStep(Step next) {
+    return new ReadDomainHealthStep(next);
+  }
+
   // overallHealthState, healthState
 
   @Override
@@ -90,21 +103,27 @@ public class ReadHealthStep extends Step {
     }
   }
 
-  static final class ReadHealthProcessing extends HttpRequestProcessing {
+  static class ReadHealthProcessing extends HttpRequestProcessing {
+    private final String serverName;
 
     ReadHealthProcessing(Packet packet, @Nonnull V1Service service, V1Pod pod) {
+      this(packet, service, pod, (String) packet.get(ProcessingConstants.SERVER_NAME));
+    }
+
+    ReadHealthProcessing(Packet packet, @Nonnull V1Service service, V1Pod pod, String serverName) {
       super(packet, service, pod);
+      this.serverName = serverName;
     }
 
-    private static String getRetrieveHealthSearchPath() {
+    String getRetrieveHealthSearchPath() {
       return "/management/weblogic/latest/serverRuntime/search";
     }
 
-    private static String getRetrieveHealthSearchPayload() {
+    String getRetrieveHealthSearchPayload() {
       return "{ fields: [ 'state', 'overallHealthState', 'activationTime' ], links: [] }";
     }
 
-    private HttpRequest createRequest() {
+    HttpRequest createRequest() {
       LOGGER.finer("Create REST request to service URL: " + getRequestUrl());
       return createRequestBuilder(getRequestUrl())
             .POST(HttpRequest.BodyPublishers.ofString(getRetrieveHealthSearchPayload()))
@@ -125,7 +144,7 @@ public class ReadHealthStep extends Step {
       return Optional.ofNullable(getWlsServerConfig()).map(WlsServerConfig::getLocalAdminProtocolChannelPort).orElse(0);
     }
 
-    private WlsServerConfig getWlsServerConfig() {
+    WlsServerConfig getWlsServerConfig() {
       // standalone server that does not belong to any cluster
       WlsServerConfig serverConfig = getWlsDomainConfig().getServerConfig(getServerName());
 
@@ -156,7 +175,7 @@ public class ReadHealthStep extends Step {
     }
 
     private String getServerName() {
-      return (String) getPacket().get(ProcessingConstants.SERVER_NAME);
+      return serverName;
     }
 
     private WlsDomainConfig getWlsDomainConfig() {
@@ -194,6 +213,7 @@ public class ReadHealthStep extends Step {
       if (processing.getWlsServerConfig() == null) {
         return doNext(packet);
       }
+      ServerStatusReadMetrics.recordServerRestRead();
       return doNext(createRequestStep(processing.createRequest(), new RecordHealthStep(getNext())), packet);
     }
 
@@ -281,9 +301,10 @@ public class ReadHealthStep extends Step {
           return null;
         }
 
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode root = mapper.readTree(jsonResult);
+        return parseServerHealth(new ObjectMapper().readTree(jsonResult));
+      }
 
+      static Pair<String, ServerHealth> parseServerHealth(JsonNode root) {
         JsonNode healthState = null;
         JsonNode subsystemName = null;
         JsonNode symptoms = null;
@@ -392,4 +413,132 @@ public class ReadHealthStep extends Step {
       }
     }
   }
+
+  private static class ReadDomainHealthStep extends Step {
+
+    ReadDomainHealthStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      String adminServerName = info.getAdminServerName();
+      V1Service service = Optional.ofNullable(adminServerName).map(info::getServerService).orElse(null);
+      if (service == null) {
+        return doNext(packet);
+      } else {
+        return doNext(
+            Step.chain(
+                SecretHelper.createAuthorizationSourceStep(),
+                new ReadDomainHealthWithHttpStep(adminServerName, service, info.getServerPod(adminServerName),
+                    getNext())),
+            packet);
+      }
+    }
+  }
+
+  static final class ReadDomainHealthProcessing extends ReadHealthProcessing {
+
+    ReadDomainHealthProcessing(Packet packet, @Nonnull V1Service service, V1Pod pod, String adminServerName) {
+      super(packet, service, pod, adminServerName);
+    }
+
+    @Override
+    String getRetrieveHealthSearchPath() {
+      return "/management/weblogic/latest/domainRuntime/search";
+    }
+
+    @Override
+    String getRetrieveHealthSearchPayload() {
+      return "{ fields: [], links: [], children: { serverRuntimes: "
+          + "{ fields: [ 'name', 'state', 'overallHealthState', 'activationTime' ], links: [] } } }";
+    }
+  }
+
+  /**
+   * Step to send a query to the administration server to obtain the state and health of all running servers.
+   * Packet values used:
+   *  DOMAIN_TOPOLOGY                   the topology of the domain
+   */
+  static final class ReadDomainHealthWithHttpStep extends Step {
+    private final String adminServerName;
+    @Nonnull
+    private final V1Service service;
+    private final V1Pod pod;
+
+    ReadDomainHealthWithHttpStep(String adminServerName, @Nonnull V1Service service, V1Pod pod, Step next) {
+      super(next);
+      this.adminServerName = adminServerName;
+      this.service = service;
+      this.pod = pod;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      ReadHealthProcessing processing = new ReadDomainHealthProcessing(packet, service, pod, adminServerName);
+      if (processing.getWlsServerConfig() == null) {
+        return doNext(packet);
+      }
+      ServerStatusReadMetrics.recordDomainRestRead();
+      return doNext(createRequestStep(processing.createRequest(), new RecordDomainHealthStep(getNext())), packet);
+    }
+  }
+
+  /**
+   * {@link Step} for processing the json result of a query for the runtimes of all servers in a domain.
+   * Only servers with pods known to the operator are recorded. A failed query records nothing,
+   * so that the health of each server will be read individually.
+   * Packet values used:
+   *  SERVER_STATE_MAP                  a map of server names to state
+   *  SERVER_HEALTH_MAP                 a map of server names to health
+   *  REMAINING_SERVERS_HEALTH_TO_READ  a counter of the servers whose health needs to be read
+   *  (spi) HttpResponse.class          the response from the server
+   */
+  static final class RecordDomainHealthStep extends HttpResponseStep {
+
+    RecordDomainHealthStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, HttpResponse<String> response) {
+      try {
+        recordServerRuntimes(packet, new ObjectMapper().readTree(response.body()));
+      } catch (Throwable t) {
+        LOGGER.fine("Unable to read server runtimes from administration server: " + t);
+      }
+      return doNext(packet);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, HttpResponse<String> response) {
+      return doNext(packet);
+    }
+
+    private void recordServerRuntimes(Packet packet, JsonNode root) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      Iterator<JsonNode> it = root.path("serverRuntimes").path("items").elements();
+      while (it.hasNext()) {
+        JsonNode serverRuntime = it.next();
+        String serverName = emptyToNull(serverRuntime.path("name").asText());
+        if (serverName != null && info.getServerPod(serverName) != null) {
+          recordServerRuntime(packet, info, serverName,
+              RecordHealthStep.HealthResponseProcessing.parseServerHealth(serverRuntime));
+        }
+      }
+    }
+
+    private void recordServerRuntime(
+        Packet packet, DomainPresenceInfo info, String serverName, Pair<String, ServerHealth> stateAndHealth) {
+      Optional.ofNullable(emptyToNull(stateAndHealth.getLeft())).ifPresent(state -> {
+        info.updateLastKnownServerStatus(serverName, state);
+        packet.<Map<String, String>>getValue(SERVER_STATE_MAP).put(serverName, state);
+      });
+      packet.<Map<String, ServerHealth>>getValue(ProcessingConstants.SERVER_HEALTH_MAP)
+          .put(serverName, stateAndHealth.getRight());
+      info.setHttpRequestFailureCount(serverName, 0);
+      packet.<AtomicInteger>getValue(REMAINING_SERVERS_HEALTH_TO_READ).getAndDecrement();
+    }
+  }
 }
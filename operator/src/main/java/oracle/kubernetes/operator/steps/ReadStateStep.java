@@ -0,0 +1,145 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.SecretHelper;
+import oracle.kubernetes.operator.http.client.HttpResponseStep;
+import oracle.kubernetes.operator.http.metrics.ServerStatusReadMetrics;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.steps.HttpRequestProcessing.createRequestStep;
+import static oracle.kubernetes.utils.OperatorUtils.emptyToNull;
+
+/**
+ * Reads the state of a single server from its REST interface, rather than by running a script in its pod.
+ * If the state can be read, it is recorded in the packet's server state map; otherwise the map is left unchanged,
+ * so that a following step can read the state in some other way.
+ */
+public class ReadStateStep extends Step {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  // a server which is not ready may be unable to respond, so do not wait long before falling back
+  private static final long STATE_READ_TIMEOUT_SECONDS = 5;
+
+  private final String serverName;
+
+  private ReadStateStep(String serverName, Step next) {
+    super(next);
+    this.serverName = serverName;
+  }
+
+  /**
+   * Creates asynchronous {@link Step} to read the state of a server instance over HTTP.
+   *
+   * @param serverName the name of the server
+   * @param next Next processing step
+   * @return asynchronous step
+   */
+  public static Step createReadStateStep(String serverName, Step next) {
+    return new ReadStateStep(serverName, next);
+  }
+
+  @Override
+  public NextAction apply(Packet packet) {
+    DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+    V1Service service = info.getServerService(serverName);
+    if (service == null) {
+      return doNext(packet);
+    } else {
+      return doNext(
+            Step.chain(
+                SecretHelper.createAuthorizationSourceStep(),
+                new ReadStateWithHttpStep(serverName, service, info.getServerPod(serverName), getNext())),
+            packet);
+    }
+  }
+
+  static final class ReadStateProcessing extends ReadHealthStep.ReadHealthProcessing {
+
+    ReadStateProcessing(Packet packet, @Nonnull V1Service service, V1Pod pod, String serverName) {
+      super(packet, service, pod, serverName);
+    }
+
+    @Override
+    String getRetrieveHealthSearchPayload() {
+      return "{ fields: [ 'state' ], links: [] }";
+    }
+  }
+
+  static final class ReadStateWithHttpStep extends Step {
+    private final String serverName;
+    @Nonnull
+    private final V1Service service;
+    private final V1Pod pod;
+
+    ReadStateWithHttpStep(String serverName, @Nonnull V1Service service, V1Pod pod, Step next) {
+      super(next);
+      this.serverName = serverName;
+      this.service = service;
+      this.pod = pod;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      ReadHealthStep.ReadHealthProcessing processing = new ReadStateProcessing(packet, service, pod, serverName);
+      if (processing.getWlsServerConfig() == null) {
+        return doNext(packet);
+      }
+      ServerStatusReadMetrics.recordServerStateRestRead();
+      return doNext(createRequestStep(processing.createRequest(), new RecordStateStep(serverName, getNext()))
+            .withTimeoutSeconds(STATE_READ_TIMEOUT_SECONDS), packet);
+    }
+  }
+
+  /**
+   * {@link Step} for processing json result object containing the state of a server.
+   * Packet values used:
+   *  SERVER_STATE_MAP                  a map of server names to state
+   *  (spi) HttpResponse.class          the response from the server
+   */
+  static final class RecordStateStep extends HttpResponseStep {
+    private final String serverName;
+
+    RecordStateStep(String serverName, Step next) {
+      super(next);
+      this.serverName = serverName;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, HttpResponse<String> response) {
+      try {
+        Optional.ofNullable(emptyToNull(new ObjectMapper().readTree(response.body()).path("state").asText()))
+              .ifPresent(state -> recordState(packet, state));
+      } catch (Exception e) {
+        LOGGER.fine("Unable to read state of server " + serverName + ": " + e);
+      }
+      return doNext(packet);
+    }
+
+    private void recordState(Packet packet, String state) {
+      packet.getSpi(DomainPresenceInfo.class).updateLastKnownServerStatus(serverName, state);
+      packet.<Map<String, String>>getValue(SERVER_STATE_MAP).put(serverName, state);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, HttpResponse<String> response) {
+      return doNext(packet);
+    }
+  }
+}
@@ -79,6 +79,28 @@ public class TuningParameters {
   public static final String CRD_PRESENCE_FAILURE_RETRY_MAX_COUNT = "crdPresenceFailureRetryMaxCount";
   public static final String HTTP_REQUEST_FAILURE_COUNT_THRESHOLD = "httpRequestFailureCountThreshold";
   public static final String SHUTDOWN_WITH_HTTP_POLLING_INTERVAL = "shutdownWithHttpPollingInterval";
+  public static final String ENGINE_USE_VIRTUAL_THREADS = "engineUseVirtualThreads";
+  public static final String CLUSTER_SCOPED_WATCHES = "clusterScopedWatches";
+  public static final String BULK_SERVER_STATUS_READ = "bulkServerStatusRead";
+  public static final String HTTP_SERVER_STATE_READ = "httpServerStateRead";
+  public static final String EVENT_DRIVEN_STATUS_UPDATES = "eventDrivenStatusUpdates";
+  public static final String DOMAIN_STATUS_WRITE_COALESCING_SECONDS = "domainStatusWriteCoalescingSeconds";
+  public static final String KUBERNETES_CLIENT_MAX_REQUESTS = "kubernetesClientMaxRequests";
+  public static final String KUBERNETES_CLIENT_MAX_REQUESTS_PER_HOST = "kubernetesClientMaxRequestsPerHost";
+  public static final String KUBERNETES_CLIENT_MAX_IDLE_CONNECTIONS = "kubernetesClientMaxIdleConnections";
+  public static final String KUBERNETES_CLIENT_KEEP_ALIVE_SECONDS = "kubernetesClientKeepAliveSeconds";
+  public static final String KUBERNETES_CLIENT_PING_INTERVAL_SECONDS = "kubernetesClientPingIntervalSeconds";
+  public static final String KUBERNETES_MAX_IN_FLIGHT_REQUESTS_PER_VERB = "kubernetesMaxInFlightRequestsPerVerb";
+  public static final String KUBERNETES_REQUEST_QPS = "kubernetesRequestQps";
+  public static final String KUBERNETES_REQUEST_BURST = "kubernetesRequestBurst";
+  public static final String REST_READ_MAX_STALENESS_SECONDS = "restReadMaxStalenessSeconds";
+  public static final String REVIEW_CACHE_POSITIVE_TTL_SECONDS = "reviewCachePositiveTtlSeconds";
+  public static final String REVIEW_CACHE_NEGATIVE_TTL_SECONDS = "reviewCacheNegativeTtlSeconds";
+  public static final String REVIEW_CACHE_MAX_ENTRIES = "reviewCacheMaxEntries";
+  public static final String ADMISSION_LOOKUP_CACHE_SECONDS = "admissionLookupCacheSeconds";
+  public static final String NAMESPACE_STARTUP_CONCURRENCY = "namespaceStartupConcurrency";
+  public static final String REPEATED_MESSAGE_LOG_LIMIT = "repeatedMessageLogLimit";
+  public static final String REPEATED_MESSAGE_LOG_INTERVAL_SECONDS = "repeatedMessageLogIntervalSeconds";
   public static final int DEFAULT_HTTP_REQUEST_FAILURE_COUNT_THRESHOLD = 10;
   public static final int DEFAULT_SHUTDOWN_WITH_HTTP_POLLING_INTERVAL = 3;
 
@@ -243,6 +265,181 @@ public class TuningParameters {
     return getParameter(SHUTDOWN_WITH_HTTP_POLLING_INTERVAL, DEFAULT_SHUTDOWN_WITH_HTTP_POLLING_INTERVAL);
   }
 
+  /**
+   * Returns true if fibers should run on virtual threads rather than on a fixed-size pool of platform threads.
+   * Has no effect if the JVM does not support virtual threads.
+   */
+  public boolean isEngineUseVirtualThreads() {
+    return getParameter(ENGINE_USE_VIRTUAL_THREADS, false);
+  }
+
+  /**
+   * Returns true if the operator should open a single watch across all namespaces for each kind of resource
+   * that it creates, rather than one watch per kind in each managed namespace.
+   */
+  public boolean isClusterScopedWatches() {
+    return getParameter(CLUSTER_SCOPED_WATCHES, false);
+  }
+
+  /**
+   * Returns true if the operator should read the state and health of all running servers in a domain
+   * with a single request to its administration server, reading individual servers only when the
+   * administration server does not report them.
+   */
+  public boolean isBulkServerStatusRead() {
+    return getParameter(BULK_SERVER_STATUS_READ, false);
+  }
+
+  /**
+   * Returns true if the operator should try to read the state of a server which is not ready from its
+   * REST interface, running a script in the server pod only if that fails.
+   */
+  public boolean isHttpServerStateRead() {
+    return getParameter(HTTP_SERVER_STATE_READ, false);
+  }
+
+  /**
+   * Returns true if domain status updates should be scheduled on a shared timer, backing off to the eventual
+   * long delay while no pod or service events are received for a domain.
+   */
+  public boolean isEventDrivenStatusUpdates() {
+    return getParameter(EVENT_DRIVEN_STATUS_UPDATES, false);
+  }
+
+  /**
+   * Returns the number of seconds after a domain status write during which further status changes are merged
+   * into a single later write. Zero (the default) writes every change immediately.
+   */
+  public int getDomainStatusWriteCoalescingSeconds() {
+    return getParameter(DOMAIN_STATUS_WRITE_COALESCING_SECONDS, 0);
+  }
+
+  /**
+   * Returns the maximum number of asynchronous Kubernetes requests which the client will run at once.
+   */
+  public int getKubernetesClientMaxRequests() {
+    return getParameter(KUBERNETES_CLIENT_MAX_REQUESTS, 256);
+  }
+
+  /**
+   * Returns the maximum number of asynchronous Kubernetes requests which the client will run at once against
+   * a single host. As the operator talks to a single API server, this is normally the effective limit.
+   */
+  public int getKubernetesClientMaxRequestsPerHost() {
+    return getParameter(KUBERNETES_CLIENT_MAX_REQUESTS_PER_HOST, 128);
+  }
+
+  /**
+   * Returns the maximum number of idle connections to the API server kept open for reuse.
+   */
+  public int getKubernetesClientMaxIdleConnections() {
+    return getParameter(KUBERNETES_CLIENT_MAX_IDLE_CONNECTIONS, 5);
+  }
+
+  /**
+   * Returns the number of seconds an idle connection to the API server is kept before it is evicted.
+   */
+  public int getKubernetesClientKeepAliveSeconds() {
+    return getParameter(KUBERNETES_CLIENT_KEEP_ALIVE_SECONDS, 300);
+  }
+
+  /**
+   * Returns the interval in seconds between pings sent on HTTP/2 connections to the API server, which keep
+   * them alive while idle and detect broken ones. Zero disables pings.
+   */
+  public int getKubernetesClientPingIntervalSeconds() {
+    return getParameter(KUBERNETES_CLIENT_PING_INTERVAL_SECONDS, 30);
+  }
+
+  /**
+   * Returns the maximum number of asynchronous Kubernetes requests with the same verb, such as 'list' or 'patch',
+   * which may be in flight at once. Further requests wait until one completes. Zero, the default, removes the
+   * limit.
+   */
+  public int getKubernetesMaxInFlightRequestsPerVerb() {
+    return getParameter(KUBERNETES_MAX_IN_FLIGHT_REQUESTS_PER_VERB, 0);
+  }
+
+  /**
+   * Returns the sustained rate, in requests per second, at which asynchronous Kubernetes requests may be sent.
+   * Zero, the default, removes the limit.
+   */
+  public int getKubernetesRequestQps() {
+    return getParameter(KUBERNETES_REQUEST_QPS, 0);
+  }
+
+  /**
+   * Returns the number of asynchronous Kubernetes requests which may be sent at once, above the sustained rate,
+   * after a quiet period. Only used when a request rate is configured.
+   */
+  public int getKubernetesRequestBurst() {
+    return getParameter(KUBERNETES_REQUEST_BURST, 100);
+  }
+
+  /**
+   * Returns the maximum age, in seconds, of the operator's last listing of the domain and cluster resources in a
+   * namespace, for the REST API to answer queries from the operator's own copies of those resources rather than
+   * list them again. Zero makes the REST API always list them.
+   */
+  public int getRestReadMaxStalenessSeconds() {
+    return getParameter(REST_READ_MAX_STALENESS_SECONDS, 300);
+  }
+
+  /**
+   * Returns the number of seconds for which the operator reuses a token review which authenticated a REST client,
+   * or a subject access review which allowed a request. Zero disables the reuse of such reviews.
+   */
+  public int getReviewCachePositiveTtlSeconds() {
+    return getParameter(REVIEW_CACHE_POSITIVE_TTL_SECONDS, 60);
+  }
+
+  /**
+   * Returns the number of seconds for which the operator reuses a token review which rejected a REST client,
+   * or a subject access review which denied a request. Zero disables the reuse of such reviews.
+   */
+  public int getReviewCacheNegativeTtlSeconds() {
+    return getParameter(REVIEW_CACHE_NEGATIVE_TTL_SECONDS, 10);
+  }
+
+  /**
+   * Returns the maximum number of token and subject access reviews which the operator remembers of each kind.
+   */
+  public int getReviewCacheMaxEntries() {
+    return getParameter(REVIEW_CACHE_MAX_ENTRIES, 1000);
+  }
+
+  /**
+   * Returns the number of seconds for which the admission webhook reuses its listing of the domain or cluster
+   * resources in a namespace when validating further requests. Zero makes every validation list them again.
+   */
+  public int getAdmissionLookupCacheSeconds() {
+    return getParameter(ADMISSION_LOOKUP_CACHE_SECONDS, 2);
+  }
+
+  /**
+   * Returns the maximum number of domain namespaces which the operator starts at the same time, listing their
+   * resources and starting their watchers. Zero starts all of them at once.
+   */
+  public int getNamespaceStartupConcurrency() {
+    return getParameter(NAMESPACE_STARTUP_CONCURRENCY, 10);
+  }
+
+  /**
+   * Returns the number of times that a repeated warning about a domain, such as a failure to read the health of one
+   * of its servers, is logged in each interval set by {@link #getRepeatedMessageLogIntervalSeconds()}.
+   */
+  public int getRepeatedMessageLogLimit() {
+    return getParameter(REPEATED_MESSAGE_LOG_LIMIT, 1);
+  }
+
+  /**
+   * Returns the length, in seconds, of the interval in which a repeated warning about a domain is logged at most
+   * the number of times set by {@link #getRepeatedMessageLogLimit()}.
+   */
+  public int getRepeatedMessageLogIntervalSeconds() {
+    return getParameter(REPEATED_MESSAGE_LOG_INTERVAL_SECONDS, 300);
+  }
+
   /**
    * Returns the name of the kubernetes platform on which the operator is running. May be null (the default).
    */
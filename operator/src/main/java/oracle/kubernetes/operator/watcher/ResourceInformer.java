@@ -0,0 +1,268 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+
+/**
+ * An in-memory, indexed store of the resources of a single kind, kept current by watch events.
+ * A single informer may be shared by the watchers of all namespaces; it records each event in its store
+ * and then fans it out to the listeners registered for the namespace of the event, as well as to
+ * any listeners registered for all namespaces.
+ *
+ * <p>Resources are indexed by namespace, by the value of their domainUID label, and by the combination of
+ * their domainUID and server name labels. An informer created {@link #withoutStore() without a store}
+ * only fans out the events, keeping none of the resources.
+ *
+ * @param <T> the type of resource being stored
+ */
+public class ResourceInformer<T extends KubernetesObject> implements WatchListener<T> {
+
+  private final Map<String, Map<String, T>> resourcesByNamespace = new ConcurrentHashMap<>();
+  private final Map<String, Set<String>> namesByDomainUid = new ConcurrentHashMap<>();
+  private final Map<String, String> namesByServer = new ConcurrentHashMap<>();
+  private final Map<String, WatchListener<T>> namespaceListeners = new ConcurrentHashMap<>();
+  private final List<WatchListener<T>> globalListeners = new CopyOnWriteArrayList<>();
+  private Executor dispatcher = Runnable::run;
+  private boolean storing = true;
+
+  /**
+   * Specifies the executor used to deliver events to the registered listeners. By default, events are delivered
+   * on the thread which received them.
+   * @param dispatcher an executor
+   * @return this informer
+   */
+  public ResourceInformer<T> withDispatcher(@Nonnull Executor dispatcher) {
+    this.dispatcher = dispatcher;
+    return this;
+  }
+
+  /**
+   * Specifies that this informer should keep no resources, but only deliver events to the registered listeners.
+   * Used for kinds whose resources are never looked up, so that they take no memory.
+   * @return this informer
+   */
+  public ResourceInformer<T> withoutStore() {
+    this.storing = false;
+    return this;
+  }
+
+  /**
+   * Registers a listener to receive the events for resources in the specified namespace,
+   * replacing any listener previously registered for it.
+   * @param namespace the namespace whose events are to be delivered
+   * @param listener the listener
+   */
+  public void addListener(@Nonnull String namespace, @Nonnull WatchListener<T> listener) {
+    namespaceListeners.put(namespace, listener);
+  }
+
+  /**
+   * Registers a listener to receive the events for resources in all namespaces.
+   * @param listener the listener
+   */
+  public void addListener(@Nonnull WatchListener<T> listener) {
+    globalListeners.add(listener);
+  }
+
+  /**
+   * Replaces the resources known for a namespace, typically with the result of a list request.
+   * @param namespace the namespace
+   * @param resources the current resources in the namespace
+   */
+  public synchronized void replaceNamespace(@Nonnull String namespace, @Nullable Collection<T> resources) {
+    discardResources(namespace);
+    Optional.ofNullable(resources).ifPresent(r -> r.forEach(this::store));
+  }
+
+  /**
+   * Adds resources to those known, typically from a later page of a list request whose first page
+   * was passed to {@link #replaceNamespace(String, Collection)}.
+   * @param resources the resources to add
+   */
+  public synchronized void addResources(@Nullable Collection<T> resources) {
+    Optional.ofNullable(resources).ifPresent(r -> r.forEach(this::store));
+  }
+
+  /**
+   * Discards the resources and listener recorded for a namespace.
+   * @param namespace the namespace
+   */
+  public synchronized void removeNamespace(@Nonnull String namespace) {
+    namespaceListeners.remove(namespace);
+    discardResources(namespace);
+  }
+
+  private void discardResources(String namespace) {
+    Optional.ofNullable(resourcesByNamespace.remove(namespace))
+          .map(Map::values)
+          .ifPresent(r -> r.forEach(this::unindex));
+  }
+
+  @Override
+  public void receivedResponse(Watch.Response<T> response) {
+    record(response);
+    dispatcher.execute(() -> fanOut(response));
+  }
+
+  private synchronized void record(Watch.Response<T> response) {
+    if (getNamespace(response.object) == null) {
+      return;
+    }
+
+    switch (response.type) {
+      case "ADDED":
+      case "MODIFIED":
+        store(response.object);
+        break;
+      case "DELETED":
+        remove(response.object);
+        break;
+      default:
+    }
+  }
+
+  private void fanOut(Watch.Response<T> response) {
+    globalListeners.forEach(l -> l.receivedResponse(response));
+    Optional.ofNullable(getNamespace(response.object)).map(namespaceListeners::get)
+          .ifPresent(l -> l.receivedResponse(response));
+  }
+
+  private void store(T resource) {
+    if (!storing || getNamespace(resource) == null) {
+      return;
+    }
+
+    Optional.ofNullable(getResourcesInNamespace(getNamespace(resource)).put(getName(resource), resource))
+          .ifPresent(this::unindex);
+    index(resource);
+  }
+
+  private void remove(T resource) {
+    Optional.ofNullable(resourcesByNamespace.get(getNamespace(resource)))
+          .map(m -> m.remove(getName(resource)))
+          .ifPresent(this::unindex);
+  }
+
+  private Map<String, T> getResourcesInNamespace(String namespace) {
+    return resourcesByNamespace.computeIfAbsent(namespace, n -> new ConcurrentHashMap<>());
+  }
+
+  private void index(T resource) {
+    Optional.ofNullable(getDomainUidKey(resource)).ifPresent(k -> addDomainUidIndex(k, getName(resource)));
+    Optional.ofNullable(getServerKey(resource)).ifPresent(k -> namesByServer.put(k, getName(resource)));
+  }
+
+  private void unindex(T resource) {
+    Optional.ofNullable(getDomainUidKey(resource)).ifPresent(k -> removeDomainUidIndex(k, getName(resource)));
+    Optional.ofNullable(getServerKey(resource)).ifPresent(k -> namesByServer.remove(k, getName(resource)));
+  }
+
+  private void addDomainUidIndex(String key, String name) {
+    namesByDomainUid.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(name);
+  }
+
+  private void removeDomainUidIndex(String key, String name) {
+    namesByDomainUid.computeIfPresent(key, (k, names) -> names.remove(name) && names.isEmpty() ? null : names);
+  }
+
+  /**
+   * Returns the resource with the specified name in a namespace, or null if none is known.
+   * @param namespace the namespace
+   * @param name the name of the resource
+   */
+  @Nullable
+  public T getResource(String namespace, String name) {
+    return Optional.ofNullable(resourcesByNamespace.get(namespace)).map(m -> m.get(name)).orElse(null);
+  }
+
+  /**
+   * Returns all known resources in a namespace.
+   * @param namespace the namespace
+   */
+  @Nonnull
+  public Collection<T> getResources(String namespace) {
+    return Optional.ofNullable(resourcesByNamespace.get(namespace))
+          .<Collection<T>>map(m -> List.copyOf(m.values()))
+          .orElse(Collections.emptyList());
+  }
+
+  /**
+   * Returns the known resources in a namespace which are labeled with the specified domainUID.
+   * @param namespace the namespace
+   * @param domainUid the domainUID
+   */
+  @Nonnull
+  public Collection<T> getResourcesForDomain(String namespace, String domainUid) {
+    return Optional.ofNullable(namesByDomainUid.get(toKey(namespace, domainUid))).orElse(Collections.emptySet())
+          .stream()
+          .map(name -> getResource(namespace, name))
+          .filter(Objects::nonNull)
+          .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the resource in a namespace which is labeled with the specified domainUID and server name,
+   * or null if none is known.
+   * @param namespace the namespace
+   * @param domainUid the domainUID
+   * @param serverName the WebLogic server name
+   */
+  @Nullable
+  public T getResourceForServer(String namespace, String domainUid, String serverName) {
+    return Optional.ofNullable(namesByServer.get(toKey(namespace, domainUid, serverName)))
+          .map(name -> getResource(namespace, name))
+          .orElse(null);
+  }
+
+  private String getNamespace(T resource) {
+    return Optional.ofNullable(resource)
+          .map(KubernetesObject::getMetadata)
+          .map(V1ObjectMeta::getNamespace)
+          .orElse(null);
+  }
+
+  private String getName(T resource) {
+    return resource.getMetadata().getName();
+  }
+
+  private String getDomainUidKey(T resource) {
+    return Optional.ofNullable(getLabel(resource, DOMAINUID_LABEL))
+          .map(uid -> toKey(getNamespace(resource), uid))
+          .orElse(null);
+  }
+
+  private String getServerKey(T resource) {
+    final String domainUid = getLabel(resource, DOMAINUID_LABEL);
+    final String serverName = getLabel(resource, SERVERNAME_LABEL);
+    return domainUid == null || serverName == null ? null : toKey(getNamespace(resource), domainUid, serverName);
+  }
+
+  private String getLabel(T resource, String name) {
+    return Optional.ofNullable(resource.getMetadata().getLabels()).map(l -> l.get(name)).orElse(null);
+  }
+
+  private static String toKey(String... parts) {
+    return String.join("/", parts);
+  }
+}
@@ -1,10 +1,11 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.webhooks.model;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import com.google.gson.annotations.Expose;
 import com.google.gson.annotations.SerializedName;
@@ -24,6 +25,7 @@ import static oracle.kubernetes.operator.KubernetesConstants.SCALE;
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.readCluster;
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.readDomain;
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.readScale;
+import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.writeClusterToMap;
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.writeMap;
 
 /**
@@ -153,6 +155,23 @@ public class AdmissionRequest {
     return getRequestKind().readObject(this);
   }
 
+  /**
+   * Returns true if this request updates a resource whose validation depends only on its spec, without changing
+   * that spec, as when only the metadata or status of the resource changes. Such an update needs no validation.
+   * The specs are compared as they appear in the request, without reading the resources.
+   *
+   * @return true if the update may be admitted without validation
+   */
+  public boolean isSpecUnchangedUpdate() {
+    Object proposedSpec = getSpec(getObject());
+    return getRequestKind().admitsUnchangedSpec() && !isNewResource()
+        && proposedSpec != null && proposedSpec.equals(getSpec(getOldObject()));
+  }
+
+  private Object getSpec(Map<String, Object> resource) {
+    return Optional.ofNullable(resource).map(r -> r.get("spec")).orElse(null);
+  }
+
   @Override
   public String toString() {
     return "AdmissionRequest{"
@@ -185,6 +204,11 @@ public class AdmissionRequest {
 
   public enum RequestKind {
     DOMAIN {
+      @Override
+      public boolean admitsUnchangedSpec() {
+        return true;
+      }
+
       @Override
       public Object readOldObject(AdmissionRequest request) {
         return readDomain(writeMap(request.getOldObject()));
@@ -205,6 +229,11 @@ public class AdmissionRequest {
       }
     },
     CLUSTER {
+      @Override
+      public boolean admitsUnchangedSpec() {
+        return true;
+      }
+
       @Override
       public Object readOldObject(AdmissionRequest request) {
         return readCluster(writeMap(request.getOldObject()));
@@ -248,8 +277,17 @@ public class AdmissionRequest {
         }
       }
 
+      // Returns a copy of the named cluster, which may be modified. A cluster missing from a recent listing
+      // may have been created since, so the clusters are then listed again.
       private ClusterResource getCluster(String clusterName, String namespace) throws ApiException {
-        List<ClusterResource> clusters = AdmissionChecker.getClusters(namespace);
+        ClusterResource cluster = findCluster(clusterName, AdmissionChecker.getClusters(namespace));
+        if (cluster == null) {
+          cluster = findCluster(clusterName, AdmissionChecker.getCurrentClusters(namespace));
+        }
+        return cluster == null ? null : readCluster(writeMap(writeClusterToMap(cluster)));
+      }
+
+      private ClusterResource findCluster(String clusterName, List<ClusterResource> clusters) {
         return clusters.stream().filter(cluster -> clusterName.equals(cluster.getMetadata().getName()))
             .findFirst().orElse(null);
       }
@@ -280,6 +318,10 @@ public class AdmissionRequest {
       return true;
     }
 
+    public boolean admitsUnchangedSpec() {
+      return false;
+    }
+
     public abstract Object readOldObject(AdmissionRequest request);
 
     public abstract Object readObject(AdmissionRequest request);
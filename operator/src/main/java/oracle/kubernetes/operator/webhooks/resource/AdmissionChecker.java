@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.webhooks.resource;
@@ -15,6 +15,7 @@ import oracle.kubernetes.operator.webhooks.model.AdmissionResponse;
 import oracle.kubernetes.weblogic.domain.model.ClusterList;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.ClusterStatus;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 
@@ -27,6 +28,11 @@ import static java.lang.System.lineSeparator;
  */
 
 public abstract class AdmissionChecker {
+  private static final ResourceListCache<ClusterResource> clusterLists
+        = new ResourceListCache<>(AdmissionChecker::readClusters);
+  private static final ResourceListCache<DomainResource> domainLists
+        = new ResourceListCache<>(AdmissionChecker::readDomains);
+
   final List<String> messages = new ArrayList<>();
 
   /** Construct a AdmissionChecker. */
@@ -55,11 +61,51 @@ public abstract class AdmissionChecker {
     return failures.isEmpty();
   }
 
+  /**
+   * Returns the cluster resources in the specified namespace, reusing a recent listing if there is one.
+   * The returned resources are shared with other validations, and must not be modified.
+   *
+   * @param namespace the namespace
+   * @return an unmodifiable list of cluster resources
+   * @throws ApiException if the cluster resources cannot be listed
+   */
   public static List<ClusterResource> getClusters(String namespace) throws ApiException {
+    return clusterLists.getResources(namespace);
+  }
+
+  /**
+   * Lists the cluster resources in the specified namespace, ignoring any recent listing.
+   *
+   * @param namespace the namespace
+   * @return an unmodifiable list of cluster resources
+   * @throws ApiException if the cluster resources cannot be listed
+   */
+  public static List<ClusterResource> getCurrentClusters(String namespace) throws ApiException {
+    return clusterLists.listResources(namespace);
+  }
+
+  static List<DomainResource> getDomains(String namespace) throws ApiException {
+    return domainLists.getResources(namespace);
+  }
+
+  /**
+   * Discards any recent listings of domain and cluster resources.
+   */
+  public static void clearCachedLookups() {
+    clusterLists.clear();
+    domainLists.clear();
+  }
+
+  private static List<ClusterResource> readClusters(String namespace) throws ApiException {
     return Optional.of(new CallBuilder().listCluster(namespace))
         .map(ClusterList::getItems).orElse(Collections.emptyList());
   }
 
+  private static List<DomainResource> readDomains(String namespace) throws ApiException {
+    return Optional.ofNullable(new CallBuilder().listDomain(namespace))
+        .map(DomainList::getItems).orElse(Collections.emptyList());
+  }
+
   String createMessage() {
     return perLine(messages);
   }
@@ -1,9 +1,11 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.webhooks.resource;
 
+import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -12,6 +14,7 @@ import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.core.MediaType;
+import oracle.kubernetes.operator.http.metrics.AdmissionWebhookMetrics;
 import oracle.kubernetes.operator.http.rest.resource.BaseResource;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -50,22 +53,42 @@ public class AdmissionWebhookResource extends BaseResource {
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
   public String post(String body) {
-    LOGGER.fine("Validating webhook is invoked with body " + body);
+    final long startTime = System.nanoTime();
+    if (LOGGER.isFineEnabled()) {
+      LOGGER.fine("Validating webhook is invoked with body " + body);
+    }
 
     AdmissionReview admissionReview = null;
     AdmissionRequest admissionRequest = null;
     AdmissionResponse admissionResponse;
+    boolean validated = true;
 
     try {
       admissionReview = readAdmissionReview(body);
       admissionRequest = getAdmissionRequest(admissionReview);
-      admissionResponse = createAdmissionResponse(admissionRequest);
+      validated = requiresValidation(admissionRequest);
+      admissionResponse = validated ? validate(admissionRequest) : allow(admissionRequest);
     } catch (Exception e) {
       LOGGER.severe(VALIDATION_FAILED, e.getMessage(), getAdmissionRequestAsString(admissionReview));
       admissionResponse = createResponseWithException(admissionRequest, e);
     }
 
-    return writeAdmissionReview(createResponseAdmissionReview(admissionReview, admissionResponse));
+    String response = writeAdmissionReview(createResponseAdmissionReview(admissionReview, admissionResponse));
+    recordLatency(admissionRequest, validated, startTime);
+    return response;
+  }
+
+  private void recordLatency(AdmissionRequest request, boolean validated, long startTime) {
+    AdmissionWebhookMetrics.recordReview(getKindLabel(request),
+        validated ? AdmissionWebhookMetrics.VALIDATED : AdmissionWebhookMetrics.ADMITTED_WITHOUT_VALIDATION,
+        (double) (System.nanoTime() - startTime) / TimeUnit.SECONDS.toNanos(1));
+  }
+
+  private String getKindLabel(AdmissionRequest request) {
+    return Optional.ofNullable(request)
+        .filter(r -> r.getKind() != null && r.getKind().get("kind") != null)
+        .map(r -> r.getRequestKind().name().toLowerCase(Locale.ROOT))
+        .orElse("unknown");
   }
 
   private AdmissionResponse createResponseWithException(AdmissionRequest admissionRequest, Exception e) {
@@ -109,12 +132,14 @@ public class AdmissionWebhookResource extends BaseResource {
     return Optional.ofNullable(request).map(AdmissionRequest::getUid).orElse(null);
   }
 
-  private AdmissionResponse createAdmissionResponse(AdmissionRequest request) throws ApiException {
-    if (request == null || request.getObject() == null || !request.getRequestKind().isSupported()) {
-      return new AdmissionResponse().uid(getUid(request)).allowed(true);
-    }
+  // Updates which leave a spec unchanged, such as status updates, are admitted without reading the resources.
+  private boolean requiresValidation(AdmissionRequest request) {
+    return request != null && request.getObject() != null && request.getRequestKind().isSupported()
+        && !request.isSpecUnchangedUpdate();
+  }
 
-    return validate(request);
+  private AdmissionResponse allow(AdmissionRequest request) {
+    return new AdmissionResponse().uid(getUid(request)).allowed(true);
   }
 
   private AdmissionResponse validate(@Nonnull AdmissionRequest request) throws ApiException {
@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.webhooks.resource;
@@ -11,7 +11,6 @@ import java.util.Optional;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1LocalObjectReference;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
-import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.webhooks.model.AdmissionResponse;
@@ -19,7 +18,6 @@ import oracle.kubernetes.operator.webhooks.model.AdmissionResponseStatus;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.ClusterSpec;
 import oracle.kubernetes.weblogic.domain.model.ClusterStatus;
-import oracle.kubernetes.weblogic.domain.model.DomainList;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 
@@ -87,14 +85,13 @@ public abstract class ClusterAdmissionChecker extends AdmissionChecker {
   }
 
   List<DomainResource> getDomainResources(ClusterResource clusterResource) throws ApiException {
-    return referencingDomains(clusterResource, new CallBuilder().listDomain(getNamespace(clusterResource)));
+    return referencingDomains(clusterResource, getDomains(getNamespace(clusterResource)));
   }
 
-  private List<DomainResource> referencingDomains(ClusterResource clusterResource, DomainList domains) {
+  private List<DomainResource> referencingDomains(ClusterResource clusterResource, List<DomainResource> domains) {
     String name = clusterResource.getMetadata().getName();
     List<DomainResource> referencingDomains = new ArrayList<>();
-    Optional.ofNullable(domains).map(DomainList::getItems).ifPresent(list -> list.stream()
-        .filter(item -> referencesCluster(name, item)).forEach(referencingDomains::add));
+    domains.stream().filter(item -> referencesCluster(name, item)).forEach(referencingDomains::add);
     return referencingDomains;
   }
 
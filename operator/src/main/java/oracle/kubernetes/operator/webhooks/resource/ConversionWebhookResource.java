@@ -1,12 +1,18 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.webhooks.resource;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import jakarta.ws.rs.Consumes;
@@ -26,8 +32,10 @@ import oracle.kubernetes.operator.webhooks.model.ConversionRequest;
 import oracle.kubernetes.operator.webhooks.model.ConversionResponse;
 import oracle.kubernetes.operator.webhooks.model.ConversionReviewModel;
 import oracle.kubernetes.operator.webhooks.model.Result;
+import oracle.kubernetes.operator.work.ThreadFactorySingleton;
 import org.glassfish.jersey.server.ResourceConfig;
 
+import static oracle.kubernetes.common.CommonConstants.API_VERSION_V8;
 import static oracle.kubernetes.common.logging.MessageKeys.DOMAIN_CONVERSION_FAILED;
 import static oracle.kubernetes.operator.EventConstants.OPERATOR_WEBHOOK_COMPONENT;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.CONVERSION_WEBHOOK_FAILED;
@@ -46,6 +54,13 @@ public class ConversionWebhookResource extends BaseResource {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Webhook", "Operator");
   public static final String FAILED_STATUS = "Failed";
 
+  // requests with fewer domains than this are converted on the request thread
+  private static final int MIN_DOMAINS_TO_CONVERT_IN_PARALLEL = 8;
+
+  // converts the domains of large requests, using no more threads than there are processors
+  private static final ExecutorService CONVERSION_EXECUTOR = Executors.newFixedThreadPool(
+        Runtime.getRuntime().availableProcessors(), ThreadFactorySingleton.getInstance());
+
   @Context
   private Application application;
 
@@ -114,23 +129,20 @@ public class ConversionWebhookResource extends BaseResource {
   }
 
   /**
-   * Create the conversion review response.
+   * Create the conversion review response. The cluster resources needed for the conversion are listed once for each
+   * namespace, on the request thread. Large requests then have their domains converted in parallel on a bounded
+   * executor; the converted domains are returned in the order of the request.
    * @param conversionRequest The request to be converted.
    * @param be REST backend
    * @return ConversionResponse The response to the conversion request.
    */
-  @SuppressWarnings("unchecked")
   private ConversionResponse createConversionResponse(ConversionRequest conversionRequest,
                                                       RestBackend be) {
-    SchemaConversionUtils schemaConversionUtils = new SchemaConversionUtils(conversionRequest.getDesiredAPIVersion());
-
-    List<SchemaConversionUtils.Resources> convertedResources = conversionRequest.getDomains().stream()
-          .map(d -> schemaConversionUtils.convertDomainSchema(d, () -> {
-            String namespace = Optional.ofNullable((Map<String, Object>) d.get("metadata"))
-                .map(m -> (String) m.get("namespace")).orElse("default");
-            return be.listClusters(namespace);
-          }))
-          .collect(Collectors.toList());
+    String desiredApiVersion = conversionRequest.getDesiredAPIVersion();
+    List<Map<String, Object>> domains = conversionRequest.getDomains();
+    Map<String, List<Map<String, Object>>> clustersByNamespace = listReferencedClusters(domains, desiredApiVersion, be);
+    List<SchemaConversionUtils.Resources> convertedResources
+          = convertDomains(domains, desiredApiVersion, clustersByNamespace);
 
     List<Object> convertedDomains = new ArrayList<>();
     for (SchemaConversionUtils.Resources cr : convertedResources) {
@@ -143,4 +155,75 @@ public class ConversionWebhookResource extends BaseResource {
             .result(new Result().status("Success"))
             .convertedObjects(convertedDomains);
   }
-}
\ No newline at end of file
+
+  // Only conversion to v8 reads cluster resources, and then only for domains which reference clusters.
+  private Map<String, List<Map<String, Object>>> listReferencedClusters(
+        List<Map<String, Object>> domains, String desiredApiVersion, RestBackend be) {
+    Map<String, List<Map<String, Object>>> clustersByNamespace = new HashMap<>();
+    if (API_VERSION_V8.equals(desiredApiVersion)) {
+      for (Map<String, Object> domain : domains) {
+        String namespace = getNamespace(domain);
+        if (referencesClusters(domain) && !clustersByNamespace.containsKey(namespace)) {
+          clustersByNamespace.put(namespace, be.listClusters(namespace));
+        }
+      }
+    }
+    return clustersByNamespace;
+  }
+
+  @SuppressWarnings("unchecked")
+  private boolean referencesClusters(Map<String, Object> domain) {
+    return Optional.ofNullable((Map<String, Object>) domain.get("spec")).map(s -> s.get("clusters")).isPresent();
+  }
+
+  @SuppressWarnings("unchecked")
+  private String getNamespace(Map<String, Object> domain) {
+    return Optional.ofNullable((Map<String, Object>) domain.get("metadata"))
+        .map(m -> (String) m.get("namespace")).orElse("default");
+  }
+
+  private List<SchemaConversionUtils.Resources> convertDomains(List<Map<String, Object>> domains,
+        String desiredApiVersion, Map<String, List<Map<String, Object>>> clustersByNamespace) {
+    if (domains.size() < MIN_DOMAINS_TO_CONVERT_IN_PARALLEL) {
+      return domains.stream()
+            .map(d -> convertDomain(d, desiredApiVersion, clustersByNamespace))
+            .collect(Collectors.toList());
+    }
+
+    List<Callable<SchemaConversionUtils.Resources>> conversions = domains.stream()
+          .<Callable<SchemaConversionUtils.Resources>>map(d -> () -> convertDomain(d, desiredApiVersion,
+                clustersByNamespace))
+          .collect(Collectors.toList());
+    try {
+      List<SchemaConversionUtils.Resources> result = new ArrayList<>();
+      for (Future<SchemaConversionUtils.Resources> future : CONVERSION_EXECUTOR.invokeAll(conversions)) {
+        result.add(getConverted(future));
+      }
+      return result;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private SchemaConversionUtils.Resources getConverted(Future<SchemaConversionUtils.Resources> future)
+        throws InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  // Each domain gets its own converter, so that the result does not depend on the other domains in the request
+  // or on the thread which converts it.
+  private SchemaConversionUtils.Resources convertDomain(Map<String, Object> domain, String desiredApiVersion,
+                                                        Map<String, List<Map<String, Object>>> clustersByNamespace) {
+    String namespace = getNamespace(domain);
+    return new SchemaConversionUtils(desiredApiVersion)
+          .convertDomainSchema(domain, () -> clustersByNamespace.get(namespace));
+  }
+}
@@ -0,0 +1,81 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.webhooks.resource;
+
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kubernetes.client.openapi.ApiException;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Remembers, for a few seconds, the resources of one kind listed in each namespace, so that a burst of admission
+ * requests need not list them again for each validation. The listed resources are shared by every caller
+ * until the listing expires, and must not be modified.
+ * @param <R> the kind of resource listed
+ */
+class ResourceListCache<R> {
+
+  @FunctionalInterface
+  interface Lister<R> {
+    List<R> list(String namespace) throws ApiException;
+  }
+
+  private final Lister<R> lister;
+  private final Map<String, CachedList<R>> lists = new ConcurrentHashMap<>();
+
+  ResourceListCache(Lister<R> lister) {
+    this.lister = lister;
+  }
+
+  /**
+   * Returns the resources in the specified namespace, listing them only if no unexpired listing is remembered.
+   * @param namespace the namespace
+   * @return an unmodifiable list of resources
+   * @throws ApiException if the resources must be listed, and the list request fails
+   */
+  List<R> getResources(String namespace) throws ApiException {
+    CachedList<R> cached = lists.get(namespace);
+    return cached != null && !cached.isExpired() ? cached.resources : listResources(namespace);
+  }
+
+  /**
+   * Lists the resources in the specified namespace, replacing any remembered listing.
+   * @param namespace the namespace
+   * @return an unmodifiable list of resources
+   * @throws ApiException if the list request fails
+   */
+  List<R> listResources(String namespace) throws ApiException {
+    List<R> resources = Collections.unmodifiableList(lister.list(namespace));
+    final int cacheSeconds = TuningParameters.getInstance().getAdmissionLookupCacheSeconds();
+    if (cacheSeconds > 0) {
+      lists.put(namespace, new CachedList<>(resources, SystemClock.now().plusSeconds(cacheSeconds)));
+    } else {
+      lists.remove(namespace);
+    }
+    return resources;
+  }
+
+  void clear() {
+    lists.clear();
+  }
+
+  private static class CachedList<R> {
+    private final List<R> resources;
+    private final OffsetDateTime expiration;
+
+    CachedList(List<R> resources, OffsetDateTime expiration) {
+      this.resources = resources;
+      this.expiration = expiration;
+    }
+
+    boolean isExpired() {
+      return !SystemClock.now().isBefore(expiration);
+    }
+  }
+}
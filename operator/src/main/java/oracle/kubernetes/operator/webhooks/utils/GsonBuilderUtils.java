@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.webhooks.utils;
@@ -22,6 +22,9 @@ import oracle.kubernetes.weblogic.domain.model.DomainResource;
 
 public class GsonBuilderUtils {
 
+  // Gson instances are immutable and thread-safe, so all requests share one rather than building it per call
+  private static final Gson gson = createGson();
+
   private GsonBuilderUtils() {
     // no-op
   }
@@ -76,6 +79,10 @@ public class GsonBuilderUtils {
   }
 
   private static Gson getGsonBuilder() {
+    return gson;
+  }
+
+  private static Gson createGson() {
     GsonBuilder gsonBuilder = new GsonBuilder();
     gsonBuilder.setObjectToNumberStrategy(ToNumberPolicy.LONG_OR_DOUBLE);
     gsonBuilder.registerTypeAdapter(Double.class, new SimpleNumberTypeAdapter());
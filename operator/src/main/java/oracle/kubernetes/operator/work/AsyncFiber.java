@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
@@ -25,6 +25,11 @@ public interface AsyncFiber {
    */
   void terminate(Throwable t, Packet packet);
 
+  /**
+   * Returns true if this fiber has been cancelled, and so will not be resumed.
+   */
+  boolean isCancelled();
+
   /**
    * Schedules an operation for some time in the future.
    *
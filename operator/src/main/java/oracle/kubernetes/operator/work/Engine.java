@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
@@ -11,11 +11,16 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nonnull;
 
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+
 /**
  * Collection of {@link Fiber}s. Owns an {@link Executor} to run them.
  */
 public class Engine {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final int DEFAULT_THREAD_COUNT = 10;
+  private static final int DEFAULT_TIMER_THREAD_COUNT = 2;
   private final AtomicReference<ScheduledExecutorService> threadPool = new AtomicReference<>();
 
   /**
@@ -49,6 +54,24 @@ public class Engine {
     return wrap(container, threadPool);
   }
 
+  /**
+   * wrapped executor service which runs each fiber on its own virtual thread, using a small pool of platform
+   * threads only to wait for timed operations. If the JVM does not support virtual threads,
+   * falls back to the fixed-size pool returned by {@link #wrappedExecutorService(String, Container)}.
+   * @param id id
+   * @param container container
+   * @return executor service
+   */
+  public static ScheduledExecutorService wrappedVirtualThreadExecutorService(String id, Container container) {
+    if (!VirtualThreadScheduledExecutor.isSupported()) {
+      LOGGER.fine("Virtual threads are not supported by this JVM; using a fixed-size thread pool for engine " + id);
+      return wrappedExecutorService(id, container);
+    }
+
+    return wrap(container,
+        VirtualThreadScheduledExecutor.create(new DaemonThreadFactory(id + "-timer"), DEFAULT_TIMER_THREAD_COUNT));
+  }
+
   private static ScheduledExecutorService wrap(Container container, ScheduledExecutorService ex) {
     return container != null ? ContainerResolver.getDefault().wrapExecutor(container, ex) : ex;
   }
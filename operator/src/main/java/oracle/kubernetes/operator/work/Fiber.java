@@ -122,6 +122,11 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
     return CURRENT_FIBER.get();
   }
 
+  @Override
+  public boolean isCancelled() {
+    return status.get() == CANCELLED;
+  }
+
   /**
    * Use this fiber's executor to schedule an operation for some time in the future.
    * @param timeout the interval before the check should run, in units
@@ -1,22 +1,33 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
 
 import java.util.AbstractMap;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
-/** Context of a single processing flow. Acts as a map and as a registry of components. */
+/**
+ * Context of a single processing flow. Acts as a map and as a registry of components.
+ *
+ * <p>Copying a packet is cheap: a copy shares its values and components with the original, and each packet records
+ * its own changes in an overlay, so that neither sees changes made to the other after the copy.
+ */
 public class Packet extends AbstractMap<String, Object> implements ComponentRegistry, ComponentEx {
-  private final ConcurrentMap<String, Component> components =
-      new ConcurrentHashMap<>();
-  private final ConcurrentMap<String, Object> delegate = new ConcurrentHashMap<>();
+  private final RegisteredComponents components;
+  private volatile Values values;
 
   public Packet() {
+    this(new RegisteredComponents(Collections.emptyMap()), Collections.emptyMap());
+  }
+
+  private Packet(RegisteredComponents components, Map<String, Object> values) {
+    this.components = components;
+    this.values = new Values(values);
   }
 
   /**
@@ -30,18 +41,16 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
     return this;
   }
 
-  private Packet(Packet that) {
-    components.putAll(that.components);
-    delegate.putAll(that.delegate);
-  }
-
   /**
    * Copies a packet so that the new packet starts with identical values and components.
    *
    * @return Cloned packet
    */
-  public Packet copy() {
-    return new Packet(this);
+  public synchronized Packet copy() {
+    if (values.hasChanges()) {
+      values = new Values(values.merged());
+    }
+    return new Packet(components.copy(), values.base);
   }
 
   /**
@@ -51,13 +60,7 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
    * @return implementation object
    */
   public <S> S getSpi(Class<S> spiType) {
-    for (Component c : components.values()) {
-      S s = c.getSpi(spiType);
-      if (s != null) {
-        return s;
-      }
-    }
-    return null;
+    return components.getSpi(spiType);
   }
 
   @Override
@@ -76,16 +79,200 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
 
   @Override
   public Set<Entry<String, Object>> entrySet() {
-    return delegate.entrySet();
+    return Collections.unmodifiableMap(values.merged()).entrySet();
   }
 
   @Override
-  public Object put(String key, Object value) {
-    return value != null ? delegate.put(key, value) : delegate.remove(key);
+  public Object get(Object key) {
+    return values.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public synchronized Object put(String key, Object value) {
+    return value != null ? values.put(key, value) : values.remove(key);
+  }
+
+  @Override
+  public synchronized Object remove(Object key) {
+    return values.remove(key);
+  }
+
+  @Override
+  public synchronized void clear() {
+    values = new Values(Collections.emptyMap());
   }
 
   @SuppressWarnings("unchecked")
   public <T> T getValue(String key) {
     return (T) get(key);
   }
+
+  /**
+   * The values in a packet: a base which may be shared with copies of the packet, and therefore is never modified,
+   * and an overlay containing the changes made to this packet since the base was created.
+   */
+  private static class Values {
+    // marks an entry in the overlay which hides an entry in the base
+    private static final Object REMOVED = new Object();
+
+    private final Map<String, Object> base;
+    private final Map<String, Object> overlay = new ConcurrentHashMap<>();
+
+    Values(Map<String, Object> base) {
+      this.base = base;
+    }
+
+    boolean hasChanges() {
+      return !overlay.isEmpty();
+    }
+
+    Object get(Object key) {
+      if (key == null) {
+        return null;
+      }
+
+      Object value = overlay.get(key);
+      if (value == null) {
+        value = base.get(key);
+      }
+      return unlessRemoved(value);
+    }
+
+    Object put(String key, Object value) {
+      Object previous = overlay.put(key, value);
+      return previous == null ? base.get(key) : unlessRemoved(previous);
+    }
+
+    Object remove(Object key) {
+      Object previous = get(key);
+      if (key == null) {
+        return null;
+      } else if (base.containsKey(key)) {
+        overlay.put((String) key, REMOVED);
+      } else {
+        overlay.remove(key);
+      }
+      return previous;
+    }
+
+    private Object unlessRemoved(Object value) {
+      return value == REMOVED ? null : value;
+    }
+
+    Map<String, Object> merged() {
+      if (overlay.isEmpty()) {
+        return base;
+      }
+
+      Map<String, Object> result = new HashMap<>(base);
+      overlay.forEach((key, value) -> {
+        if (value == REMOVED) {
+          result.remove(key);
+        } else {
+          result.put(key, value);
+        }
+      });
+      return result;
+    }
+  }
+
+  /**
+   * The components registered with a packet. These change rarely, so every change replaces the entire registration,
+   * which may then be shared by copies of the packet, along with an index of the SPIs found in it.
+   */
+  private static class RegisteredComponents extends AbstractMap<String, Component> {
+    private volatile Registration registration;
+
+    RegisteredComponents(Map<String, Component> components) {
+      registration = new Registration(components);
+    }
+
+    private RegisteredComponents(Registration registration) {
+      this.registration = registration;
+    }
+
+    RegisteredComponents copy() {
+      return new RegisteredComponents(registration);
+    }
+
+    <S> S getSpi(Class<S> spiType) {
+      return registration.getSpi(spiType);
+    }
+
+    @Override
+    public Component get(Object key) {
+      return registration.components.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return registration.components.containsKey(key);
+    }
+
+    @Override
+    public synchronized Component put(String key, Component value) {
+      Map<String, Component> updated = new HashMap<>(registration.components);
+      Component previous = updated.put(Objects.requireNonNull(key), Objects.requireNonNull(value));
+      registration = new Registration(updated);
+      return previous;
+    }
+
+    @Override
+    public synchronized Component remove(Object key) {
+      if (!registration.components.containsKey(key)) {
+        return null;
+      }
+
+      Map<String, Component> updated = new HashMap<>(registration.components);
+      Component previous = updated.remove(key);
+      registration = new Registration(updated);
+      return previous;
+    }
+
+    @Override
+    public synchronized void clear() {
+      registration = new Registration(Collections.emptyMap());
+    }
+
+    @Override
+    public Set<Entry<String, Component>> entrySet() {
+      return Collections.unmodifiableMap(registration.components).entrySet();
+    }
+  }
+
+  private static class Registration {
+    // records that no registered component provides an SPI
+    private static final Object NO_SPI = new Object();
+
+    private final Map<String, Component> components;
+    private final Map<Class<?>, Object> spis = new ConcurrentHashMap<>();
+
+    Registration(Map<String, Component> components) {
+      this.components = components;
+    }
+
+    <S> S getSpi(Class<S> spiType) {
+      Object spi = spis.get(spiType);
+      if (spi == null) {
+        spi = findSpi(spiType);
+        spis.put(spiType, spi);
+      }
+      return spi == NO_SPI ? null : spiType.cast(spi);
+    }
+
+    private Object findSpi(Class<?> spiType) {
+      for (Component c : components.values()) {
+        Object s = c.getSpi(spiType);
+        if (s != null) {
+          return s;
+        }
+      }
+      return NO_SPI;
+    }
+  }
 }
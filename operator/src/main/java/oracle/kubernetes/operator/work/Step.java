@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
@@ -7,6 +7,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -311,23 +313,7 @@ public abstract class Step {
     return doSuspend(
         step,
         fiber -> {
-          CompletionCallback callback =
-              new JoinCompletionCallback(fiber, packet, startDetails.size()) {
-                @Override
-                public void onCompletion(Packet p) {
-                  int current = count.decrementAndGet();
-                  if (current == 0) {
-                    // no need to synchronize throwables as all fibers are done
-                    if (throwables.isEmpty()) {
-                      fiber.resume(packet);
-                    } else if (throwables.size() == 1) {
-                      fiber.terminate(throwables.get(0), packet);
-                    } else {
-                      fiber.terminate(new MultiThrowable(throwables), packet);
-                    }
-                  }
-                }
-              };
+          CompletionCallback callback = new JoinCompletionCallback(fiber, packet, startDetails.size());
           // start forked fibers
           for (StepAndPacket sp : startDetails) {
             fiber.createChildFiber().start(sp.step, sp.packet, callback);
@@ -335,6 +321,28 @@ public abstract class Step {
         });
   }
 
+  /**
+   * Create a {@link NextAction} like {@link #doForkJoin(Step, Packet, Collection)}, but which runs no more than
+   * the specified number of child fibers at a time. The children are started in the order of the collection,
+   * each waiting until an earlier one completes.
+   *
+   * @param step Step to invoke next when resumed after child fibers complete
+   * @param packet Resume packet
+   * @param startDetails Pairs of step and packet to use when starting child fibers
+   * @param maxConcurrency the maximum number of child fibers to run at once. If not positive, runs all of them.
+   * @return Next action
+   */
+  protected NextAction doForkJoin(
+      Step step, Packet packet, Collection<StepAndPacket> startDetails, int maxConcurrency) {
+    if (maxConcurrency <= 0 || maxConcurrency >= startDetails.size()) {
+      return doForkJoin(step, packet, startDetails);
+    }
+
+    return doSuspend(
+        step,
+        fiber -> new BoundedJoinCompletionCallback(fiber, packet, startDetails).startChildren(maxConcurrency));
+  }
+
   /** Multi-exception. */
   public static class MultiThrowable extends RuntimeException {
     private final List<Throwable> throwables;
@@ -354,7 +362,7 @@ public abstract class Step {
     }
   }
 
-  private abstract static class JoinCompletionCallback implements CompletionCallback {
+  private static class JoinCompletionCallback implements CompletionCallback {
     protected final AsyncFiber fiber;
     protected final Packet packet;
     protected final AtomicInteger count;
@@ -366,6 +374,21 @@ public abstract class Step {
       this.count = new AtomicInteger(initialCount);
     }
 
+    @Override
+    public void onCompletion(Packet p) {
+      int current = count.decrementAndGet();
+      if (current == 0) {
+        // no need to synchronize throwables as all fibers are done
+        if (throwables.isEmpty()) {
+          fiber.resume(packet);
+        } else if (throwables.size() == 1) {
+          fiber.terminate(throwables.get(0), packet);
+        } else {
+          fiber.terminate(new MultiThrowable(throwables), packet);
+        }
+      }
+    }
+
     @Override
     public void onThrowable(Packet p, Throwable throwable) {
       synchronized (throwables) {
@@ -383,6 +406,38 @@ public abstract class Step {
     }
   }
 
+  private static class BoundedJoinCompletionCallback extends JoinCompletionCallback {
+    private final Queue<StepAndPacket> waiting;
+
+    BoundedJoinCompletionCallback(AsyncFiber fiber, Packet packet, Collection<StepAndPacket> startDetails) {
+      super(fiber, packet, startDetails.size());
+      this.waiting = new ConcurrentLinkedQueue<>(startDetails);
+    }
+
+    void startChildren(int maxConcurrency) {
+      for (int i = 0; i < maxConcurrency; i++) {
+        startNextChild();
+      }
+    }
+
+    // starts the next waiting child, if any, before counting the completion, so that the parent is not resumed early
+    private void startNextChild() {
+      Optional.ofNullable(waiting.poll()).ifPresent(sp -> fiber.createChildFiber().start(sp.step, sp.packet, this));
+    }
+
+    @Override
+    public void onCompletion(Packet p) {
+      startNextChild();
+      super.onCompletion(p);
+    }
+
+    @Override
+    public void onThrowable(Packet p, Throwable throwable) {
+      startNextChild();
+      super.onThrowable(p, throwable);
+    }
+  }
+
   public static class StepAndPacket {
     public final Step step;
     public final Packet packet;
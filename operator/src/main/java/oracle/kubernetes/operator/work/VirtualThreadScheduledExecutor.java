@@ -0,0 +1,243 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+
+/**
+ * A scheduled executor service which runs each task on its own virtual thread. Timed operations are handled by a
+ * small pool of platform threads, which only wait for the requested delay and then hand the task off
+ * to a virtual thread. A periodic task is handed off once per period, and its next run is scheduled only once
+ * the previous one completes, so that runs never overlap. The futures returned complete when the task itself
+ * completes, not when it is handed off.
+ *
+ * <p>Virtual threads require a JVM which supports them. Use {@link #isSupported()} to check before creating
+ * an instance with {@link #create(ThreadFactory, int)}.
+ */
+class VirtualThreadScheduledExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+
+  private static final String VIRTUAL_THREADS_NOT_SUPPORTED = "Virtual threads are not supported by this JVM";
+  private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+
+  private final ExecutorService taskExecutor;
+  private final ScheduledExecutorService timer;
+
+  VirtualThreadScheduledExecutor(ExecutorService taskExecutor, ScheduledExecutorService timer) {
+    this.taskExecutor = taskExecutor;
+    this.timer = timer;
+  }
+
+  /**
+   * Returns true if the current JVM is able to create virtual threads.
+   */
+  static boolean isSupported() {
+    return VIRTUAL_THREAD_FACTORY != null;
+  }
+
+  /**
+   * Creates an executor which runs tasks on virtual threads.
+   * @param timerThreadFactory a factory for the platform threads used to handle delays
+   * @param timerThreadCount the number of platform threads used to handle delays
+   */
+  static VirtualThreadScheduledExecutor create(ThreadFactory timerThreadFactory, int timerThreadCount) {
+    ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(timerThreadCount, timerThreadFactory);
+    timer.setRemoveOnCancelPolicy(true);
+    return new VirtualThreadScheduledExecutor(createThreadPerTaskExecutor(), timer);
+  }
+
+  // Virtual threads are only available from Java 21, while the operator is compiled for an earlier release,
+  // so the factory must be obtained reflectively. Returns null if the running JVM does not support them.
+  private static ThreadFactory createVirtualThreadFactory() {
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+      return (ThreadFactory) factory.invoke(builder);
+    } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+      return null;
+    }
+  }
+
+  private static ExecutorService createThreadPerTaskExecutor() {
+    if (!isSupported()) {
+      throw new UnsupportedOperationException(VIRTUAL_THREADS_NOT_SUPPORTED);
+    }
+
+    try {
+      return (ExecutorService) Executors.class
+            .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+            .invoke(null, VIRTUAL_THREAD_FACTORY);
+    } catch (ReflectiveOperationException e) {
+      throw new UnsupportedOperationException(VIRTUAL_THREADS_NOT_SUPPORTED, e);
+    }
+  }
+
+  @Override
+  public void execute(@Nonnull Runnable command) {
+    taskExecutor.execute(command);
+  }
+
+  @Override
+  @Nonnull
+  public ScheduledFuture<?> schedule(@Nonnull Runnable command, long delay, @Nonnull TimeUnit unit) {
+    return new HandedOffTask<>(command, triggerTime(delay, unit), 0).start();
+  }
+
+  @Override
+  @Nonnull
+  public <V> ScheduledFuture<V> schedule(@Nonnull Callable<V> callable, long delay, @Nonnull TimeUnit unit) {
+    return new HandedOffTask<>(callable, triggerTime(delay, unit)).start();
+  }
+
+  @Override
+  @Nonnull
+  public ScheduledFuture<?> scheduleAtFixedRate(
+        @Nonnull Runnable command, long initialDelay, long period, @Nonnull TimeUnit unit) {
+    return new HandedOffTask<>(command, triggerTime(initialDelay, unit), toPositiveNanos(period, unit)).start();
+  }
+
+  @Override
+  @Nonnull
+  public ScheduledFuture<?> scheduleWithFixedDelay(
+        @Nonnull Runnable command, long initialDelay, long delay, @Nonnull TimeUnit unit) {
+    return new HandedOffTask<>(command, triggerTime(initialDelay, unit), -toPositiveNanos(delay, unit)).start();
+  }
+
+  private static long triggerTime(long delay, TimeUnit unit) {
+    return System.nanoTime() + unit.toNanos(Math.max(0, delay));
+  }
+
+  private static long toPositiveNanos(long period, TimeUnit unit) {
+    if (period <= 0) {
+      throw new IllegalArgumentException("Period must be positive");
+    }
+    return unit.toNanos(period);
+  }
+
+  /**
+   * A task which a timer thread hands off to the task executor when it is due. As in
+   * {@link ScheduledThreadPoolExecutor}, a positive period is a fixed rate, a negative one a fixed delay,
+   * and zero a task which runs once.
+   */
+  private class HandedOffTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+    private final long period;
+    private volatile long time;
+    private volatile ScheduledFuture<?> trigger;
+
+    HandedOffTask(Callable<V> callable, long time) {
+      super(callable);
+      this.time = time;
+      this.period = 0;
+    }
+
+    HandedOffTask(Runnable command, long time, long period) {
+      super(command, null);
+      this.time = time;
+      this.period = period;
+    }
+
+    // The timer may hand off, and so cancel, the task before the trigger is recorded. If so, the trigger is
+    // cancelled here instead.
+    HandedOffTask<V> start() {
+      trigger = timer.schedule(this::handOff, time - System.nanoTime(), TimeUnit.NANOSECONDS);
+      if (isCancelled()) {
+        trigger.cancel(false);
+      }
+      return this;
+    }
+
+    private void handOff() {
+      if (isDone()) {
+        return;
+      }
+
+      try {
+        taskExecutor.execute(this);
+      } catch (RejectedExecutionException e) {
+        cancel(false);
+      }
+    }
+
+    @Override
+    public void run() {
+      if (period == 0) {
+        super.run();
+      } else if (runAndReset()) {
+        time = period > 0 ? time + period : System.nanoTime() - period;
+        scheduleNextRun();
+      }
+    }
+
+    private void scheduleNextRun() {
+      try {
+        start();
+      } catch (RejectedExecutionException e) {
+        cancel(false);
+      }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      final boolean cancelled = super.cancel(mayInterruptIfRunning);
+      Optional.ofNullable(trigger).ifPresent(t -> t.cancel(false));
+      return cancelled;
+    }
+
+    @Override
+    public long getDelay(@Nonnull TimeUnit unit) {
+      return unit.convert(time - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(@Nonnull Delayed other) {
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    timer.shutdown();
+    taskExecutor.shutdown();
+  }
+
+  @Override
+  @Nonnull
+  public List<Runnable> shutdownNow() {
+    List<Runnable> result = new ArrayList<>(timer.shutdownNow());
+    result.addAll(taskExecutor.shutdownNow());
+    return result;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return timer.isShutdown() && taskExecutor.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return timer.isTerminated() && taskExecutor.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    return timer.awaitTermination(timeout, unit)
+          && taskExecutor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+  }
+}
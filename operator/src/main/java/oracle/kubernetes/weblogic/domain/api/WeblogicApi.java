@@ -1,8 +1,10 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.weblogic.domain.api;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -480,6 +482,33 @@ public class WeblogicApi extends CustomObjectsApi {
         name, body, null, null, wrapForDomain(callback));
   }
 
+  /**
+   * Asynchronously apply a JSON merge patch to the domain status. The generated client selects the JSON patch
+   * content type for all custom object patches, so this call is built directly.
+   *
+   * @param name      name
+   * @param namespace namespace
+   * @param body      merge patch
+   * @param callback  callback
+   * @return call
+   * @throws ApiException on failure
+   */
+  public Call mergePatchNamespacedDomainStatusAsync(
+      String name, String namespace, V1Patch body, ApiCallback<DomainResource> callback)
+      throws ApiException {
+    ApiClient client = getApiClient();
+    String path = String.format("/apis/%s/%s/namespaces/%s/%s/%s/status", DOMAIN_GROUP, DOMAIN_VERSION,
+        client.escapeString(namespace), DOMAIN_PLURAL, client.escapeString(name));
+    Map<String, String> headerParams = new HashMap<>();
+    headerParams.put("Accept", "application/json");
+    headerParams.put("Content-Type", V1Patch.PATCH_FORMAT_JSON_MERGE_PATCH);
+    ApiCallback<Object> wrapped = wrapForDomain(callback);
+    Call call = client.buildCall(path, "PATCH", new ArrayList<>(), new ArrayList<>(), body,
+        headerParams, new HashMap<>(), new HashMap<>(), new String[] {"BearerToken"}, wrapped);
+    client.executeAsync(call, Object.class, wrapped);
+    return call;
+  }
+
   private ApiCallback<Object> wrapForCluster(ApiCallback<ClusterResource> inner) {
     return Optional.ofNullable(inner).map(ClusterApiCallbackWrapper::new).orElse(null);
   }
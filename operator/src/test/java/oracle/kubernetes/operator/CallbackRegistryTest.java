@@ -0,0 +1,164 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class CallbackRegistryTest {
+
+  private static final int NUM_AWAITERS = 1000;
+  private static final int NUM_RESOURCES = 100;
+  private static final int MIN_EVENTS = 10_000;
+
+  private final CallbackRegistry<String> registry = new CallbackRegistry<>();
+  private final List<String> received = new ArrayList<>();
+
+  @Test
+  void dispatch_invokesAllCallbacksForName() {
+    registry.add("pod1", s -> received.add("first " + s));
+    registry.add("pod1", s -> received.add("second " + s));
+    registry.add("pod2", s -> received.add("other " + s));
+
+    registry.dispatch("pod1", "event");
+
+    assertThat(received, contains("first event", "second event"));
+  }
+
+  @Test
+  void afterCallbackRemoved_dispatchDoesNotInvokeIt() {
+    Consumer<String> callback = s -> received.add("removed " + s);
+    registry.add("pod1", s -> received.add("kept " + s));
+    registry.add("pod1", callback);
+
+    registry.remove("pod1", callback);
+    registry.dispatch("pod1", "event");
+
+    assertThat(received, contains("kept event"));
+  }
+
+  @Test
+  void afterLastCallbackRemoved_forgetName() {
+    Consumer<String> callback = received::add;
+    registry.add("pod1", callback);
+
+    registry.remove("pod1", callback);
+
+    assertThat(registry.size(), equalTo(0));
+  }
+
+  @Test
+  void whenCallbackRemovesItselfDuringDispatch_invokeRemainingCallbacks() {
+    registry.add("pod1", new SelfRemovingCallback("pod1"));
+    registry.add("pod1", s -> received.add("second " + s));
+
+    registry.dispatch("pod1", "event");
+
+    assertThat(received, contains("self-removing event", "second event"));
+    assertThat(registry.get("pod1").size(), equalTo(1));
+  }
+
+  class SelfRemovingCallback implements Consumer<String> {
+    private final String name;
+
+    SelfRemovingCallback(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void accept(String event) {
+      registry.remove(name, this);
+      received.add("self-removing " + event);
+    }
+  }
+
+  @Test
+  void removeAll_returnsAndForgetsCallbacks() {
+    registry.add("pod1", received::add);
+
+    assertThat(registry.removeAll("pod1").size(), equalTo(1));
+    assertThat(registry.get("pod1"), empty());
+  }
+
+  // A stress test of many fibers waiting for pods while watch events arrive: each awaiter registers a callback,
+  // which removes itself when invoked, as WaitForReadyStep callbacks do. At least 10,000 events are dispatched,
+  // more than a large domain namespace might see in a minute.
+  @Test
+  void whenManyAwaitersRegisterDuringEvents_allAreResumedAndRemoved() throws InterruptedException {
+    final CountDownLatch allResumed = new CountDownLatch(NUM_AWAITERS);
+    final AtomicInteger numResumed = new AtomicInteger();
+    final AtomicBoolean stopping = new AtomicBoolean();
+    final AtomicInteger numEvents = new AtomicInteger();
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      for (int i = 0; i < 2; i++) {
+        executor.execute(() -> dispatchEvents(stopping, numEvents));
+      }
+      for (int i = 0; i < NUM_AWAITERS; i++) {
+        final String name = getResourceName(i);
+        executor.execute(() -> registry.add(name, new AwaiterCallback(name, allResumed, numResumed)));
+      }
+
+      assertThat(allResumed.await(60, TimeUnit.SECONDS), is(true));
+      while (numEvents.get() < MIN_EVENTS) {
+        Thread.onSpinWait();
+      }
+      stopping.set(true);
+
+      assertThat(numResumed.get(), equalTo(NUM_AWAITERS));
+      assertThat(registry.size(), equalTo(0));
+    } finally {
+      stopping.set(true);
+      executor.shutdownNow();
+    }
+  }
+
+  private String getResourceName(int i) {
+    return "pod" + (i % NUM_RESOURCES);
+  }
+
+  private void dispatchEvents(AtomicBoolean stopping, AtomicInteger numEvents) {
+    for (int i = 0; !stopping.get(); i++) {
+      registry.dispatch(getResourceName(i), "event");
+      numEvents.incrementAndGet();
+    }
+  }
+
+  class AwaiterCallback implements Consumer<String> {
+    private final String name;
+    private final CountDownLatch allResumed;
+    private final AtomicInteger numResumed;
+    private final AtomicBoolean resumed = new AtomicBoolean();
+
+    AwaiterCallback(String name, CountDownLatch allResumed, AtomicInteger numResumed) {
+      this.name = name;
+      this.allResumed = allResumed;
+      this.numResumed = numResumed;
+    }
+
+    @Override
+    public void accept(String event) {
+      registry.remove(name, this);
+      if (resumed.compareAndSet(false, true)) {
+        numResumed.incrementAndGet();
+        allResumed.countDown();
+      }
+    }
+  }
+}
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.stream.IntStream;
 
@@ -20,6 +21,7 @@ import io.kubernetes.client.openapi.models.V1ObjectReference;
 import io.kubernetes.client.openapi.models.V1PersistentVolume;
 import io.kubernetes.client.openapi.models.V1PersistentVolumeClaim;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1Service;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.helpers.ClusterPresenceInfo;
@@ -29,6 +31,7 @@ import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.helpers.OperatorServiceType;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.work.Engine;
 import oracle.kubernetes.operator.work.Fiber;
@@ -63,6 +66,7 @@ import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CLUSTER;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.tuning.TuningParameters.DEFAULT_CALL_LIMIT;
 import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
@@ -84,6 +88,8 @@ class DomainPresenceTest extends ThreadFactoryTestBase {
   private static final int LAST_DOMAIN_NUM = 2 * CALL_REQUEST_LIMIT - 1;
   /** More than one chunk's worth of pods. */
   private static final int MULTICHUNK_LAST_POD_NUM = 2 * DEFAULT_CALL_LIMIT - 1;
+  private static final int LARGE_NAMESPACE_PAGE_COUNT = 100;
+  private static final int LARGE_NAMESPACE_POD_COUNT = LARGE_NAMESPACE_PAGE_COUNT * DEFAULT_CALL_LIMIT - 1;
 
   public static final String CLUSTER_1 = "cluster1";
   public static final String CLUSTER_2 = "cluster2";
@@ -124,6 +130,14 @@ class DomainPresenceTest extends ThreadFactoryTestBase {
     assertThat(dp.getDomainPresenceInfos(), is(anEmptyMap()));
   }
 
+  @Test
+  void afterReadingExistingResources_recordThatNamespaceWasListed() {
+    testSupport.addComponent("DP", DomainProcessor.class, dp);
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+
+    assertThat(dp.getListedNamespaces(), contains(NS));
+  }
+
   @Test
   void whenPreexistingDomainExistsWithoutPodsOrServices_addToPresenceMap() {
     DomainResource domain = createDomain(UID1, NS);
@@ -465,6 +479,63 @@ class DomainPresenceTest extends ThreadFactoryTestBase {
         notNullValue());
   }
 
+  @Test
+  void whenDomainsSpanSeveralListPages_establishDomainsFromEveryPage() {
+    TuningParametersStub.setParameter(TuningParameters.CALL_REQUEST_LIMIT, Integer.toString(CALL_REQUEST_LIMIT));
+    createDomains(LAST_DOMAIN_NUM);
+
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+
+    assertThat(getDomainPresenceInfoMap(dp).keySet(), hasSize(LAST_DOMAIN_NUM));
+    assertThat(dp.isEstablishingDomain("UID1"), is(true));
+    assertThat(dp.isEstablishingDomain("UID" + LAST_DOMAIN_NUM), is(true));
+  }
+
+  @Test
+  void whenClustersSpanSeveralListPages_addClustersFromEveryPageToDomainPresenceInfo() {
+    TuningParametersStub.setParameter(TuningParameters.CALL_REQUEST_LIMIT, "2");
+    for (String clusterName : List.of(CLUSTER_1, CLUSTER_2, CLUSTER_3)) {
+      testSupport.defineResources(createClusterResource(NS, clusterName));
+      domain.getSpec().getClusters().add(new V1LocalObjectReference().name(clusterName));
+    }
+    testSupport.defineResources(domain);
+    testSupport.addComponent("DP", DomainProcessor.class, dp);
+
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+
+    DomainPresenceInfo info = getDomainPresenceInfo(dp, UID1);
+    assertThat(info.getClusterResource(CLUSTER_1), notNullValue());
+    assertThat(info.getClusterResource(CLUSTER_3), notNullValue());
+  }
+
+  @Test
+  void whenPodsSpanSeveralListPages_recordPodsFromEveryPageInInformer() {
+    addDomainResource(UID1, NS);
+    createPodResources(UID1, NS, MULTICHUNK_LAST_POD_NUM);
+
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+
+    assertThat(domainNamespaces.getPodInformer().getResources(NS), hasSize(MULTICHUNK_LAST_POD_NUM));
+  }
+
+  @Test
+  void whenNamespaceHasManyPods_processEachListPageAsItArrives() {
+    createPodResources(UID1, NS, LARGE_NAMESPACE_POD_COUNT);
+    List<Integer> pageSizes = new ArrayList<>();
+    NamespacedResources resources = new NamespacedResources(NS, null, null);
+    resources.addProcessing(new Processors() {
+      @Override
+      public Consumer<V1PodList> getPodListProcessing() {
+        return list -> pageSizes.add(list.getItems().size());
+      }
+    });
+
+    testSupport.runSteps(resources.createListSteps());
+
+    assertThat(pageSizes, hasSize(LARGE_NAMESPACE_PAGE_COUNT));
+    assertThat(pageSizes.stream().mapToInt(Integer::intValue).max().orElse(0), equalTo(DEFAULT_CALL_LIMIT));
+  }
+
   @Test
   void whenK8sHasOneDomainWithPodButMissingInfo_dontRecordPodPresence() {
     addDomainResource(UID1, NS);
@@ -614,6 +685,7 @@ class DomainPresenceTest extends ThreadFactoryTestBase {
     private final Map<String, Map<String, DomainPresenceInfo>> domains = new ConcurrentHashMap<>();
     private final Map<String, Map<String, ClusterPresenceInfo>> clusters = new ConcurrentHashMap<>();
     private final Map<String, FiberGate> makeRightFiberGates = createMakeRightFiberGateMap();
+    private final List<String> listedNamespaces = new ArrayList<>();
     private boolean statusUpdated = false;
 
     @NotNull
@@ -631,6 +703,15 @@ class DomainPresenceTest extends ThreadFactoryTestBase {
       return clusters.get(NS);
     }
 
+    List<String> getListedNamespaces() {
+      return listedNamespaces;
+    }
+
+    @Override
+    public void recordResourcesListed(String namespace) {
+      listedNamespaces.add(namespace);
+    }
+
     @Override
     public void updateDomainStatus(V1Pod pod, DomainPresenceInfo info) {
       statusUpdated = true;
@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -26,6 +26,7 @@ class DomainProcessorTestSupport implements Memento {
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "namespaceEventK8SObjects", new HashMap<>()));
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "makeRightFiberGates", new HashMap<>()));
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "statusFiberGates", new HashMap<>()));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "resourcesListedTimes", new HashMap<>()));
     return this;
   }
 
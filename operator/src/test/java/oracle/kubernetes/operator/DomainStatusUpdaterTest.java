@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -10,13 +10,17 @@ import java.util.concurrent.TimeUnit;
 import java.util.logging.LogRecord;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.calls.UnrecoverableCallException;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.LegalNames;
+import oracle.kubernetes.operator.helpers.OnConflictRetryStrategyStub;
+import oracle.kubernetes.operator.http.metrics.DomainStatusWriteMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
@@ -31,6 +35,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.common.logging.MessageKeys.ABORTED_EVENT_ERROR;
 import static oracle.kubernetes.common.logging.MessageKeys.DOMAIN_FATAL_ERROR;
 import static oracle.kubernetes.common.logging.MessageKeys.DOMAIN_ROLL_START;
@@ -44,8 +49,10 @@ import static oracle.kubernetes.operator.EventConstants.DOMAIN_FAILED_EVENT;
 import static oracle.kubernetes.operator.EventConstants.DOMAIN_ROLL_STARTING_EVENT;
 import static oracle.kubernetes.operator.EventMatcher.hasEvent;
 import static oracle.kubernetes.operator.EventTestUtils.getLocalizedString;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_CONFLICT;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTOR_JOB;
 import static oracle.kubernetes.operator.ProcessingConstants.FATAL_INTROSPECTOR_ERROR;
+import static oracle.kubernetes.operator.tuning.TuningParameters.DOMAIN_STATUS_WRITE_COALESCING_SECONDS;
 import static oracle.kubernetes.weblogic.domain.model.DomainCondition.TRUE;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionMatcher.hasCondition;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.FAILED;
@@ -53,6 +60,7 @@ import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.ROLLIN
 import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.ABORTED;
 import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.INTERNAL;
 import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.KUBERNETES;
+import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.SERVER_POD;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.Matchers.equalTo;
@@ -69,6 +77,7 @@ class DomainStatusUpdaterTest {
   private static final String ADMIN = "admin";
   public static final String CLUSTER = "cluster1";
   private static final String JOB_UID = "JOB";
+  private static final int COALESCING_SECONDS = 10;
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private final List<Memento> mementos = new ArrayList<>();
   private final DomainResource domain = DomainProcessorTestSetup.createTestDomain();
@@ -89,6 +98,8 @@ class DomainStatusUpdaterTest {
     mementos.add(ClientFactoryStub.install());
     mementos.add(SystemClockTestSupport.installClock());
     mementos.add(TuningParametersStub.install());
+    mementos.add(StaticStubSupport.install(DomainStatusUpdater.class, "writeCoalescer",
+        new DomainStatusWriteCoalescer()));
 
     domain.setStatus(new DomainStatus());
     info.setAdminServerName(ADMIN);
@@ -269,6 +280,103 @@ class DomainStatusUpdaterTest {
     assertThat(getRecordedDomain().getOrCreateStatus().getFailedIntrospectionUid(), equalTo(JOB_UID));
   }
 
+  @Test
+  void whenStatusWriteCoalescingEnabled_writeFirstChangeImmediately() {
+    enableStatusWriteCoalescing();
+    double written = DomainStatusWriteMetrics.getWrittenCount();
+
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+
+    assertThat(getRecordedDomain().getStatus().isRolling(), is(true));
+    assertThat(DomainStatusWriteMetrics.getWrittenCount(), equalTo(written + 1));
+  }
+
+  private void enableStatusWriteCoalescing() {
+    TuningParametersStub.setParameter(DOMAIN_STATUS_WRITE_COALESCING_SECONDS, Integer.toString(COALESCING_SECONDS));
+  }
+
+  @Test
+  void whenStatusChangedWithinCoalescingWindow_deferWrite() {
+    enableStatusWriteCoalescing();
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+    double written = DomainStatusWriteMetrics.getWrittenCount();
+    double coalesced = DomainStatusWriteMetrics.getCoalescedCount();
+
+    testSupport.runSteps(DomainStatusUpdater.createServerPodFailureSteps(message));
+
+    assertThat(DomainStatusWriteMetrics.getWrittenCount(), equalTo(written));
+    assertThat(DomainStatusWriteMetrics.getCoalescedCount(), equalTo(coalesced + 1));
+  }
+
+  @Test
+  void afterCoalescingWindow_writeDeferredChangesInSingleWrite() {
+    enableStatusWriteCoalescing();
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+    testSupport.runSteps(DomainStatusUpdater.createServerPodFailureSteps(message));
+    double written = DomainStatusWriteMetrics.getWrittenCount();
+
+    SystemClockTestSupport.increment(COALESCING_SECONDS);
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+
+    assertThat(DomainStatusWriteMetrics.getWrittenCount(), equalTo(written + 1));
+    assertThat(getRecordedDomain(), hasCondition(FAILED).withReason(SERVER_POD));
+  }
+
+  @Test
+  void whenStatusWriteConflicts_recordConflict() {
+    enableStatusWriteCoalescing();
+    testSupport.failOnPatchStatus(KubernetesTestSupport.DOMAIN_STATUS, NAME, NS, HTTP_CONFLICT);
+    double conflicted = DomainStatusWriteMetrics.getConflictedCount();
+
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+
+    testSupport.verifyCompletionThrowable(UnrecoverableCallException.class);
+    assertThat(DomainStatusWriteMetrics.getConflictedCount(), equalTo(conflicted + 1));
+  }
+
+  @Test
+  void statusMergePatch_removesFieldsAbsentFromNewStatus() {
+    DomainStatus oldStatus = new DomainStatus().withMessage("old message").withReplicas(2);
+    DomainStatus newStatus = new DomainStatus().withReplicas(3);
+
+    String patch = DomainStatusWriteCoalescer.createMergePatch(domain, oldStatus, newStatus);
+
+    assertThat(patch, containsString("\"message\":null"));
+    assertThat(patch, containsString("\"replicas\":3"));
+  }
+
+  @Test
+  void statusMergePatch_requiresResourceVersionOfDomain() {
+    domain.getMetadata().setResourceVersion("17");
+
+    String patch = DomainStatusWriteCoalescer.createMergePatch(domain, new DomainStatus(), new DomainStatus());
+
+    assertThat(patch, containsString("\"resourceVersion\":\"17\""));
+  }
+
+  @Test
+  void whenDomainChangedBeforeDeferredChangesWritten_recordConflictAndWriteThemAfterRereading() {
+    enableStatusWriteCoalescing();
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+    testSupport.runSteps(DomainStatusUpdater.createServerPodFailureSteps(message));
+    double conflicted = DomainStatusWriteMetrics.getConflictedCount();
+
+    changeDomainResourceVersion();
+    testSupport.addRetryStrategy(createStrictStub(OnConflictRetryStrategyStub.class));
+    SystemClockTestSupport.increment(COALESCING_SECONDS);
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+
+    assertThat(DomainStatusWriteMetrics.getConflictedCount(), equalTo(conflicted + 1));
+    assertThat(getRecordedDomain(), hasCondition(FAILED).withReason(SERVER_POD));
+    assertThat(getRecordedDomain().getStatus().isRolling(), is(true));
+  }
+
+  // simulates a change to the domain by another client
+  private void changeDomainResourceVersion() {
+    V1ObjectMeta metadata = getRecordedDomain().getMetadata();
+    metadata.setResourceVersion(Long.toString(Long.parseLong(metadata.getResourceVersion()) + 1));
+  }
+
   @SuppressWarnings("SameParameterValue")
   private V1Job createIntrospectorJob(String uid) {
     return new V1Job().metadata(createJobMetadata(uid)).status(new V1JobStatus());
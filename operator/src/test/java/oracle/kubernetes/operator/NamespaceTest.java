@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -8,6 +8,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
@@ -18,7 +19,9 @@ import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.Stub;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.VersionInfo;
+import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.HelmAccessStub;
@@ -27,6 +30,7 @@ import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.OnConflictRetryStrategyStub;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import org.hamcrest.MatcherAssert;
@@ -45,10 +49,13 @@ import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.NAMESPACE
 import static oracle.kubernetes.operator.helpers.EventHelper.createEventStep;
 import static oracle.kubernetes.operator.helpers.HelmAccess.OPERATOR_DOMAIN_NAMESPACES;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
+import static oracle.kubernetes.operator.tuning.TuningParameters.CLUSTER_SCOPED_WATCHES;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -115,6 +122,138 @@ public class NamespaceTest {
     assertThat(stopping.get(), is(true));
   }
 
+  @Test
+  void withClusterScopedWatchesAndLabelSelectorStrategy_namespacesShareClusterScopedWatcher() {
+    initializeLabeledNamespacesWithClusterScopedWatches();
+
+    assertThat(domainNamespaces.getClusterScopedPodWatcher(), notNullValue());
+    assertThat(domainNamespaces.getClusterScopedPodWatcher().getNamespace(), nullValue());
+    assertThat(domainNamespaces.getPodWatcher(NS), notNullValue());
+    assertThat(domainNamespaces.getPodWatcher(ADDITIONAL_NS1), notNullValue());
+  }
+
+  @Test
+  void withoutClusterScopedWatches_dontCreateClusterScopedWatcher() {
+    initializeNamespaces();
+
+    assertThat(domainNamespaces.getClusterScopedPodWatcher(), nullValue());
+  }
+
+  @Test
+  void withClusterScopedWatchesAndListStrategy_dontCreateClusterScopedWatcher() {
+    TuningParametersStub.setParameter(CLUSTER_SCOPED_WATCHES, "true");
+    initializeNamespaces();
+
+    assertThat(domainNamespaces.getClusterScopedPodWatcher(), nullValue());
+  }
+
+  @Test
+  void withClusterScopedWatches_eventsForManagedNamespacesAreDispatched() {
+    initializeLabeledNamespacesWithClusterScopedWatches();
+
+    domainNamespaces.getClusterScopedPodWatcher().receivedResponse(new Watch.Response<>("ADDED", createPod(NS)));
+
+    assertThat(domainNamespaces.getPodInformer().getResource(NS, "pod1"), notNullValue());
+  }
+
+  @Test
+  void withClusterScopedWatches_eventsForUnmanagedNamespacesAreIgnored() {
+    initializeLabeledNamespacesWithClusterScopedWatches();
+
+    domainNamespaces.getClusterScopedPodWatcher()
+        .receivedResponse(new Watch.Response<>("ADDED", createPod(ADDITIONAL_NS2)));
+
+    assertThat(domainNamespaces.getPodInformer().getResource(ADDITIONAL_NS2, "pod1"), nullValue());
+  }
+
+  @Test
+  void withClusterScopedWatches_eventsReceivedWhilePaused_areDispatchedOnResume() {
+    initializeLabeledNamespacesWithClusterScopedWatches();
+    PodWatcher podWatcher = domainNamespaces.getPodWatcher(NS);
+
+    podWatcher.pause();
+    domainNamespaces.getClusterScopedPodWatcher().receivedResponse(new Watch.Response<>("ADDED", createPod(NS)));
+    assertThat(domainNamespaces.getPodInformer().getResource(NS, "pod1"), nullValue());
+
+    podWatcher.resume();
+    assertThat(domainNamespaces.getPodInformer().getResource(NS, "pod1"), notNullValue());
+  }
+
+  @Test
+  void withClusterScopedWatches_tooManyEventsReceivedWhilePaused_areDiscardedOnResume() {
+    initializeLabeledNamespacesWithClusterScopedWatches();
+    PodWatcher podWatcher = domainNamespaces.getPodWatcher(NS);
+
+    podWatcher.pause();
+    for (int i = 0; i <= Watcher.MAX_HELD_EVENTS; i++) {
+      domainNamespaces.getClusterScopedPodWatcher()
+          .receivedResponse(new Watch.Response<>("ADDED", createPod(NS, "pod" + i)));
+    }
+    podWatcher.resume();
+
+    assertThat(domainNamespaces.getPodInformer().getResource(NS, "pod0"), nullValue());
+  }
+
+  @Test
+  void withClusterScopedWatches_afterEventsDiscarded_clusterScopedWatchRelists() {
+    initializeLabeledNamespacesWithClusterScopedWatches();
+    PodWatcher podWatcher = domainNamespaces.getPodWatcher(NS);
+
+    podWatcher.pause();
+    for (int i = 0; i <= Watcher.MAX_HELD_EVENTS; i++) {
+      domainNamespaces.getClusterScopedPodWatcher()
+          .receivedResponse(new Watch.Response<>("ADDED", createPod(NS, "pod" + i)));
+    }
+    podWatcher.resume();
+
+    assertThat(domainNamespaces.getClusterScopedPodWatcher().isRelistRequested(), is(true));
+  }
+
+  @Test
+  void withClusterScopedWatches_eventsForNamespaceReceivedBeforeItsList_areNotDispatched() {
+    initializeLabeledNamespacesWithClusterScopedWatches();
+    Step readNamespace = domainNamespaces.readExistingResources(ADDITIONAL_NS2, dp);
+
+    domainNamespaces.getClusterScopedPodWatcher()
+        .receivedResponse(new Watch.Response<>("ADDED", createPod(ADDITIONAL_NS2)));
+    testSupport.runSteps(readNamespace);
+
+    assertThat(domainNamespaces.getPodInformer().getResource(ADDITIONAL_NS2, "pod1"), nullValue());
+  }
+
+  @Test
+  void withClusterScopedWatches_eventsForNamespaceBeingListed_areDispatchedAfterList() {
+    initializeLabeledNamespacesWithClusterScopedWatches();
+    Step readNamespace = domainNamespaces.readExistingResources(ADDITIONAL_NS2, dp);
+
+    testSupport.doAfterCall(POD, "listPod", () -> domainNamespaces.getClusterScopedPodWatcher()
+        .receivedResponse(new Watch.Response<>("ADDED", createPod(ADDITIONAL_NS2))));
+    testSupport.runSteps(readNamespace);
+
+    assertThat(domainNamespaces.getPodInformer().getResource(ADDITIONAL_NS2, "pod1"), notNullValue());
+  }
+
+  private V1Pod createPod(String namespace) {
+    return createPod(namespace, "pod1");
+  }
+
+  private V1Pod createPod(String namespace, String name) {
+    return new V1Pod().metadata(new V1ObjectMeta().namespace(namespace).name(name));
+  }
+
+  private void initializeLabeledNamespacesWithClusterScopedWatches() {
+    HelmAccessStub.defineVariable(SELECTION_STRATEGY_KEY, Namespaces.SelectionStrategy.LABEL_SELECTOR.toString());
+    TuningParametersStub.setParameter(CLUSTER_SCOPED_WATCHES, "true");
+    testSupport.defineResources(createLabeledNamespace(NS), createDomain(NS));
+    testSupport.defineResources(createLabeledNamespace(ADDITIONAL_NS1), createDomain(ADDITIONAL_NS1));
+    testSupport.defineResources(createNamespace(ADDITIONAL_NS2), createDomain(ADDITIONAL_NS2));
+    processNamespaces();
+  }
+
+  private V1Namespace createLabeledNamespace(String n) {
+    return new V1Namespace().metadata(new V1ObjectMeta().name(n).labels(Map.of("weblogic-operator", "enabled")));
+  }
+
   private void initializeNamespaces() {
     HelmAccessStub.defineVariable(SELECTION_STRATEGY_KEY, Namespaces.SelectionStrategy.LIST.toString());
     defineNamespaces(NS, ADDITIONAL_NS1, ADDITIONAL_NS2);
@@ -44,6 +44,7 @@ import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.Namespaces.SelectionStrategy;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.HelmAccess;
 import oracle.kubernetes.operator.helpers.HelmAccessStub;
 import oracle.kubernetes.operator.helpers.KubernetesEventObjects;
@@ -53,6 +54,7 @@ import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.http.BaseServer;
 import oracle.kubernetes.operator.http.metrics.MetricsServer;
+import oracle.kubernetes.operator.http.metrics.NamespaceStartupMetrics;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.utils.InMemoryFileSystem;
 import oracle.kubernetes.operator.work.Component;
@@ -63,6 +65,9 @@ import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.ThreadFactorySingleton;
 import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.DomainCondition;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
 import org.glassfish.grizzly.http.server.HttpHandlerRegistration;
 import org.glassfish.grizzly.http.server.HttpServer;
 import org.glassfish.jersey.server.ResourceConfig;
@@ -116,6 +121,10 @@ import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.STOP_MANA
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
 import static oracle.kubernetes.operator.tuning.TuningParameters.DEFAULT_CALL_LIMIT;
+import static oracle.kubernetes.operator.tuning.TuningParameters.NAMESPACE_STARTUP_CONCURRENCY;
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.FAILED;
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.ROLLING;
+import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.INTROSPECTION;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItems;
@@ -896,6 +905,58 @@ class OperatorMainTest extends ThreadFactoryTestBase {
     assertThat(logRecords, containsInfo(MessageKeys.BEGIN_MANAGING_NAMESPACE).withParams(NS_WEBLOGIC3));
   }
 
+  @Test
+  void whenNamespaceStartupConcurrencyLimited_startNamespacesWithFailedOrRollingDomainsFirst() {
+    logRecords.clear();
+    loggerControl.withLogLevel(Level.INFO).collectLogMessages(logRecords, MessageKeys.BEGIN_MANAGING_NAMESPACE);
+    TuningParametersStub.setParameter(NAMESPACE_STARTUP_CONCURRENCY, "1");
+    defineSelectionStrategy(SelectionStrategy.LIST);
+    HelmAccessStub.defineVariable(HelmAccess.OPERATOR_DOMAIN_NAMESPACES,
+        String.join(",", NS_WEBLOGIC1, NS_WEBLOGIC2, NS_WEBLOGIC3));
+    testSupport.defineResources(NAMESPACE_WEBLOGIC1, NAMESPACE_WEBLOGIC2, NAMESPACE_WEBLOGIC3);
+    final DomainProcessorWithDomains processor = createNiceStub(DomainProcessorWithDomains.class);
+    processor.defineDomain(NS_WEBLOGIC2, new DomainCondition(ROLLING));
+    processor.defineDomain(NS_WEBLOGIC3, new DomainCondition(FAILED).withReason(INTROSPECTION));
+
+    List<String> namespaces = Arrays.asList(NS_WEBLOGIC1, NS_WEBLOGIC2, NS_WEBLOGIC3);
+    testSupport.runSteps(new DomainRecheck(processor, domainNamespaces).createStartNamespacesStep(namespaces));
+
+    assertThat(consumeManagedNamespaceMessages(), contains(NS_WEBLOGIC2, NS_WEBLOGIC3, NS_WEBLOGIC1));
+  }
+
+  // returns the namespaces in the order in which the operator began to manage them
+  private List<Object> consumeManagedNamespaceMessages() {
+    final List<Object> namespaces = logRecords.stream().map(r -> r.getParameters()[0]).collect(Collectors.toList());
+    logRecords.clear();
+    return namespaces;
+  }
+
+  @Test
+  void afterNamespacesStarted_recordTheirStartupTimes() {
+    defineSelectionStrategy(SelectionStrategy.LIST);
+    HelmAccessStub.defineVariable(HelmAccess.OPERATOR_DOMAIN_NAMESPACES, String.join(",", NS_WEBLOGIC1, NS_WEBLOGIC2));
+    testSupport.defineResources(NAMESPACE_WEBLOGIC1, NAMESPACE_WEBLOGIC2);
+
+    testSupport.runSteps(createDomainRecheck().createStartNamespacesStep(Arrays.asList(NS_WEBLOGIC1, NS_WEBLOGIC2)));
+
+    assertThat(NamespaceStartupMetrics.getStartupSeconds(NS_WEBLOGIC1, NamespaceStartupMetrics.WAITING),
+          notNullValue());
+    assertThat(NamespaceStartupMetrics.getStartupSeconds(NS_WEBLOGIC2, NamespaceStartupMetrics.PROCESSING),
+          notNullValue());
+  }
+
+  @Test
+  void whenNamespaceAlreadyStarted_doNotRecordStartupTime() {
+    defineSelectionStrategy(SelectionStrategy.LIST);
+    HelmAccessStub.defineVariable(HelmAccess.OPERATOR_DOMAIN_NAMESPACES, ns);
+    testSupport.defineResources(new V1Namespace().metadata(new V1ObjectMeta().name(ns)));
+    domainNamespaces.shouldStartNamespace(ns);
+
+    testSupport.runSteps(createDomainRecheck().createStartNamespacesStep(Collections.singletonList(ns)));
+
+    assertThat(NamespaceStartupMetrics.getStartupSeconds(ns, NamespaceStartupMetrics.PROCESSING), nullValue());
+  }
+
   @Test
   void withNamespaceList_onReadNamespaces_whenConfiguredDomainNamespaceMissing_noEventCreated() {
     defineSelectionStrategy(SelectionStrategy.LIST);
@@ -1396,6 +1457,23 @@ class OperatorMainTest extends ThreadFactoryTestBase {
     }
   }
 
+  abstract static class DomainProcessorWithDomains implements DomainProcessor {
+    private final Map<String, Map<String, DomainPresenceInfo>> domains = new ConcurrentHashMap<>();
+
+    void defineDomain(String namespace, DomainCondition condition) {
+      final DomainResource domain = DomainProcessorTestSetup.createTestDomain().withStatus(new DomainStatus());
+      domain.getMetadata().setNamespace(namespace);
+      domain.getStatus().addCondition(condition);
+      domains.computeIfAbsent(namespace, n -> new ConcurrentHashMap<>())
+            .put(domain.getDomainUid(), new DomainPresenceInfo(domain));
+    }
+
+    @Override
+    public Map<String, DomainPresenceInfo> getDomainPresenceInfoMapForNS(String namespace) {
+      return domains.get(namespace);
+    }
+  }
+
   abstract static class MainDelegateStub implements MainDelegate {
     private final FiberTestSupport testSupport;
     private final DomainNamespaces domainNamespaces;
@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -8,9 +8,12 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import com.meterware.pseudoserver.HttpUserAgentTest;
@@ -22,6 +25,8 @@ import io.kubernetes.client.openapi.models.V1PodCondition;
 import io.kubernetes.client.openapi.models.V1PodStatus;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.LegalNames;
+import oracle.kubernetes.operator.http.metrics.ServerStatusReadMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
@@ -31,6 +36,7 @@ import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +49,7 @@ import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.STARTING_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.UNKNOWN_STATE;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -52,6 +59,8 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
   private final TerminalStep endStep = new TerminalStep();
   private final KubernetesExecFactoryFake execFactory = new KubernetesExecFactoryFake();
   private final ReadServerHealthStepFactoryFake stepFactory = new ReadServerHealthStepFactoryFake();
+  private final ReadDomainHealthStepFactoryFake domainStepFactory = new ReadDomainHealthStepFactoryFake();
+  private final ReadStateStepFactoryFake stateStepFactory = new ReadStateStepFactoryFake();
   private final FiberTestSupport testSupport = new FiberTestSupport();
   private final List<Memento> mementos = new ArrayList<>();
   private final DomainResource domain =
@@ -63,6 +72,8 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(execFactory.install());
     mementos.add(StaticStubSupport.install(ServerStatusReader.class, "stepFactory", stepFactory));
+    mementos.add(StaticStubSupport.install(ServerStatusReader.class, "domainStepFactory", domainStepFactory));
+    mementos.add(StaticStubSupport.install(ServerStatusReader.class, "stateStepFactory", stateStepFactory));
     mementos.add(TuningParametersStub.install());
     mementos.add(ClientFactoryStub.install());
 
@@ -232,6 +243,137 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(stepFactory.serverNames, contains("server1"));
   }
 
+  @Test
+  void whenBulkReadEnabledAndAdminServerReady_readOnlyUnreportedServersIndividually() {
+    enableBulkReadWithReadyAdminServer();
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerPod("server2", createPod("server2"));
+    domainStepFactory.reportServer("admin", "RUNNING");
+    domainStepFactory.reportServer("server1", "RUNNING");
+    execFactory.defineResponse("server2", "STARTING");
+    final double execCalls = ServerStatusReadMetrics.getCallCount(ServerStatusReadMetrics.SERVER_EXEC);
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    Map<String, String> serverStates = getServerStates(packet);
+    assertThat(serverStates, hasEntry("server1", "RUNNING"));
+    assertThat(serverStates, hasEntry("server2", "STARTING"));
+    assertThat(ServerStatusReadMetrics.getCallCount(ServerStatusReadMetrics.SERVER_EXEC), is(execCalls + 1));
+  }
+
+  private void enableBulkReadWithReadyAdminServer() {
+    TuningParametersStub.setParameter(TuningParameters.BULK_SERVER_STATUS_READ, "true");
+    info.setAdminServerName("admin");
+    info.setServerPod("admin", createPod("admin"));
+    setReadyStatus(info.getServerPod("admin"));
+  }
+
+  @Test
+  void whenBulkReadDisabled_dontReadDomainHealth() {
+    info.setAdminServerName("admin");
+    info.setServerPod("admin", createPod("admin"));
+    setReadyStatus(info.getServerPod("admin"));
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(domainStepFactory.numReads, is(0));
+  }
+
+  @Test
+  void whenAdminServerNotReady_dontReadDomainHealth() {
+    enableBulkReadWithReadyAdminServer();
+    info.getServerPod("admin").setStatus(null);
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(domainStepFactory.numReads, is(0));
+  }
+
+  @Test
+  void whenHttpStateReadEnabledAndStateRead_dontExecIntoPod() {
+    TuningParametersStub.setParameter(TuningParameters.HTTP_SERVER_STATE_READ, "true");
+    info.setServerPod("server1", createPod("server1"));
+    stateStepFactory.defineState("server1", "ADMIN");
+    execFactory.defineResponse("server1", "STARTING");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "ADMIN"));
+  }
+
+  @Test
+  void whenHttpStateReadEnabledButStateNotRead_execIntoPod() {
+    TuningParametersStub.setParameter(TuningParameters.HTTP_SERVER_STATE_READ, "true");
+    info.setServerPod("server1", createPod("server1"));
+    execFactory.defineResponse("server1", "STARTING");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(stateStepFactory.serverNames, contains("server1"));
+    assertThat(getServerStates(packet), hasEntry("server1", "STARTING"));
+  }
+
+  @Test
+  void whenHttpStateReadDisabled_dontReadStateWithHttp() {
+    info.setServerPod("server1", createPod("server1"));
+    execFactory.defineResponse("server1", "STARTING");
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(stateStepFactory.serverNames, empty());
+  }
+
+  static class ReadStateStepFactoryFake implements BiFunction<String, Step, Step> {
+    private final Map<String, String> states = new HashMap<>();
+    final List<String> serverNames = new ArrayList<>();
+
+    void defineState(String serverName, String state) {
+      states.put(serverName, state);
+    }
+
+    @Override
+    public Step apply(String serverName, Step next) {
+      return new Step(next) {
+        @Override
+        public NextAction apply(Packet packet) {
+          serverNames.add(serverName);
+          Optional.ofNullable(states.get(serverName))
+              .ifPresent(state -> packet.<Map<String, String>>getValue(SERVER_STATE_MAP).put(serverName, state));
+          return doNext(packet);
+        }
+      };
+    }
+  }
+
+  static class ReadDomainHealthStepFactoryFake implements Function<Step, Step> {
+    private final Map<String, String> reportedStates = new HashMap<>();
+    private int numReads;
+
+    void reportServer(String serverName, String state) {
+      reportedStates.put(serverName, state);
+    }
+
+    @Override
+    public Step apply(Step next) {
+      return new Step(next) {
+        @Override
+        public NextAction apply(Packet packet) {
+          numReads++;
+          reportedStates.forEach((name, state) -> recordServer(packet, name, state));
+          return doNext(packet);
+        }
+      };
+    }
+
+    private void recordServer(Packet packet, String serverName, String state) {
+      packet.<Map<String, String>>getValue(SERVER_STATE_MAP).put(serverName, state);
+      packet.<Map<String, ServerHealth>>getValue(SERVER_HEALTH_MAP).put(serverName, new ServerHealth());
+    }
+  }
+
   static class ReadServerHealthStepFactoryFake implements Function<Step, Step> {
     final List<String> serverNames = new ArrayList<>();
 
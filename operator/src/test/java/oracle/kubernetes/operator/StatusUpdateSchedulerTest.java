@@ -0,0 +1,179 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class StatusUpdateSchedulerTest {
+
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+  private static final int SHORT_DELAY = 2;
+  private static final int QUIET_CHECKS = 2;
+  private static final int LONG_DELAY = 20;
+  private static final int NUM_DOMAINS = 400;
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final Map<String, Integer> updateCounts = new HashMap<>();
+  private final Set<String> absentDomains = new HashSet<>();
+  private int numTimersStarted;
+  private final StatusUpdateScheduler scheduler = new StatusUpdateScheduler(this::startTimer, this::isPresent);
+
+  private ScheduledFuture<?> startTimer(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+    numTimersStarted++;
+    return testSupport.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+  }
+
+  private boolean isPresent(String namespace, String domainUid) {
+    return !absentDomains.contains(domainUid);
+  }
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.setParameter(TuningParameters.STATUS_UPDATE_INITIAL_SHORT_DELAY,
+        Integer.toString(SHORT_DELAY));
+    TuningParametersStub.setParameter(TuningParameters.UNCHANGED_COUNT_TO_DELAY_STATUS_RECHECK,
+        Integer.toString(QUIET_CHECKS));
+    TuningParametersStub.setParameter(TuningParameters.STATUS_UPDATE_EVENTUAL_LONG_DELAY,
+        Integer.toString(LONG_DELAY));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void schedule(String domainUid) {
+    scheduler.schedule(NS, domainUid, () -> updateCounts.merge(domainUid, 1, Integer::sum));
+  }
+
+  private int getUpdateCount(String domainUid) {
+    return updateCounts.getOrDefault(domainUid, 0);
+  }
+
+  private void setTime(int seconds) {
+    testSupport.setTime(seconds, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void afterSchedule_updateRunsAtInitialShortDelay() {
+    schedule(UID);
+
+    setTime(SHORT_DELAY - 1);
+    assertThat(getUpdateCount(UID), equalTo(0));
+
+    setTime(SHORT_DELAY);
+    assertThat(getUpdateCount(UID), equalTo(1));
+  }
+
+  @Test
+  void afterQuietChecks_backOffToEventualLongDelay() {
+    schedule(UID);
+
+    setTime(QUIET_CHECKS * SHORT_DELAY + LONG_DELAY - 1);
+    assertThat(getUpdateCount(UID), equalTo(QUIET_CHECKS));
+
+    setTime(QUIET_CHECKS * SHORT_DELAY + LONG_DELAY);
+    assertThat(getUpdateCount(UID), equalTo(QUIET_CHECKS + 1));
+  }
+
+  @Test
+  void afterActivity_returnToInitialShortDelay() {
+    schedule(UID);
+    setTime(10);
+
+    scheduler.onActivity(NS, UID);
+    setTime(10 + SHORT_DELAY);
+
+    assertThat(getUpdateCount(UID), equalTo(QUIET_CHECKS + 1));
+  }
+
+  @Test
+  void afterActivityForOtherDomain_remainAtEventualLongDelay() {
+    schedule(UID);
+    schedule("domain2");
+    setTime(10);
+
+    scheduler.onActivity(NS, "domain2");
+    setTime(10 + SHORT_DELAY);
+
+    assertThat(getUpdateCount(UID), equalTo(QUIET_CHECKS));
+  }
+
+  @Test
+  void whenManyDomainsScheduled_useSingleTimer() {
+    for (int i = 0; i < NUM_DOMAINS; i++) {
+      schedule("domain" + i);
+    }
+
+    setTime(SHORT_DELAY);
+
+    assertThat(numTimersStarted, equalTo(1));
+    assertThat(updateCounts.size(), equalTo(NUM_DOMAINS));
+  }
+
+  @Test
+  void whenQuietDomainsScheduled_runFewUpdates() {
+    for (int i = 0; i < NUM_DOMAINS; i++) {
+      schedule("domain" + i);
+    }
+    setTime(QUIET_CHECKS * SHORT_DELAY);
+    updateCounts.clear();
+
+    setTime(QUIET_CHECKS * SHORT_DELAY + LONG_DELAY - 1);
+
+    assertThat(updateCounts.size(), equalTo(0));
+  }
+
+  @Test
+  void afterCancel_dontRunUpdates() {
+    schedule(UID);
+
+    scheduler.cancel(NS, UID);
+    setTime(SHORT_DELAY);
+
+    assertThat(getUpdateCount(UID), equalTo(0));
+  }
+
+  @Test
+  void whenDomainNoLongerPresent_discardIt() {
+    schedule(UID);
+    absentDomains.add(UID);
+
+    setTime(SHORT_DELAY);
+
+    assertThat(getUpdateCount(UID), equalTo(0));
+    assertThat(scheduler.getNumScheduled(), equalTo(0));
+  }
+
+  @Test
+  void whenDomainRescheduled_replaceEarlierSchedule() {
+    schedule(UID);
+    schedule(UID);
+
+    setTime(SHORT_DELAY);
+
+    assertThat(getUpdateCount(UID), equalTo(1));
+  }
+}
@@ -9,16 +9,20 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.watcher.ResourceInformer;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -36,6 +40,7 @@ import static oracle.kubernetes.common.utils.LogMatcher.containsInfo;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.createTestDomain;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_INTERNAL_ERROR;
 import static oracle.kubernetes.operator.ProcessingConstants.DELEGATE_COMPONENT_NAME;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
 import static org.hamcrest.Matchers.equalTo;
@@ -59,6 +64,7 @@ class StuckPodTest {
   private final V1Pod managedPod2 = defineManagedPod(SERVER_POD_2);
   private final V1Pod foreignPod = defineForeignPod(FOREIGN_POD);
   private Integer gracePeriodSeconds;
+  private long elapsedSeconds;
   private TestUtils.ConsoleHandlerMemento consoleMemento;
 
   @BeforeEach
@@ -70,6 +76,11 @@ class StuckPodTest {
     mementos.add(NoopWatcherStarter.install());
 
     testSupport.defineResources(domain, managedPod1, managedPod2, foreignPod);
+    getPodInformer().addListener(processing);
+  }
+
+  private ResourceInformer<V1Pod> getPodInformer() {
+    return mainDelegate.getDomainNamespaces().getPodInformer();
   }
 
   @AfterEach
@@ -83,7 +94,7 @@ class StuckPodTest {
   void whenServerPodNotDeleted_ignoreIt() {
     SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS);
 
-    processing.checkStuckPods(NS);
+    checkStuckPods();
 
     assertThat(getSelectedPod(SERVER_POD_1), notNullValue());
   }
@@ -93,7 +104,7 @@ class StuckPodTest {
     markAsDelete(getSelectedPod(SERVER_POD_1));
     SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS - 1);
 
-    processing.checkStuckPods(NS);
+    checkStuckPods();
 
     assertThat(getSelectedPod(SERVER_POD_1), notNullValue());
   }
@@ -103,7 +114,7 @@ class StuckPodTest {
     markAsDelete(getSelectedPod(SERVER_POD_1));
     SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
 
-    processing.checkStuckPods(NS);
+    checkStuckPods();
 
     assertThat(getSelectedPod(SERVER_POD_1), nullValue());
   }
@@ -115,7 +126,7 @@ class StuckPodTest {
     markAsDelete(getSelectedPod(SERVER_POD_1));
     SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
 
-    processing.checkStuckPods(NS);
+    checkStuckPods();
 
     assertThat(logMessages, containsInfo(POD_FORCE_DELETED).withParams(SERVER_POD_1, NS));
   }
@@ -126,7 +137,7 @@ class StuckPodTest {
     SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
     testSupport.doOnDelete(POD, this::recordGracePeriodSeconds);
 
-    processing.checkStuckPods(NS);
+    checkStuckPods();
 
     assertThat(gracePeriodSeconds, equalTo(0));
   }
@@ -140,7 +151,7 @@ class StuckPodTest {
     markAsDelete(getSelectedPod(SERVER_POD_2));
     SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
 
-    processing.checkStuckPods(NS);
+    checkStuckPods();
 
     assertThat(mainDelegate.makeRightInvoked(domain), is(true));
   }
@@ -150,11 +161,88 @@ class StuckPodTest {
     markAsDelete(getSelectedPod(FOREIGN_POD));
     SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
 
-    processing.checkStuckPods(NS);
+    checkStuckPods();
 
     assertThat(getSelectedPod(FOREIGN_POD), notNullValue());
   }
 
+  // The pod informer is loaded from a list when the namespace is started, without reporting events.
+  private void checkStuckPods() {
+    getPodInformer().replaceNamespace(NS, testSupport.getResources(POD));
+    processing.checkStuckPods(NS);
+  }
+
+  @Test
+  void whenCheckingForStuckPods_dontListPods() {
+    testSupport.failOnList(POD, NS, HTTP_INTERNAL_ERROR);
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS - 1);
+
+    checkStuckPods();
+
+    assertThat(getSelectedPod(SERVER_POD_1), notNullValue());
+  }
+
+  @Test
+  void whenWatchReportsPodDeleting_deleteItWhenStuck() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    reportModified(getSelectedPod(SERVER_POD_1));
+
+    passTime(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+  }
+
+  @Test
+  void whenWatchReportsPodDeleting_dontDeleteItBeforeStuck() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    reportModified(getSelectedPod(SERVER_POD_1));
+
+    passTime(DELETION_GRACE_PERIOD_SECONDS - 1);
+
+    assertThat(getSelectedPod(SERVER_POD_1), notNullValue());
+  }
+
+  @Test
+  void whenWatchReportsPodDeleted_dontDeleteItAgain() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    reportModified(getSelectedPod(SERVER_POD_1));
+    getPodInformer().receivedResponse(WatchEvent.createDeletedEvent(getSelectedPod(SERVER_POD_1)).toWatchResponse());
+
+    passTime(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    assertThat(getSelectedPod(SERVER_POD_1), notNullValue());
+  }
+
+  @Test
+  void whenWatchReportsSeveralPodsDeleting_deleteEachWhenStuck() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    reportModified(getSelectedPod(SERVER_POD_1));
+    passTime(2);
+    markAsDelete(getSelectedPod(SERVER_POD_2));
+    reportModified(getSelectedPod(SERVER_POD_2));
+
+    passTime(DELETION_GRACE_PERIOD_SECONDS - 1);
+
+    assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+    assertThat(getSelectedPod(SERVER_POD_2), notNullValue());
+
+    passTime(2);
+
+    assertThat(getSelectedPod(SERVER_POD_2), nullValue());
+  }
+
+  private void reportModified(V1Pod pod) {
+    getPodInformer().receivedResponse(WatchEvent.createModifiedEvent(pod).toWatchResponse());
+  }
+
+  // The scheduler sets the system clock to the time of each item it runs; this keeps the clock in step with it.
+  private void passTime(long seconds) {
+    elapsedSeconds += seconds;
+    testSupport.setTime(elapsedSeconds, TimeUnit.SECONDS);
+    SystemClockTestSupport.setCurrentTime(SystemClockTestSupport.getTestStartTime().plusSeconds(elapsedSeconds));
+  }
+
   private V1Pod getSelectedPod(String name) {
     return testSupport.getResourceWithName(POD, name);
   }
@@ -166,6 +254,7 @@ class StuckPodTest {
   private V1ObjectMeta createManagedPodMetadata(String name) {
     return createPodMetadata(name)
           .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL,"true")
+          .putLabelsItem(LabelConstants.DOMAINUID_LABEL, UID)
           .putLabelsItem(LabelConstants.DOMAINNAME_LABEL, UID)
           .putLabelsItem(LabelConstants.SERVERNAME_LABEL, name);
   }
@@ -221,6 +310,11 @@ class StuckPodTest {
       return domainProcessor;
     }
 
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+      return testSupport.schedule(command, delay, unit);
+    }
+
     @Override
     public DomainNamespaces getDomainNamespaces() {
       return domainNamespaces;
@@ -6,6 +6,7 @@ package oracle.kubernetes.operator;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.meterware.simplestub.Memento;
@@ -81,11 +82,17 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     mementos.add(ClientFactoryStub.install());
     mementos.add(TuningParametersStub.install());
     mementos.add(TestStepFactory.install());
+    mementos.add(installAsynchronousWatcherStarter());
 
     TuningParametersStub.setParameter(WATCH_BACKSTOP_RECHECK_COUNT, "1");
     StubWatchFactory.setListener(this);
   }
 
+  // These tests need real watch threads, even if an earlier test failed to remove a no-op starter.
+  private Memento installAsynchronousWatcherStarter() throws NoSuchFieldException {
+    return StaticStubSupport.install(Watcher.class, "starter", (WatcherStarter) Watcher::startAsynchronousWatch);
+  }
+
   protected BaseTestUtils.ConsoleHandlerMemento configureOperatorLogger() {
     return TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(hasNextException);
   }
@@ -174,22 +181,19 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     Object object2 = createObjectWithMetaData();
     StubWatchFactory.addCallResponses(createAddResponse(object1), createModifyResponse(object2));
 
+    stopping.set(true);
     Watcher watcher = createWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
-    pauseWatcher(watcher);
+    watcher.waitForExit();
     assertThat(callBacks, empty());
 
     resumeWatcher(watcher);
     assertThat(callBacks, contains(List.of(addEvent(object1), modifyEvent(object2))));
   }
 
+  // Resumes before starting, so that the new watch thread cannot see the watcher still paused and exit at once.
   private void resumeWatcher(Watcher watcher1) {
-    watcher1.start(this);
     watcher1.resume();
-    watcher1.waitForExit();
-  }
-
-  private void pauseWatcher(Watcher watcher1) {
-    watcher1.pause();
+    watcher1.start(this);
     watcher1.waitForExit();
   }
 
@@ -209,6 +213,25 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
         hasEntry("resourceVersion", resourceVersion.subtract(BigInteger.TWO).toString()));
   }
 
+  @Test
+  void afterRelistRequested_nextRequestStartsFromCurrentState() {
+    scheduleAddResponse(createObjectWithMetaData());
+    Watcher<?> watcher = createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    scheduleAddResponse(createObjectWithMetaData());
+    watcher.relist();
+    watcher.resume();
+    watcher.start(this);
+    watcher.waitForExit();
+
+    assertThat(getLastRequestParameters(), hasEntry("resourceVersion", "0"));
+  }
+
+  private Map<String, String> getLastRequestParameters() {
+    final List<Map<String, String>> requestParameters = StubWatchFactory.getRequestParameters();
+    return requestParameters.get(requestParameters.size() - 1);
+  }
+
   @Test
   void afterHttpGoneError_nextRequestSendsIncludedResourceVersion() {
     StubWatchFactory.addCallResponses(createHttpGoneErrorResponse(NEXT_RESOURCE_VERSION));
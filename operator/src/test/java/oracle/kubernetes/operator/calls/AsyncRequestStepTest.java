@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiCallback;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
@@ -20,7 +21,9 @@ import oracle.kubernetes.operator.DomainProcessorTestSetup;
 import oracle.kubernetes.operator.builders.CallParams;
 import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.Pool;
 import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -37,6 +40,7 @@ import org.junit.jupiter.api.Test;
 import static java.net.HttpURLConnection.HTTP_GATEWAY_TIMEOUT;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.calls.AsyncRequestStep.RESPONSE_COMPONENT_NAME;
+import static oracle.kubernetes.operator.tuning.TuningParameters.KUBERNETES_MAX_IN_FLIGHT_REQUESTS_PER_VERB;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionMatcher.hasCondition;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.FAILED;
 import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.INTROSPECTION;
@@ -74,6 +78,8 @@ class AsyncRequestStepTest {
   private final CallFactoryStub callFactory = new CallFactoryStub();
   private final TestStep nextStep = new TestStep();
   private final ClientPool helper = ClientPool.getInstance();
+  private final RequestScheduler scheduler
+      = new RequestScheduler(new RequestLimiter(), testSupport.getEngine().getExecutor());
   private final AsyncRequestStep<DomainList> asyncRequestStep =
       new AsyncRequestStep<>(
           nextStep,
@@ -105,6 +111,8 @@ class AsyncRequestStepTest {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(ClientFactoryStub.install());
     mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(StaticStubSupport.install(AsyncRequestStep.class, "scheduler", scheduler));
 
     testSupport.runSteps(asyncRequestStep);
   }
@@ -126,6 +134,46 @@ class AsyncRequestStepTest {
     assertThat(testSupport.hasItemScheduledAt(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(true));
   }
 
+  @Test
+  void whenNoLimitConfigured_requestSentWithoutScheduler() {
+    assertThat(callFactory.invokedWith(requestParams), is(true));
+    assertThat(scheduler.getNumInFlight(OP_NAME), equalTo(0));
+  }
+
+  @Test
+  void whenInFlightLimitReached_holdRequestUntilEarlierOneCompletes() {
+    TuningParametersStub.setParameter(KUBERNETES_MAX_IN_FLIGHT_REQUESTS_PER_VERB, "1");
+    CallFactoryStub firstCallFactory = new CallFactoryStub();
+    runStep(requestParams, firstCallFactory, helper, TIMEOUT_SECONDS);
+    RequestParams heldParams = new RequestParams(CALL_STRING, NS, "bar", "body", callParams);
+    CallFactoryStub heldCallFactory = new CallFactoryStub();
+    runStep(heldParams, heldCallFactory, helper, TIMEOUT_SECONDS);
+
+    assertThat(heldCallFactory.invokedWith(heldParams), is(false));
+
+    firstCallFactory.sendSuccessfulCallback(smallList);
+
+    assertThat(heldCallFactory.invokedWith(heldParams), is(true));
+  }
+
+  private void runStep(RequestParams params, CallFactoryStub factory, Pool<ApiClient> pool, int timeoutSeconds) {
+    testSupport.runSteps(new AsyncRequestStep<>(new TestStep(), params, factory, pool,
+          timeoutSeconds, MAX_RETRY_COUNT, null, null, null));
+  }
+
+  @Test
+  void whenHeldRequestExpires_noClientTaken() {
+    TuningParametersStub.setParameter(KUBERNETES_MAX_IN_FLIGHT_REQUESTS_PER_VERB, "1");
+    CountingClientPool pool = new CountingClientPool();
+    runStep(requestParams, new CallFactoryStub(), pool, 2 * TIMEOUT_SECONDS);
+    runStep(new RequestParams(CALL_STRING, NS, "bar", "body", callParams), new CallFactoryStub(), pool,
+          TIMEOUT_SECONDS);
+
+    testSupport.setTime(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(pool.numCreated, equalTo(1));
+  }
+
   @Test
   void afterSuccessfulCallback_nextStepAppliedWithValue() {
     callFactory.sendSuccessfulCallback(smallList);
@@ -309,6 +357,21 @@ class AsyncRequestStepTest {
     }
   }
 
+  static class CountingClientPool extends Pool<ApiClient> {
+    private int numCreated;
+
+    @Override
+    protected ApiClient create() {
+      numCreated++;
+      return new ApiClient();
+    }
+
+    @Override
+    public void discard(ApiClient client) {
+      // no-op
+    }
+  }
+
   static class CancellableCallStub implements CancellableCall {
 
     @Override
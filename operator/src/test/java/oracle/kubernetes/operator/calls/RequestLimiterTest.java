@@ -0,0 +1,102 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.http.metrics.KubernetesClientMetrics;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.KUBERNETES_MAX_IN_FLIGHT_REQUESTS_PER_VERB;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class RequestLimiterTest {
+
+  private static final String LIST = "list";
+  private static final String PATCH = "patch";
+  private static final int LIMIT = 2;
+
+  private final RequestLimiter limiter = new RequestLimiter();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.setParameter(KUBERNETES_MAX_IN_FLIGHT_REQUESTS_PER_VERB, Integer.toString(LIMIT));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void acquire(String verb, int count) {
+    for (int i = 0; i < count; i++) {
+      limiter.acquire(verb);
+    }
+  }
+
+  @Test
+  void whenBelowLimit_hasCapacity() {
+    acquire(LIST, LIMIT - 1);
+
+    assertThat(limiter.hasCapacity(LIST), is(true));
+  }
+
+  @Test
+  void whenLimitReached_hasNoCapacity() {
+    acquire(LIST, LIMIT);
+
+    assertThat(limiter.hasCapacity(LIST), is(false));
+  }
+
+  @Test
+  void whenLimitReachedForOneVerb_otherVerbsHaveCapacity() {
+    acquire(LIST, LIMIT);
+
+    assertThat(limiter.hasCapacity(PATCH), is(true));
+  }
+
+  @Test
+  void afterRelease_hasCapacityAgain() {
+    acquire(LIST, LIMIT);
+
+    limiter.release(LIST);
+
+    assertThat(limiter.hasCapacity(LIST), is(true));
+  }
+
+  @Test
+  void whenLimitIsZero_alwaysHasCapacity() {
+    TuningParametersStub.setParameter(KUBERNETES_MAX_IN_FLIGHT_REQUESTS_PER_VERB, "0");
+
+    acquire(LIST, 100);
+
+    assertThat(limiter.hasCapacity(LIST), is(true));
+  }
+
+  @Test
+  void afterAllReleased_noRequestsInFlight() {
+    acquire(LIST, 1);
+
+    limiter.release(LIST);
+    limiter.release(LIST);
+
+    assertThat(limiter.getNumInFlight(LIST), equalTo(0));
+  }
+
+  @Test
+  void whenRequestsAcquired_recordInFlightCount() {
+    acquire(PATCH, LIMIT);
+
+    assertThat(KubernetesClientMetrics.getInFlightCount(PATCH), equalTo((double) LIMIT));
+  }
+}
@@ -0,0 +1,258 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.http.metrics.KubernetesClientMetrics;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static oracle.kubernetes.operator.tuning.TuningParameters.KUBERNETES_MAX_IN_FLIGHT_REQUESTS_PER_VERB;
+import static oracle.kubernetes.operator.tuning.TuningParameters.KUBERNETES_REQUEST_BURST;
+import static oracle.kubernetes.operator.tuning.TuningParameters.KUBERNETES_REQUEST_QPS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+class RequestSchedulerTest {
+
+  private static final String NS = "namespace";
+  private static final String READ_CALL = "readPod";
+  private static final String LIST_CALL = "listPod";
+  private static final String PATCH_CALL = "patchPod";
+  private static final int LIMIT = 2;
+  private static final int TIMEOUT_SECONDS = 10;
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final TestFiber fiber = createStub(TestFiber.class, testSupport);
+  private final RequestScheduler scheduler
+      = new RequestScheduler(new RequestLimiter(), testSupport.getEngine().getExecutor());
+  private final List<String> sent = new ArrayList<>();
+  private final List<String> expired = new ArrayList<>();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.setParameter(KUBERNETES_MAX_IN_FLIGHT_REQUESTS_PER_VERB, Integer.toString(LIMIT));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void submit(String call, String domainUid, String name) {
+    submit(fiber, call, domainUid, name);
+  }
+
+  private void submit(AsyncFiber fiber, String call, String domainUid, String name) {
+    scheduler.submit(createParams(call, domainUid), fiber, TIMEOUT_SECONDS,
+          () -> sent.add(name), () -> expired.add(name));
+  }
+
+  private RequestParams createParams(String call, String domainUid) {
+    return new RequestParams(call, NS, "name", null, domainUid);
+  }
+
+  private void release(String call) {
+    scheduler.release(createParams(call, "any"));
+  }
+
+  @Test
+  void whenBelowLimit_sendRequestsImmediately() {
+    submit(LIST_CALL, "uid1", "a");
+    submit(LIST_CALL, "uid1", "b");
+
+    assertThat(sent, contains("a", "b"));
+    assertThat(scheduler.getNumInFlight("list"), equalTo(LIMIT));
+  }
+
+  @Test
+  void whenLimitReached_holdFurtherRequests() {
+    submit(LIST_CALL, "uid1", "a");
+    submit(LIST_CALL, "uid1", "b");
+    submit(LIST_CALL, "uid1", "c");
+
+    assertThat(sent, contains("a", "b"));
+    assertThat(scheduler.getNumWaiting("list"), equalTo(1));
+  }
+
+  @Test
+  void afterRelease_sendHeldRequestsFromSameDomainInOrder() {
+    submit(LIST_CALL, "uid1", "a");
+    submit(LIST_CALL, "uid1", "b");
+    submit(LIST_CALL, "uid1", "c");
+    submit(LIST_CALL, "uid1", "d");
+
+    release(LIST_CALL);
+    release(LIST_CALL);
+
+    assertThat(sent, contains("a", "b", "c", "d"));
+    assertThat(scheduler.getNumInFlight("list"), equalTo(LIMIT));
+  }
+
+  @Test
+  void whenLimitReachedForOneVerb_sendRequestsWithOtherVerbs() {
+    submit(LIST_CALL, "uid1", "a");
+    submit(LIST_CALL, "uid1", "b");
+    sent.clear();
+
+    submit(PATCH_CALL, "uid1", "c");
+
+    assertThat(sent, contains("c"));
+  }
+
+  @Test
+  void whenOneDomainHasManyHeldRequests_otherDomainsTakeTurns() {
+    TuningParametersStub.setParameter(KUBERNETES_MAX_IN_FLIGHT_REQUESTS_PER_VERB, "1");
+    submit(READ_CALL, "uid1", "a1");
+    submit(READ_CALL, "uid1", "a2");
+    submit(READ_CALL, "uid1", "a3");
+    submit(READ_CALL, "uid1", "a4");
+    submit(READ_CALL, "uid2", "b1");
+    submit(READ_CALL, "uid3", "c1");
+
+    for (int i = 0; i < 5; i++) {
+      release(READ_CALL);
+    }
+
+    assertThat(sent, contains("a1", "a2", "b1", "c1", "a3", "a4"));
+  }
+
+  @Test
+  void whenRequestRateExceeded_holdRequestsUntilPermitted() {
+    TuningParametersStub.setParameter(KUBERNETES_REQUEST_QPS, "2");
+    TuningParametersStub.setParameter(KUBERNETES_REQUEST_BURST, "2");
+    submit(PATCH_CALL, "uid1", "a");
+    submit(PATCH_CALL, "uid2", "b");
+    submit(PATCH_CALL, "uid3", "c");
+
+    assertThat(sent, contains("a", "b"));
+
+    release(PATCH_CALL);
+    testSupport.setTime(499, TimeUnit.MILLISECONDS);
+    assertThat(sent, contains("a", "b"));
+
+    testSupport.setTime(500, TimeUnit.MILLISECONDS);
+    assertThat(sent, contains("a", "b", "c"));
+  }
+
+  @Test
+  void whenRequestRateExceeded_recordThrottling() {
+    TuningParametersStub.setParameter(KUBERNETES_REQUEST_QPS, "1");
+    TuningParametersStub.setParameter(KUBERNETES_REQUEST_BURST, "1");
+    double throttledCount = KubernetesClientMetrics.getThrottledCount();
+
+    submit(PATCH_CALL, "uid1", "a");
+    submit(PATCH_CALL, "uid1", "b");
+
+    assertThat(KubernetesClientMetrics.getThrottledCount(), equalTo(throttledCount + 1));
+  }
+
+  @Test
+  void whenWritesAndListsCompete_writesReceiveMoreTurns() {
+    TuningParametersStub.setParameter(KUBERNETES_MAX_IN_FLIGHT_REQUESTS_PER_VERB, "0");
+    TuningParametersStub.setParameter(KUBERNETES_REQUEST_QPS, "1");
+    TuningParametersStub.setParameter(KUBERNETES_REQUEST_BURST, "1");
+    submit(READ_CALL, "uid1", "first");
+    for (int i = 0; i < 10; i++) {
+      submit(LIST_CALL, "uid1", "list");
+      submit(PATCH_CALL, "uid2", "patch");
+    }
+    sent.clear();
+
+    testSupport.setTime(5, TimeUnit.SECONDS);
+
+    assertThat(sent.stream().filter("patch"::equals).count(), equalTo(4L));
+    assertThat(sent.stream().filter("list"::equals).count(), equalTo(1L));
+  }
+
+  @Test
+  void whenHeldRequestSent_recordQueueWait() {
+    submit(PATCH_CALL, "uid1", "a");
+    submit(PATCH_CALL, "uid1", "b");
+    submit(PATCH_CALL, "uid1", "c");
+    double queueWaits = KubernetesClientMetrics.getQueueWaitCount("patch");
+
+    release(PATCH_CALL);
+
+    assertThat(KubernetesClientMetrics.getQueueWaitCount("patch"), equalTo(queueWaits + 1));
+    assertThat(KubernetesClientMetrics.getWaitingCount("patch"), equalTo(0.0));
+  }
+
+  @Test
+  void whenFiberCancelledWhileRequestHeld_dropRequest() {
+    TestFiber cancelledFiber = createStub(TestFiber.class, testSupport);
+    submit(PATCH_CALL, "uid1", "a");
+    submit(PATCH_CALL, "uid1", "b");
+    submit(cancelledFiber, PATCH_CALL, "uid1", "c");
+    submit(PATCH_CALL, "uid1", "d");
+
+    cancelledFiber.cancelled = true;
+    release(PATCH_CALL);
+
+    assertThat(sent, contains("a", "b", "d"));
+    assertThat(scheduler.getNumWaiting("patch"), equalTo(0));
+    assertThat(scheduler.getNumInFlight("patch"), equalTo(LIMIT));
+  }
+
+  @Test
+  void whenRequestHeldLongerThanTimeout_expireIt() {
+    submit(PATCH_CALL, "uid1", "a");
+    submit(PATCH_CALL, "uid1", "b");
+    submit(PATCH_CALL, "uid1", "c");
+
+    testSupport.setTime(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    release(PATCH_CALL);
+
+    assertThat(expired, contains("c"));
+    assertThat(sent, contains("a", "b"));
+    assertThat(scheduler.getNumWaiting("patch"), equalTo(0));
+  }
+
+  @Test
+  void whenRequestSentBeforeTimeout_doNotExpireIt() {
+    submit(PATCH_CALL, "uid1", "a");
+    submit(PATCH_CALL, "uid1", "b");
+    submit(PATCH_CALL, "uid1", "c");
+
+    release(PATCH_CALL);
+    testSupport.setTime(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(expired, empty());
+    assertThat(sent, contains("a", "b", "c"));
+  }
+
+  abstract static class TestFiber implements AsyncFiber {
+    private final FiberTestSupport testSupport;
+    private boolean cancelled;
+
+    TestFiber(FiberTestSupport testSupport) {
+      this.testSupport = testSupport;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    @Override
+    public void scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
+      testSupport.schedule(runnable, timeout, unit);
+    }
+  }
+}
@@ -0,0 +1,106 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.List;
+import java.util.Map;
+
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.openapi.models.V1VolumeMount;
+import io.kubernetes.client.util.Yaml;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class AnnotationHelperTest {
+
+  private static final int NUM_HASHES = 20;
+
+  private static V1Pod createPodRecipe() {
+    V1Container container = new V1Container().name("weblogic-server").image("container-registry.example/weblogic:14")
+          .command(List.of("/weblogic-operator/scripts/startServer.sh"))
+          .addPortsItem(new V1ContainerPort().name("default").containerPort(7001).protocol("TCP"))
+          .resources(new V1ResourceRequirements().putRequestsItem("memory", new Quantity("768Mi")));
+    for (int i = 0; i < 30; i++) {
+      container.addEnvItem(new V1EnvVar().name("ENV_VAR_" + i).value("value \"" + i + "\": ünïcödé"));
+    }
+    for (int i = 0; i < 5; i++) {
+      container.addVolumeMountsItem(new V1VolumeMount().name("volume-" + i).mountPath("/shared/" + i));
+    }
+
+    // sharing the container makes the YAML use an anchor and alias for it
+    V1PodSpec spec = new V1PodSpec().addContainersItem(container).addInitContainersItem(container);
+    for (int i = 0; i < 5; i++) {
+      spec.addVolumesItem(new V1Volume().name("volume-" + i));
+    }
+
+    return new V1Pod().spec(spec).metadata(new V1ObjectMeta().name("domain1-managed-server1").namespace("ns")
+          .putLabelsItem("weblogic.domainUID", "domain1")
+          .putAnnotationsItem("description", "multi-line\nannotation: with 'quotes' and # hashes"));
+  }
+
+  private static String hashFromYamlString(Object objectToHash) {
+    return DigestUtils.sha256Hex(Yaml.dump(objectToHash));
+  }
+
+  @Test
+  void podRecipeHash_matchesHashOfYamlString() {
+    V1Pod recipe = createPodRecipe();
+
+    assertThat(AnnotationHelper.computeSha256Hash(recipe), equalTo(hashFromYamlString(recipe)));
+  }
+
+  @Test
+  void configMapHash_matchesHashOfYamlString() {
+    V1ConfigMap configMap = new V1ConfigMap().metadata(new V1ObjectMeta().name("scripts"))
+          .data(Map.of("script.sh", "#!/bin/sh\necho \"hello\"\n", "empty", ""));
+
+    assertThat(AnnotationHelper.computeSha256Hash(configMap), equalTo(hashFromYamlString(configMap)));
+  }
+
+  @Test
+  void whenRecipeWithSharedObjectsHashedRepeatedly_hashIsUnchanged() {
+    V1Pod recipe = createPodRecipe();
+    String firstHash = AnnotationHelper.computeSha256Hash(recipe);
+
+    assertThat(AnnotationHelper.computeSha256Hash(recipe), equalTo(firstHash));
+  }
+
+  @Test
+  void whenRecipeChanges_hashChanges() {
+    V1Pod recipe = createPodRecipe();
+    String originalHash = AnnotationHelper.computeSha256Hash(recipe);
+
+    recipe.getSpec().getContainers().get(0).image("container-registry.example/weblogic:15");
+
+    assertThat(AnnotationHelper.computeSha256Hash(recipe).equals(originalHash), equalTo(false));
+  }
+
+  // Each thread reuses its YAML dumpers, so hashing many objects, of different kinds, in turn must give the same
+  // results as dumping each to a new string.
+  @Test
+  void whenManyObjectsHashedInTurn_eachHashMatchesHashOfYamlString() {
+    V1Pod recipe = createPodRecipe();
+    V1ConfigMap configMap = new V1ConfigMap().metadata(new V1ObjectMeta().name("scripts"));
+
+    for (int i = 0; i < NUM_HASHES; i++) {
+      recipe.getSpec().getContainers().get(0).image("container-registry.example/weblogic:" + i);
+      configMap.data(Map.of("script.sh", "echo " + i));
+
+      assertThat(AnnotationHelper.computeSha256Hash(recipe), equalTo(hashFromYamlString(recipe)));
+      assertThat(AnnotationHelper.computeSha256Hash(configMap), equalTo(hashFromYamlString(configMap)));
+    }
+  }
+}
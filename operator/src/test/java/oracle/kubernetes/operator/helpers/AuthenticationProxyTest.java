@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -8,12 +8,18 @@ import java.util.List;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1TokenReview;
+import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
+import io.kubernetes.client.openapi.models.V1UserInfo;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.TOKEN_REVIEW;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -22,6 +28,7 @@ class AuthenticationProxyTest {
   private final List<Memento> mementos = new ArrayList<>();
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private final AuthorizationProxyStub authorizationProxyStub = new AuthorizationProxyStub();
+  private final List<String> reviewedTokens = new ArrayList<>();
 
   /**
    * Setup test.
@@ -33,6 +40,13 @@ class AuthenticationProxyTest {
     mementos.add(testSupport.install());
     mementos.add(
         StaticStubSupport.install(AuthenticationProxy.class, "authorizationProxy", authorizationProxyStub));
+    mementos.add(TuningParametersStub.install());
+    testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticate((V1TokenReview) r));
+  }
+
+  private void authenticate(V1TokenReview tokenReview) {
+    reviewedTokens.add(tokenReview.getSpec().getToken());
+    tokenReview.setStatus(new V1TokenReviewStatus().authenticated(true).user(new V1UserInfo().username("user")));
   }
 
   @AfterEach
@@ -54,6 +68,27 @@ class AuthenticationProxyTest {
     assertThat(authorizationProxyStub.scope, equalTo(Scope.NAMESPACE));
   }
 
+  @Test
+  void whenTokenRecentlyAuthenticated_dontReviewItAgain() {
+    AuthenticationProxy authenticationProxy = new AuthenticationProxy();
+    authenticationProxy.check("", "token1", null);
+
+    V1TokenReviewStatus status = authenticationProxy.check("", "token1", null);
+
+    assertThat(status.getUser().getUsername(), equalTo("user"));
+    assertThat(reviewedTokens, contains("token1"));
+  }
+
+  @Test
+  void whenDifferentTokenPresented_reviewIt() {
+    AuthenticationProxy authenticationProxy = new AuthenticationProxy();
+    authenticationProxy.check("", "token1", null);
+
+    authenticationProxy.check("", "token2", null);
+
+    assertThat(reviewedTokens, contains("token1", "token2"));
+  }
+
   private static class AuthorizationProxyStub extends AuthorizationProxy {
     Scope scope;
 
@@ -0,0 +1,80 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1SubjectAccessReview;
+import io.kubernetes.client.openapi.models.V1SubjectAccessReviewStatus;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SUBJECT_ACCESS_REVIEW;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class AuthorizationProxyTest {
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final AuthorizationProxy authorizationProxy = new AuthorizationProxy();
+  private int numReviews;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(ApiException.class));
+    mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
+    testSupport.doOnCreate(SUBJECT_ACCESS_REVIEW, r -> allow((V1SubjectAccessReview) r));
+  }
+
+  private void allow(V1SubjectAccessReview review) {
+    numReviews++;
+    review.setStatus(new V1SubjectAccessReviewStatus().allowed(true));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private boolean check() {
+    return authorizationProxy.check("user", Operation.GET, Resource.DOMAINS, null, Scope.NAMESPACE, "ns");
+  }
+
+  @Test
+  void whenRequestRecentlyAllowed_dontReviewItAgain() {
+    check();
+
+    assertThat(check(), is(true));
+    assertThat(numReviews, equalTo(1));
+  }
+
+  @Test
+  void whenReviewFails_denyRequest() {
+    testSupport.failOnCreate(SUBJECT_ACCESS_REVIEW, null, HTTP_INTERNAL_ERROR);
+
+    assertThat(check(), is(false));
+  }
+
+  @Test
+  void afterReviewFails_reviewRequestAgain() {
+    testSupport.failOnCreate(SUBJECT_ACCESS_REVIEW, null, HTTP_INTERNAL_ERROR);
+    check();
+
+    assertThat(check(), is(true));
+    assertThat(numReviews, equalTo(1));
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -8,13 +8,22 @@ import java.util.List;
 
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.ApiClient;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import oracle.kubernetes.operator.ClientFactoryStub;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static oracle.kubernetes.operator.tuning.TuningParameters.KUBERNETES_CLIENT_MAX_REQUESTS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.KUBERNETES_CLIENT_MAX_REQUESTS_PER_HOST;
+import static oracle.kubernetes.operator.tuning.TuningParameters.KUBERNETES_CLIENT_PING_INTERVAL_SECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
@@ -27,6 +36,7 @@ class ClientPoolTest {
   public void setUp() throws NoSuchFieldException {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(ClientFactoryStub.install());
+    mementos.add(TuningParametersStub.install());
   }
 
   @AfterEach
@@ -54,4 +64,25 @@ class ClientPoolTest {
 
     assertThat(ClientPool.getInstance().take(), not(sameInstance(apiClient)));
   }
+
+  @Test
+  void configuredHttpClient_usesTunedDispatcherLimits() {
+    TuningParametersStub.setParameter(KUBERNETES_CLIENT_MAX_REQUESTS, "300");
+    TuningParametersStub.setParameter(KUBERNETES_CLIENT_MAX_REQUESTS_PER_HOST, "200");
+
+    OkHttpClient client = ClientPool.configureHttpClient(new OkHttpClient.Builder(), new Dispatcher()).build();
+
+    assertThat(client.dispatcher().getMaxRequests(), equalTo(300));
+    assertThat(client.dispatcher().getMaxRequestsPerHost(), equalTo(200));
+  }
+
+  @Test
+  void configuredHttpClient_prefersHttp2AndPingsConnections() {
+    TuningParametersStub.setParameter(KUBERNETES_CLIENT_PING_INTERVAL_SECONDS, "15");
+
+    OkHttpClient client = ClientPool.configureHttpClient(new OkHttpClient.Builder(), new Dispatcher()).build();
+
+    assertThat(client.protocols(), contains(Protocol.HTTP_2, Protocol.HTTP_1_1));
+    assertThat(client.pingIntervalMillis(), equalTo(15_000));
+  }
 }
@@ -1,9 +1,10 @@
-// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
@@ -31,6 +32,8 @@ import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_N
 import static oracle.kubernetes.operator.ProcessingConstants.SCRIPT_CONFIG_MAP;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+import static oracle.kubernetes.utils.OperatorUtils.onSeparateLines;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.sameInstance;
@@ -43,6 +46,7 @@ class ConfigMapHelperTest {
   private static final SemanticVersion PRODUCT_VERSION = new SemanticVersion(3, 0, 0);
   private static final SemanticVersion PRODUCT_VERSION_OLD = new SemanticVersion(2, 4, 0);
   private static final SemanticVersion PRODUCT_VERSION_FUTURE = new SemanticVersion(3, 1, 0);
+  private static final int LARGE_FILE_SIZE = 20 * 1024 * 1024;
 
   private final V1ConfigMap defaultConfigMap = defineConfigMap(PRODUCT_VERSION);
   private final RetryStrategyStub retryStrategy = createStrictStub(RetryStrategyStub.class);
@@ -52,7 +56,7 @@ class ConfigMapHelperTest {
 
 
   private V1ConfigMap defineConfigMap(SemanticVersion productVersion) {
-    Map<String, String> data = ConfigMapHelper.loadScriptsFromClasspath(DOMAIN_NS);
+    Map<String, String> data = new HashMap<>(ConfigMapHelper.loadScriptsFromClasspath(DOMAIN_NS));
     return AnnotationHelper.withSha256Hash(new V1ConfigMap()
         .apiVersion("v1")
         .kind("ConfigMap")
@@ -143,4 +147,66 @@ class ConfigMapHelperTest {
     });
   }
 
+  @Test
+  void scriptsForDifferentNamespaces_areReadOnce() {
+    assertThat(ConfigMapHelper.loadScriptsFromClasspath("ns1"),
+        sameInstance(ConfigMapHelper.loadScriptsFromClasspath("ns2")));
+  }
+
+  @Test
+  void createdConfigMap_hasHashOfItsScripts() {
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
+
+    V1ConfigMap configMap = testSupport.getResourceWithName(CONFIG_MAP, SCRIPT_CONFIG_MAP_NAME);
+    assertThat(logRecords, containsInfo(CM_CREATED));
+    assertThat(AnnotationHelper.getHash(configMap),
+        equalTo(AnnotationHelper.computeSha256Hash(configMap.getData())));
+  }
+
+  @Test
+  void whenScriptContentsChanged_modelHasHashOfItsContents() {
+    ConfigMapHelper.ScriptConfigMapContext context
+          = new ConfigMapHelper.ScriptConfigMapContext(null, DOMAIN_NS, PRODUCT_VERSION);
+    context.setContentValue("extra.sh", "echo extra");
+
+    V1ConfigMap model = context.getModel();
+
+    assertThat(AnnotationHelper.getHash(model), equalTo(AnnotationHelper.computeSha256Hash(model.getData())));
+  }
+
+  @Test
+  void whenExistingConfigMapHasDifferentScripts_replaceIt() {
+    V1ConfigMap configMap = defineConfigMap(PRODUCT_VERSION);
+    Map<String, String> data = configMap.getData();
+    data.put("extra.sh", "echo extra");
+    testSupport.defineResources(AnnotationHelper.withSha256Hash(configMap.data(data), data));
+
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
+
+    assertThat(logRecords, containsInfo(CM_REPLACED));
+  }
+
+  @Test
+  void whenIntrospectorResultContainsFiles_mapTheirTrimmedContents() {
+    String result = onSeparateLines("@[INFO] Printing file /u01/introspect/domain1/topology.yaml",
+          ">>>  /u01/introspect/domain1/topology.yaml", "  domainValid: true", "", ">>> EOF",
+          ">>>  /u01/introspect/domain1/secrets.md5", "abc", ">>> EOF");
+
+    Map<String, String> files = ConfigMapHelper.parseIntrospectorResult(result, "uid");
+
+    assertThat(files, equalTo(Map.of("topology.yaml", "domainValid: true", "secrets.md5", "abc")));
+  }
+
+  @Test
+  void whenIntrospectorResultContainsLargeFile_mapItIntact() {
+    String contents = ("0123456789".repeat(9) + "abcdefghi" + System.lineSeparator())
+          .repeat(LARGE_FILE_SIZE / 100).strip();
+    String result = onSeparateLines(">>>  /u01/introspect/domain1/domainzip.secure", contents, ">>> EOF");
+
+    Map<String, String> files = ConfigMapHelper.parseIntrospectorResult(result, "uid");
+
+    // compare without a matcher, so that a failure does not try to describe 20 MB of data
+    assertThat(contents.equals(files.get("domainzip.secure")), equalTo(true));
+  }
+
 }
@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -23,6 +23,9 @@ import org.junit.jupiter.api.Test;
 
 import static oracle.kubernetes.operator.helpers.ConfigMapSplitterTest.TargetMatcher.isTarget;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 class ConfigMapSplitterTest {
@@ -30,6 +33,7 @@ class ConfigMapSplitterTest {
   private static final int TEST_DATA_LIMIT = 1000;
   private static final String UNIT_DATA = "123456789";
   private static final String LARGE_DATA_VALUE = createLargeData(2.5); // require three maps, including other data
+  private static final int INTROSPECTOR_OUTPUT_SIZE = 1000 * TEST_DATA_LIMIT;
 
   private final ConfigMapSplitter<TestTarget> splitter = new ConfigMapSplitter<>(TestTarget::new);
   private final Map<String, String> data = new HashMap<>();
@@ -98,6 +102,29 @@ class ConfigMapSplitterTest {
     assertThat(result.get(2).numTargets, equalTo(0));
   }
 
+  @Test
+  void whenIntrospectorOutputVeryLarge_limitEachTargetAndReconstituteIt() {
+    data.put("a", "aValue");
+    data.put("b", UNIT_DATA.repeat(INTROSPECTOR_OUTPUT_SIZE / UNIT_DATA.length()));
+
+    final List<TestTarget> result = splitter.split(data);
+
+    assertThat(result.size(), equalTo(INTROSPECTOR_OUTPUT_SIZE / TEST_DATA_LIMIT + 1));
+    assertThat(result.stream().map(TestTarget::getDataSize).collect(Collectors.toList()),
+          everyItem(lessThanOrEqualTo(TEST_DATA_LIMIT)));
+    assertThat(result.stream().map(TestTarget::getB).collect(Collectors.joining()), equalTo(data.get("b")));
+  }
+
+  @Test
+  void whenEntryFitsInOneTarget_addItWithoutCopying() {
+    data.put("a", "aValue");
+    data.put("b", LARGE_DATA_VALUE);
+
+    final List<TestTarget> result = splitter.split(data);
+
+    assertThat(result.get(0).data.get("a"), sameInstance(data.get("a")));
+  }
+
   private static class TestTarget implements SplitterTarget {
     private final Map<String, String> data;
     private final int index;
@@ -116,6 +143,10 @@ class ConfigMapSplitterTest {
     private String getB() {
       return data.get("b");
     }
+
+    private int getDataSize() {
+      return data.values().stream().mapToInt(String::length).sum();
+    }
   }
 
   @SuppressWarnings("unused")
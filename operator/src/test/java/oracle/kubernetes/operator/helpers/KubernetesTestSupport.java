@@ -63,8 +63,10 @@ import io.kubernetes.client.openapi.models.VersionInfo;
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonException;
+import jakarta.json.JsonMergePatch;
 import jakarta.json.JsonPatch;
 import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
 import okhttp3.internal.http2.ErrorCode;
 import okhttp3.internal.http2.StreamResetException;
 import oracle.kubernetes.operator.builders.CallParams;
@@ -76,6 +78,7 @@ import oracle.kubernetes.operator.calls.SimulatedStep;
 import oracle.kubernetes.operator.calls.SynchronousCallDispatcher;
 import oracle.kubernetes.operator.calls.SynchronousCallFactory;
 import oracle.kubernetes.operator.webhooks.model.Scale;
+import oracle.kubernetes.operator.webhooks.resource.AdmissionChecker;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
@@ -90,6 +93,7 @@ import oracle.kubernetes.weblogic.domain.model.PartialObjectMetadata;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_OK;
@@ -442,6 +446,19 @@ public class KubernetesTestSupport extends FiberTestSupport {
     failure = new Failure(Operation.replaceStatus, resourceType, name, namespace, httpStatus);
   }
 
+  /**
+   * Specifies that a status patch operation should fail if it matches the specified conditions. Applies to
+   * namespaced resources and replaces any existing failure checks.
+   *
+   * @param resourceType the type of resource
+   * @param name the name of the resource
+   * @param namespace the namespace containing the resource
+   * @param httpStatus the status to associate with the failure
+   */
+  public void failOnPatchStatus(String resourceType, String name, String namespace, int httpStatus) {
+    failure = new Failure(Operation.patchStatus, resourceType, name, namespace, httpStatus);
+  }
+
   /**
    * Specifies that a replace operation should fail if it matches the specified conditions. Applies to
    * namespaced resources and replaces any existing failure checks.
@@ -600,6 +617,12 @@ public class KubernetesTestSupport extends FiberTestSupport {
         return callContext.patchResource(dataRepository);
       }
     },
+    patchStatus {
+      @Override
+      <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
+        return callContext.patchResourceStatus(dataRepository);
+      }
+    },
     deleteCollection {
       @Override
       <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
@@ -737,6 +760,9 @@ public class KubernetesTestSupport extends FiberTestSupport {
     public KubernetesTestSupportMemento() {
       CallBuilder.setStepFactory(new AsyncRequestStepFactoryImpl());
       CallBuilder.setCallDispatcher(new CallDispatcherImpl());
+      AuthenticationProxy.clearCachedReviews();
+      AuthorizationProxy.clearCachedReviews();
+      AdmissionChecker.clearCachedLookups();
     }
 
     @Override
@@ -1069,6 +1095,32 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return resource;
     }
 
+    T patchResourceStatus(String name, String namespace, V1Patch body) {
+      T current = data.get(name);
+      if (current == null) {
+        throw new NotFoundException(getResourceName(), name, namespace);
+      }
+
+      JsonValue patchValue = Json.createReader(new StringReader(body.getValue())).readValue();
+      verifyResourceVersionPrecondition(patchValue, current);
+      JsonMergePatch patch = Json.createMergePatch(patchValue);
+      copyResourceStatus(fromJsonStructure((JsonStructure) patch.apply(toJsonStructure(current))), current);
+      incrementResourceVersion(getMetadata(current));
+      onUpdateActions.forEach(a -> a.accept(current));
+      return current;
+    }
+
+    // A patch which specifies a resource version applies only to a resource which still has that version.
+    private void verifyResourceVersionPrecondition(JsonValue patch, T current) {
+      Optional.of(patch.asJsonObject())
+          .map(p -> p.getJsonObject("metadata"))
+          .map(m -> m.getString("resourceVersion", null))
+          .filter(v -> !v.equals(getMetadata(current).getResourceVersion()))
+          .ifPresent(v -> {
+            throw new HttpErrorException(new ApiException(HTTP_CONFLICT, "resource version " + v + " is stale"));
+          });
+    }
+
     T fromJsonStructure(JsonStructure jsonStructure) {
       return new JSON().deserialize(jsonStructure.toString(), resourceType);
     }
@@ -1220,6 +1272,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return inNamespace(namespace).patchResource(name, namespace, body);
     }
 
+    @Override
+    T patchResourceStatus(String name, String namespace, V1Patch body) {
+      return inNamespace(namespace).patchResourceStatus(name, namespace, body);
+    }
+
     @Override
     List<T> getResources(String namespace, String fieldSelector, String... labelSelectors) {
       return inNamespace(namespace).getResources(fieldSelector, labelSelectors);
@@ -1335,6 +1392,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return dataRepository.deleteResource(requestParams.name, requestParams.namespace, requestParams.call);
     }
 
+    private <T> T patchResourceStatus(DataRepository<T> dataRepository) {
+      return dataRepository.patchResourceStatus(
+          requestParams.name, requestParams.namespace, (V1Patch) requestParams.body);
+    }
+
     private <T> T patchResource(DataRepository<T> dataRepository) {
       return dataRepository.patchResource(
           requestParams.name, requestParams.namespace, (V1Patch) requestParams.body);
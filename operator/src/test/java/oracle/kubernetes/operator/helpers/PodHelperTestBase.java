@@ -355,6 +355,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
             .withLogLevel(Level.FINE)
             .ignoringLoggedExceptions(ApiException.class));
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "domainEventK8SObjects", domainEventObjects));
+    mementos.add(StaticStubSupport.install(PodStepContext.class, "recipeCache", new PodRecipeCache()));
 
     WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport(DOMAIN_NAME);
     configSupport.addWlsServer(ADMIN_SERVER, ADMIN_PORT);
@@ -2303,6 +2304,41 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     verifyPodReplaced();
   }
 
+  @Test
+  void whenDomainGenerationUnchanged_reuseCachedRecipe() {
+    domain.getMetadata().setGeneration(1L);
+    initializeExistingPod();
+    verifyPodNotReplaced();
+
+    domain.getSpec().setImage("cached-recipe-test:latest");
+
+    verifyPodNotReplaced();
+  }
+
+  @Test
+  void whenDomainGenerationChanged_dontReuseCachedRecipe() {
+    domain.getMetadata().setGeneration(1L);
+    initializeExistingPod();
+    verifyPodNotReplaced();
+
+    domain.getSpec().setImage("cached-recipe-test:latest");
+    domain.getMetadata().setGeneration(2L);
+
+    verifyPodReplaced();
+  }
+
+  @Test
+  void whenDomainZipHashChangedAfterRecipeCached_replacePod() {
+    domain.getMetadata().setGeneration(1L);
+    testSupport.addToPacket(DOMAINZIP_HASH, "originalZip");
+    initializeExistingPod();
+    verifyPodNotReplaced();
+
+    testSupport.addToPacket(DOMAINZIP_HASH, "newZipHash");
+
+    verifyPodReplaced();
+  }
+
   @Test
   void whenMiiDynamicUpdateDynamicChangesOnlyButOnlineUpdateDisabled_replacePod() {
     initializeMiiUpdateTest(MII_DYNAMIC_UPDATE_SUCCESS);
@@ -0,0 +1,131 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.http.metrics.ReviewCacheMetrics;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.REVIEW_CACHE_MAX_ENTRIES;
+import static oracle.kubernetes.operator.tuning.TuningParameters.REVIEW_CACHE_NEGATIVE_TTL_SECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.REVIEW_CACHE_POSITIVE_TTL_SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+class ReviewCacheTest {
+
+  private static final String REVIEW_TYPE = ReviewCacheMetrics.SUBJECT_ACCESS_REVIEW;
+  private static final int POSITIVE_TTL = 60;
+  private static final int NEGATIVE_TTL = 10;
+
+  private final ReviewCache<String, Boolean> cache = new ReviewCache<>(REVIEW_TYPE, Boolean.TRUE::equals);
+  private final List<String> reviews = new ArrayList<>();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    TuningParametersStub.setParameter(REVIEW_CACHE_POSITIVE_TTL_SECONDS, Integer.toString(POSITIVE_TTL));
+    TuningParametersStub.setParameter(REVIEW_CACHE_NEGATIVE_TTL_SECONDS, Integer.toString(NEGATIVE_TTL));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private Boolean review(String key, Boolean result) {
+    return cache.computeIfAbsent(key, () -> {
+      reviews.add(key);
+      return result;
+    });
+  }
+
+  @Test
+  void whenResultCached_returnItWithoutRepeatingReview() {
+    review("key", true);
+
+    assertThat(review("key", false), equalTo(true));
+    assertThat(reviews, contains("key"));
+  }
+
+  @Test
+  void whenPositiveResultOlderThanItsTtl_repeatReview() {
+    review("key", true);
+
+    SystemClockTestSupport.increment(POSITIVE_TTL - 1);
+    review("key", true);
+    SystemClockTestSupport.increment(1);
+    review("key", true);
+
+    assertThat(reviews, contains("key", "key"));
+  }
+
+  @Test
+  void whenNegativeResultOlderThanItsTtl_repeatReview() {
+    review("key", false);
+
+    SystemClockTestSupport.increment(NEGATIVE_TTL - 1);
+    review("key", false);
+    SystemClockTestSupport.increment(1);
+    review("key", false);
+
+    assertThat(reviews, contains("key", "key"));
+  }
+
+  @Test
+  void whenReviewFails_dontCacheFailure() {
+    review("key", null);
+    review("key", null);
+
+    assertThat(reviews, contains("key", "key"));
+  }
+
+  @Test
+  void whenTtlIsZero_dontCacheResult() {
+    TuningParametersStub.setParameter(REVIEW_CACHE_NEGATIVE_TTL_SECONDS, "0");
+
+    review("key", false);
+    review("key", false);
+
+    assertThat(reviews, contains("key", "key"));
+  }
+
+  @Test
+  void whenCacheFull_discardLeastRecentlyUsedResult() {
+    TuningParametersStub.setParameter(REVIEW_CACHE_MAX_ENTRIES, "2");
+    review("key1", true);
+    review("key2", true);
+    review("key1", true);
+
+    review("key3", true);
+    reviews.clear();
+    review("key1", true);
+    review("key2", true);
+
+    assertThat(reviews, contains("key2"));
+  }
+
+  @Test
+  void recordCacheHitsAndMisses() {
+    final double hits = ReviewCacheMetrics.getHitCount(REVIEW_TYPE);
+    final double misses = ReviewCacheMetrics.getMissCount(REVIEW_TYPE);
+
+    review("key", true);
+    review("key", true);
+    review("key", true);
+
+    assertThat(ReviewCacheMetrics.getHitCount(REVIEW_TYPE), equalTo(hits + 2));
+    assertThat(ReviewCacheMetrics.getMissCount(REVIEW_TYPE), equalTo(misses + 1));
+  }
+}
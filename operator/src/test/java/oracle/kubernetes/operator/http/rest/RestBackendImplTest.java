@@ -3,11 +3,14 @@
 
 package oracle.kubernetes.operator.http.rest;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
@@ -23,16 +26,21 @@ import io.kubernetes.client.openapi.models.V1TokenReview;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
 import jakarta.ws.rs.WebApplicationException;
+import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
+import oracle.kubernetes.operator.helpers.ClusterPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.http.rest.RestBackendImpl.TopologyRetriever;
 import oracle.kubernetes.operator.http.rest.backend.RestBackend;
 import oracle.kubernetes.operator.http.rest.model.DomainAction;
 import oracle.kubernetes.operator.http.rest.model.DomainActionType;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.ClusterConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
@@ -49,6 +57,7 @@ import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CLUSTER;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SUBJECT_ACCESS_REVIEW;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.TOKEN_REVIEW;
+import static oracle.kubernetes.operator.tuning.TuningParameters.REST_READ_MAX_STALENESS_SECONDS;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
@@ -83,6 +92,9 @@ class RestBackendImplTest {
   private ClusterResource createdClusterResource;
   private final DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain1);
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final Map<String, Map<String, DomainPresenceInfo>> operatorDomains = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, ClusterPresenceInfo>> operatorClusters = new ConcurrentHashMap<>();
+  private final Map<String, OffsetDateTime> resourcesListedTimes = new ConcurrentHashMap<>();
   private WlsDomainConfig config;
 
   private static V1Namespace createNamespace(String name) {
@@ -102,6 +114,10 @@ class RestBackendImplTest {
     mementos.add(TuningParametersStub.install());
     mementos.add(
         StaticStubSupport.install(RestBackendImpl.class, "instance", new TopologyRetrieverStub()));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "domains", operatorDomains));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "clusters", operatorClusters));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "resourcesListedTimes", resourcesListedTimes));
+    mementos.add(SystemClockTestSupport.installClock());
 
     testSupport.defineResources(namespace, domain1, domain2);
     testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticate((V1TokenReview) r));
@@ -150,6 +166,72 @@ class RestBackendImplTest {
     }
   }
 
+  @Test
+  void whenOperatorRecentlyListedResources_readDomainsFromOperatorCopies() {
+    defineOperatorCopies(createDomain(NS, DOMAIN3));
+
+    assertThat(createTokenReviewRestBackend().getDomainUids(), containsInAnyOrder(DOMAIN3));
+  }
+
+  @Test
+  void whenOperatorListingTooOld_listDomainsFromKubernetes() {
+    defineOperatorCopies(createDomain(NS, DOMAIN3));
+
+    SystemClockTestSupport.increment(TuningParameters.getInstance().getRestReadMaxStalenessSeconds() + 1);
+
+    assertThat(createTokenReviewRestBackend().getDomainUids(), containsInAnyOrder(DOMAIN1, DOMAIN2));
+  }
+
+  @Test
+  void whenOperatorHasNotListedResources_listDomainsFromKubernetes() {
+    operatorDomains.put(NS, new ConcurrentHashMap<>(
+          Map.of(DOMAIN3, new DomainPresenceInfo(createDomain(NS, DOMAIN3)))));
+
+    assertThat(createTokenReviewRestBackend().getDomainUids(), containsInAnyOrder(DOMAIN1, DOMAIN2));
+  }
+
+  @Test
+  void whenRestReadStalenessIsZero_listDomainsFromKubernetes() {
+    TuningParametersStub.setParameter(REST_READ_MAX_STALENESS_SECONDS, "0");
+    defineOperatorCopies(createDomain(NS, DOMAIN3));
+
+    assertThat(createTokenReviewRestBackend().getDomainUids(), containsInAnyOrder(DOMAIN1, DOMAIN2));
+  }
+
+  @Test
+  void whenNotUsingTokenReview_listDomainsWithCallerCredentials() {
+    defineOperatorCopies(createDomain(NS, DOMAIN3));
+
+    assertThat(restBackend.getDomainUids(), containsInAnyOrder(DOMAIN1, DOMAIN2));
+  }
+
+  @Test
+  void whenOperatorRecentlyListedResources_scaleClusterFromOperatorCopies() {
+    final ClusterResource clusterResource = createClusterResource(DOMAIN1, NS, CLUSTER_1).withReplicas(1);
+    testSupport.defineResources(clusterResource);
+    configureDomain().withClusterReference(clusterResource.getClusterResourceName());
+    defineOperatorCopies(domain1);
+    operatorClusters.put(NS, new ConcurrentHashMap<>(
+          Map.of(clusterResource.getClusterResourceName(), new ClusterPresenceInfo(clusterResource))));
+
+    createTokenReviewRestBackend().scaleCluster(DOMAIN1, CLUSTER_1, 5);
+
+    assertThat(getUpdatedClusterResource().getSpec().getReplicas(), equalTo(5));
+  }
+
+  private void defineOperatorCopies(DomainResource... domains) {
+    for (DomainResource domain : domains) {
+      operatorDomains.computeIfAbsent(domain.getNamespace(), k -> new ConcurrentHashMap<>())
+            .put(domain.getDomainUid(), new DomainPresenceInfo(domain));
+    }
+    resourcesListedTimes.put(NS, SystemClock.now());
+  }
+
+  private RestBackend createTokenReviewRestBackend() {
+    TuningParametersStub.setParameter("tokenReviewAuthentication", "true");
+    return new RestBackendImpl("", "", this::getDomainNamespaces);
+  }
+
   // functionality needed for Domain resource
 
   @Test
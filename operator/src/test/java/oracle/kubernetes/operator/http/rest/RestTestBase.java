@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest;
@@ -13,6 +13,7 @@ import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.core.HttpHeaders;
 import oracle.kubernetes.common.utils.BaseTestUtils;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.utils.TestUtils;
 import org.glassfish.jersey.test.JerseyTest;
 import org.glassfish.jersey.test.inmemory.InMemoryTestContainerFactory;
@@ -38,6 +39,7 @@ public class RestTestBase extends JerseyTest {
   public void setupRestTest() throws Exception {
     setUp();
     mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
     mementos.add(BaseTestUtils.silenceJsonPathLogger());
     mementos.add(TestUtils.silenceOperatorLogger());
   }
@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.introspection;
@@ -108,6 +108,19 @@ class IntrospectionLoggingTest {
     logRecords.clear();
   }
 
+  @Test
+  void whenIntrospectorLogContainsGeneratedFiles_dontLogTheirContents() {
+    introspectorJob.status(IntrospectionTestUtils.createCompletedStatus());
+    IntrospectionTestUtils.defineIntrospectionPodLog(testSupport,
+          onSeparateLines(INFO_MESSAGE, ">>> /u01/introspect/domain1/topology.yaml", "domainValid: true", ">>> EOF",
+                INFO_EXTRA1));
+
+    testSupport.runSteps(JobHelper.readDomainIntrospectorPodLog(terminalStep));
+
+    assertThat(logRecords, containsInfo(INTROSPECTOR_LOG_PREFIX + onSeparateLines(INFO_MESSAGE, INFO_EXTRA1)));
+    logRecords.clear();
+  }
+
   @Test
   void whenJobLogContainsSevereError_copyToDomainStatus() {
     IntrospectionTestUtils.defineIntrospectionPodLog(testSupport, SEVERE_MESSAGE_1);
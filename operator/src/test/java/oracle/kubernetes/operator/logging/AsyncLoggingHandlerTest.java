@@ -0,0 +1,265 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import oracle.kubernetes.operator.http.metrics.LoggingMetrics;
+import oracle.kubernetes.operator.logging.AsyncLoggingHandler.OverflowPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.logging.ThreadLoggingContext.setThreadContext;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class AsyncLoggingHandlerTest {
+
+  private static final int NUM_RECORDS = 100;
+
+  private final RecordingHandler delegate = new RecordingHandler();
+  private AsyncLoggingHandler handler;
+
+  @AfterEach
+  void tearDown() {
+    delegate.release();
+    if (handler != null) {
+      handler.close();
+    }
+  }
+
+  private AsyncLoggingHandler createHandler(int capacity, OverflowPolicy overflowPolicy, int sampleRate) {
+    handler = new AsyncLoggingHandler(Collections.singletonList(delegate), capacity, overflowPolicy, sampleRate);
+    return handler;
+  }
+
+  private LogRecord createRecord(Level level, String message) {
+    final LogRecord logRecord = new LogRecord(level, message);
+    logRecord.setSourceClassName("theClass");
+    logRecord.setSourceMethodName("itsMethod");
+    return logRecord;
+  }
+
+  @Test
+  void publishedRecords_areWrittenOnAnotherThreadInOrder() {
+    createHandler(10, OverflowPolicy.BLOCK, 1);
+
+    for (int i = 0; i < NUM_RECORDS; i++) {
+      handler.publish(createRecord(Level.INFO, "message " + i));
+    }
+    handler.flush();
+
+    assertThat(delegate.getMessages(), equalTo(getExpectedMessages(NUM_RECORDS)));
+    assertThat(delegate.writingThread, not(sameInstance(Thread.currentThread())));
+  }
+
+  private List<String> getExpectedMessages(int numRecords) {
+    List<String> messages = new ArrayList<>();
+    for (int i = 0; i < numRecords; i++) {
+      messages.add("message " + i);
+    }
+    return messages;
+  }
+
+  @Test
+  void publishedRecords_haveMessagesFormattedWhenLogged() {
+    createHandler(10, OverflowPolicy.BLOCK, 1);
+    final LogRecord logRecord = createRecord(Level.INFO, "Insert {0}");
+    logRecord.setParameters(new Object[] {"here"});
+
+    handler.publish(logRecord);
+    logRecord.getParameters()[0] = "there";
+    handler.flush();
+
+    assertThat(delegate.getMessages(), contains("Insert here"));
+  }
+
+  @Test
+  void publishedRecords_haveContextCurrentWhenLogged() throws JsonProcessingException {
+    createHandler(10, OverflowPolicy.BLOCK, 1);
+
+    try (ThreadLoggingContext ignored = setThreadContext().namespace("logged-ns").domainUid("logged-uid")) {
+      handler.publish(createRecord(Level.INFO, "with context"));
+    }
+    handler.flush();
+
+    final Map<String, Object> line = formatWrittenRecord();
+    assertThat(line, hasEntry("namespace", "logged-ns"));
+    assertThat(line, hasEntry("domainUID", "logged-uid"));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> formatWrittenRecord() throws JsonProcessingException {
+    final String line = new OperatorLoggingFormatter().format(delegate.records.get(0));
+    return new ObjectMapper().readValue(line, Map.class);
+  }
+
+  @Test
+  void whenQueueFullAndDroppingDebugRecords_discardFineRecords() throws InterruptedException {
+    createHandler(2, OverflowPolicy.DROP_DEBUG, 1);
+    fillQueueWhileWriterBlocked();
+    final double droppedBefore = LoggingMetrics.getDroppedCount(Level.FINE);
+
+    handler.publish(createRecord(Level.FINE, "dropped 1"));
+    handler.publish(createRecord(Level.FINE, "dropped 2"));
+    delegate.release();
+    handler.flush();
+
+    assertThat(delegate.getMessages(), contains("blocking", "queued 1", "queued 2"));
+    assertThat(LoggingMetrics.getDroppedCount(Level.FINE) - droppedBefore, equalTo(2.0));
+  }
+
+  // Publishes a record which blocks the writer, then fills the queue behind it.
+  private void fillQueueWhileWriterBlocked() throws InterruptedException {
+    delegate.block();
+    handler.publish(createRecord(Level.INFO, "blocking"));
+    delegate.awaitBlocked();
+    handler.publish(createRecord(Level.INFO, "queued 1"));
+    handler.publish(createRecord(Level.INFO, "queued 2"));
+  }
+
+  @Test
+  void whenQueueFullAndSampling_discardAllButOneInSampleRateRecords() throws InterruptedException {
+    createHandler(2, OverflowPolicy.SAMPLE, 3);
+    fillQueueWhileWriterBlocked();
+    final double droppedBefore = LoggingMetrics.getDroppedCount(Level.FINER);
+
+    handler.publish(createRecord(Level.FINER, "dropped 1"));
+    handler.publish(createRecord(Level.FINER, "dropped 2"));
+    delegate.release();
+    handler.publish(createRecord(Level.FINER, "sampled"));
+    handler.flush();
+
+    assertThat(delegate.getMessages(), contains("blocking", "queued 1", "queued 2", "sampled"));
+    assertThat(LoggingMetrics.getDroppedCount(Level.FINER) - droppedBefore, equalTo(2.0));
+  }
+
+  @Test
+  void whenQueueFullAndBlocking_waitForSpace() throws InterruptedException {
+    createHandler(2, OverflowPolicy.BLOCK, 1);
+    fillQueueWhileWriterBlocked();
+
+    Thread publisher = new Thread(() -> handler.publish(createRecord(Level.FINE, "waited")));
+    publisher.start();
+    delegate.release();
+    publisher.join(TimeUnit.SECONDS.toMillis(10));
+    handler.flush();
+
+    assertThat(delegate.getMessages(), contains("blocking", "queued 1", "queued 2", "waited"));
+  }
+
+  @Test
+  void whenClosed_writeQueuedRecords() throws InterruptedException {
+    createHandler(2, OverflowPolicy.BLOCK, 1);
+    fillQueueWhileWriterBlocked();
+
+    delegate.release();
+    handler.close();
+
+    assertThat(delegate.getMessages(), contains("blocking", "queued 1", "queued 2"));
+    assertThat(delegate.closed, equalTo(true));
+  }
+
+  @Test
+  void whenRootHandlerWritesToConsole_facadeWritesEachRecordToConsoleOnce() {
+    final PrintStream savedErr = System.err;
+    final ByteArrayOutputStream console = new ByteArrayOutputStream();
+    final Logger rootLogger = Logger.getLogger("");
+    final Logger logger = Logger.getLogger("AsyncLoggingHandlerTest");
+    try {
+      System.setErr(new PrintStream(console, true, StandardCharsets.UTF_8));
+      handler = new AsyncLoggingHandler(List.of(new ConsoleHandler()), 10, OverflowPolicy.BLOCK, 1);
+      rootLogger.addHandler(handler);
+      logger.setLevel(Level.INFO);
+
+      new LoggingFacade(logger).info("written once");
+      handler.flush();
+
+      assertThat(console.toString(StandardCharsets.UTF_8).split("written once", -1).length - 1, equalTo(1));
+    } finally {
+      rootLogger.removeHandler(handler);
+      Arrays.stream(logger.getHandlers()).forEach(logger::removeHandler);
+      System.setErr(savedErr);
+    }
+  }
+
+  static class RecordingHandler extends Handler {
+    private final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+    private volatile boolean blockNext;
+    private volatile CountDownLatch blocked = new CountDownLatch(0);
+    private volatile CountDownLatch release = new CountDownLatch(0);
+    private volatile Thread writingThread;
+    private volatile boolean closed;
+
+    void block() {
+      blocked = new CountDownLatch(1);
+      release = new CountDownLatch(1);
+      blockNext = true;
+    }
+
+    void awaitBlocked() throws InterruptedException {
+      blocked.await(10, TimeUnit.SECONDS);
+    }
+
+    void release() {
+      release.countDown();
+    }
+
+    List<String> getMessages() {
+      synchronized (records) {
+        return records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+      }
+    }
+
+    @Override
+    public void publish(LogRecord logRecord) {
+      writingThread = Thread.currentThread();
+      records.add(logRecord);
+      if (blockNext) {
+        blockNext = false;
+        blocked.countDown();
+        awaitRelease();
+      }
+    }
+
+    private void awaitRelease() {
+      try {
+        release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @Override
+    public void flush() {
+      // nothing to flush
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
@@ -3,8 +3,10 @@
 
 package oracle.kubernetes.operator.steps;
 
+import java.net.URI;
 import java.net.http.HttpRequest;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,10 +14,12 @@ import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 import com.meterware.httpunit.Base64;
 import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceBuilder;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
@@ -176,6 +180,58 @@ class ReadHealthStepTest {
     assertThat(getRemainingServersToRead(packet), equalTo(0));
   }
 
+  @Test
+  void whenReadDomainHealth_recordStateAndHealthOfServersWithPods() {
+    selectAdminServerForDomainRead();
+    info.setServerPod(MANAGED_SERVER1, new V1Pod());
+    testSupport.addToPacket(REMAINING_SERVERS_HEALTH_TO_READ, new AtomicInteger(2));
+    defineDomainResponse(200, createServerRuntimesResponse(MANAGED_SERVER1, "no-such-server"));
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(getServerHealthMap(packet).get(MANAGED_SERVER1).getOverallHealth(), equalTo("ok"));
+    assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("RUNNING"));
+    assertThat(getServerHealthMap(packet).containsKey("no-such-server"), is(false));
+    assertThat(getRemainingServersToRead(packet), equalTo(1));
+  }
+
+  @Test
+  void whenUnableToReadDomainHealth_recordNothing() {
+    selectAdminServerForDomainRead();
+    info.setServerPod(MANAGED_SERVER1, new V1Pod());
+    defineDomainResponse(500, "");
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(getServerHealthMap(packet).isEmpty(), is(true));
+    assertThat(getServerStateMap(packet).isEmpty(), is(true));
+  }
+
+  private void defineDomainResponse(int status, String body) {
+    httpSupport.defineResponse(
+        HttpRequest.newBuilder()
+            .uri(URI.create("http://" + ADMIN_NAME + ".Test.svc:3456/management/weblogic/latest/domainRuntime/search"))
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build(),
+        createStub(HttpResponseStub.class, status, body));
+  }
+
+  private void selectAdminServerForDomainRead() {
+    info.setAdminServerName(ADMIN_NAME);
+    info.setServerService(ADMIN_NAME, createService(ADMIN_NAME));
+    info.setServerPod(ADMIN_NAME, new V1Pod());
+  }
+
+  private String createServerRuntimesResponse(String... serverNames) {
+    return "{ \"serverRuntimes\": { \"items\": ["
+        + Arrays.stream(serverNames).map(this::createServerRuntime).collect(Collectors.joining(","))
+        + "] } }";
+  }
+
+  private String createServerRuntime(String serverName) {
+    return OK_RESPONSE.replaceFirst("\\{", "{ \"name\": \"" + serverName + "\",");
+  }
+
   @Test
   void whenServerRunning_verifyServerHealth() {
     selectServer(MANAGED_SERVER1);
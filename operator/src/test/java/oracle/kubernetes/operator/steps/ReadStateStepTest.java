@@ -0,0 +1,107 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ServiceBuilder;
+import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.http.client.HttpAsyncTestSupport;
+import oracle.kubernetes.operator.http.client.HttpResponseStub;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.http.client.HttpAsyncTestSupport.OK_RESPONSE;
+import static oracle.kubernetes.operator.http.client.HttpAsyncTestSupport.createExpectedRequest;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+
+class ReadStateStepTest {
+  private static final String DOMAIN_NAME = "domain";
+  private static final String MANAGED_SERVER1 = "managed-server1";
+  private static final int MANAGED_SERVER1_PORT_NUM = 8001;
+  private static final String SERVER_URL = "http://" + MANAGED_SERVER1 + ".Test.svc:" + MANAGED_SERVER1_PORT_NUM;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final HttpAsyncTestSupport httpSupport = new HttpAsyncTestSupport();
+  private final TerminalStep terminalStep = new TerminalStep();
+  private final Map<String, String> serverStateMap = new HashMap<>();
+  private final DomainResource domain = DomainProcessorTestSetup.createTestDomain();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
+
+  @BeforeEach
+  public void setup() throws NoSuchFieldException {
+    WlsDomainConfigSupport configSupport =
+        new WlsDomainConfigSupport(DOMAIN_NAME).withWlsServer(MANAGED_SERVER1, MANAGED_SERVER1_PORT_NUM);
+
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(httpSupport.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(TuningParametersStub.install());
+
+    testSupport.addDomainPresenceInfo(info);
+    testSupport.addToPacket(SERVER_STATE_MAP, serverStateMap);
+    testSupport.addToPacket(DOMAIN_TOPOLOGY, configSupport.createDomainConfig());
+    info.setServerService(MANAGED_SERVER1,
+        new V1ServiceBuilder().withNewMetadata().withName(MANAGED_SERVER1).withNamespace("Test").endMetadata().build());
+
+    DomainProcessorTestSetup.defineSecretData(testSupport);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void defineResponse(int status, String body) {
+    httpSupport.defineResponse(createExpectedRequest(SERVER_URL), createStub(HttpResponseStub.class, status, body));
+  }
+
+  @Test
+  void whenStateRead_recordInStateMapAndLastKnownStatus() {
+    defineResponse(200, OK_RESPONSE);
+
+    Packet packet = testSupport.runSteps(ReadStateStep.createReadStateStep(MANAGED_SERVER1, terminalStep));
+
+    assertThat(packet.<Map<String, String>>getValue(SERVER_STATE_MAP), hasEntry(MANAGED_SERVER1, "RUNNING"));
+    assertThat(info.getLastKnownServerStatus(MANAGED_SERVER1).getStatus(), equalTo("RUNNING"));
+  }
+
+  @Test
+  void whenServerUnavailable_dontRecordState() {
+    defineResponse(503, "");
+
+    Packet packet = testSupport.runSteps(ReadStateStep.createReadStateStep(MANAGED_SERVER1, terminalStep));
+
+    assertThat(packet.<Map<String, String>>getValue(SERVER_STATE_MAP), anEmptyMap());
+  }
+
+  @Test
+  void whenServerHasNoService_dontRecordState() {
+    Packet packet = testSupport.runSteps(ReadStateStep.createReadStateStep("no-such-server", terminalStep));
+
+    assertThat(packet.<Map<String, String>>getValue(SERVER_STATE_MAP), anEmptyMap());
+  }
+}
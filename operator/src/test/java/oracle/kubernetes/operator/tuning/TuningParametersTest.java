@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.tuning;
@@ -62,6 +62,7 @@ class TuningParametersTest {
   void whenNoTuningParametersConfigured_facadesReturnDefaultValues() {
     assertThat(getTuningParameters().getNamespaceRecheckIntervalSeconds(), equalTo(DEFAULT_NAMESPACE_RECHECK_SECONDS));
     assertThat(getTuningParameters().isRestartEvictedPods(), is(true));
+    assertThat(getTuningParameters().getKubernetesMaxInFlightRequestsPerVerb(), equalTo(0));
   }
 
   @Test
@@ -0,0 +1,149 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ResourceInformerTest {
+
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+  private static final String UID1 = "uid1";
+  private static final String UID2 = "uid2";
+
+  private final ResourceInformer<V1Pod> informer = new ResourceInformer<>();
+  private final List<Watch.Response<V1Pod>> ns1Events = new ArrayList<>();
+  private final List<Watch.Response<V1Pod>> allEvents = new ArrayList<>();
+
+  private V1Pod createPod(String namespace, String domainUid, String serverName) {
+    return new V1Pod().metadata(new V1ObjectMeta().namespace(namespace).name(domainUid + "-" + serverName)
+          .putLabelsItem(DOMAINUID_LABEL, domainUid).putLabelsItem(SERVERNAME_LABEL, serverName));
+  }
+
+  private Watch.Response<V1Pod> response(String type, V1Pod pod) {
+    return new Watch.Response<>(type, pod);
+  }
+
+  @Test
+  void afterResourceAdded_canFindItByNamespaceDomainAndServer() {
+    V1Pod pod = createPod(NS1, UID1, "ms1");
+
+    informer.receivedResponse(response("ADDED", pod));
+
+    assertThat(informer.getResources(NS1), contains(pod));
+    assertThat(informer.getResourcesForDomain(NS1, UID1), contains(pod));
+    assertThat(informer.getResourceForServer(NS1, UID1, "ms1"), sameInstance(pod));
+  }
+
+  @Test
+  void afterResourceModified_storeContainsOnlyNewVersion() {
+    V1Pod original = createPod(NS1, UID1, "ms1");
+    V1Pod modified = createPod(NS1, UID1, "ms1");
+    informer.receivedResponse(response("ADDED", original));
+
+    informer.receivedResponse(response("MODIFIED", modified));
+
+    assertThat(informer.getResources(NS1), contains(modified));
+    assertThat(informer.getResourceForServer(NS1, UID1, "ms1"), sameInstance(modified));
+  }
+
+  @Test
+  void afterResourceDeleted_itIsRemovedFromAllIndexes() {
+    V1Pod pod = createPod(NS1, UID1, "ms1");
+    informer.receivedResponse(response("ADDED", pod));
+
+    informer.receivedResponse(response("DELETED", pod));
+
+    assertThat(informer.getResources(NS1), empty());
+    assertThat(informer.getResourcesForDomain(NS1, UID1), empty());
+    assertThat(informer.getResourceForServer(NS1, UID1, "ms1"), nullValue());
+  }
+
+  @Test
+  void domainIndex_selectsOnlyResourcesForThatDomain() {
+    V1Pod pod1 = createPod(NS1, UID1, "ms1");
+    V1Pod pod2 = createPod(NS1, UID1, "ms2");
+    informer.replaceNamespace(NS1, List.of(pod1, pod2, createPod(NS1, UID2, "ms1")));
+
+    assertThat(informer.getResourcesForDomain(NS1, UID1), containsInAnyOrder(pod1, pod2));
+  }
+
+  @Test
+  void whenNamespaceReplaced_discardOldResources() {
+    V1Pod newPod = createPod(NS1, UID2, "admin");
+    informer.receivedResponse(response("ADDED", createPod(NS1, UID1, "ms1")));
+
+    informer.replaceNamespace(NS1, List.of(newPod));
+
+    assertThat(informer.getResources(NS1), contains(newPod));
+    assertThat(informer.getResourcesForDomain(NS1, UID1), empty());
+  }
+
+  @Test
+  void whenResourcesAdded_keepEarlierResources() {
+    V1Pod firstPagePod = createPod(NS1, UID1, "ms1");
+    V1Pod secondPagePod = createPod(NS1, UID1, "ms2");
+    informer.replaceNamespace(NS1, List.of(firstPagePod));
+
+    informer.addResources(List.of(secondPagePod));
+
+    assertThat(informer.getResourcesForDomain(NS1, UID1), containsInAnyOrder(firstPagePod, secondPagePod));
+  }
+
+  @Test
+  void events_areDeliveredToListenerForTheirNamespaceAndGlobalListeners() {
+    informer.addListener(NS1, ns1Events::add);
+    informer.addListener(allEvents::add);
+    Watch.Response<V1Pod> ns1Event = response("ADDED", createPod(NS1, UID1, "ms1"));
+    Watch.Response<V1Pod> ns2Event = response("ADDED", createPod(NS2, UID1, "ms1"));
+
+    informer.receivedResponse(ns1Event);
+    informer.receivedResponse(ns2Event);
+
+    assertThat(ns1Events, contains(ns1Event));
+    assertThat(allEvents, contains(ns1Event, ns2Event));
+  }
+
+  @Test
+  void afterNamespaceRemoved_itsEventsAreNotDeliveredAndResourcesDiscarded() {
+    informer.addListener(NS1, ns1Events::add);
+    informer.receivedResponse(response("ADDED", createPod(NS1, UID1, "ms1")));
+    ns1Events.clear();
+
+    informer.removeNamespace(NS1);
+    informer.receivedResponse(response("ADDED", createPod(NS1, UID1, "ms2")));
+
+    assertThat(ns1Events, empty());
+    assertThat(informer.getResourcesForDomain(NS1, UID1), contains(createPod(NS1, UID1, "ms2")));
+  }
+
+  @Test
+  void withoutStore_eventsAreDeliveredButResourcesNotKept() {
+    final ResourceInformer<V1Pod> forwarder = new ResourceInformer<V1Pod>().withoutStore();
+    forwarder.addListener(NS1, ns1Events::add);
+    Watch.Response<V1Pod> event = response("ADDED", createPod(NS1, UID1, "ms1"));
+
+    forwarder.receivedResponse(event);
+    forwarder.replaceNamespace(NS1, List.of(createPod(NS1, UID1, "ms2")));
+
+    assertThat(ns1Events, contains(event));
+    assertThat(forwarder.getResources(NS1), empty());
+    assertThat(forwarder.getResourcesForDomain(NS1, UID1), empty());
+  }
+}
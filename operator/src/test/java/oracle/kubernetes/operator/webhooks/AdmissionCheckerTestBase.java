@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.webhooks;
@@ -9,6 +9,7 @@ import java.util.List;
 
 import com.meterware.simplestub.Memento;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.webhooks.resource.AdmissionChecker;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
@@ -48,6 +49,7 @@ abstract class AdmissionCheckerTestBase {
   @BeforeEach
   public void setUp() throws NoSuchFieldException, IOException {
     mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
     setupCheckers();
   }
 
@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.webhooks;
@@ -17,6 +17,7 @@ import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1EnvVar;
 import io.kubernetes.client.openapi.models.V1LocalObjectReference;
 import jakarta.ws.rs.client.Entity;
@@ -36,6 +37,7 @@ import oracle.kubernetes.operator.webhooks.model.ConversionResponse;
 import oracle.kubernetes.operator.webhooks.model.ConversionReviewModel;
 import oracle.kubernetes.operator.webhooks.model.Result;
 import oracle.kubernetes.operator.webhooks.model.Scale;
+import oracle.kubernetes.operator.webhooks.resource.AdmissionChecker;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import org.hamcrest.MatcherAssert;
@@ -59,6 +61,9 @@ import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_GROUP;
 import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_PLURAL;
 import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_VERSION;
 import static oracle.kubernetes.operator.KubernetesConstants.SCALE;
+import static oracle.kubernetes.operator.http.metrics.AdmissionWebhookMetrics.ADMITTED_WITHOUT_VALIDATION;
+import static oracle.kubernetes.operator.http.metrics.AdmissionWebhookMetrics.VALIDATED;
+import static oracle.kubernetes.operator.http.metrics.AdmissionWebhookMetrics.getReviewCount;
 import static oracle.kubernetes.operator.webhooks.AdmissionWebhookTestSetUp.BAD_REPLICAS;
 import static oracle.kubernetes.operator.webhooks.AdmissionWebhookTestSetUp.CLUSTER_NAME_1;
 import static oracle.kubernetes.operator.webhooks.AdmissionWebhookTestSetUp.CLUSTER_NAME_2;
@@ -72,6 +77,7 @@ import static oracle.kubernetes.operator.webhooks.WebhookRestTest.RestConfigStub
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.readAdmissionReview;
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.readCluster;
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.readConversionReview;
+import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.readMap;
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.writeAdmissionReview;
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.writeClusterToMap;
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.writeConversionReview;
@@ -79,6 +85,7 @@ import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.writeDo
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.writeMap;
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.writeScaleToMap;
 import static oracle.kubernetes.weblogic.domain.model.ServerEnvVars.DOMAIN_NAME;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
@@ -108,6 +115,9 @@ class WebhookRestTest extends RestTestBase {
   private static final String REJECT_MESSAGE_CLUSTER_NOT_FOUND =
       "Exception: io.kubernetes.client.openapi.ApiException: Cluster %s not found";
 
+  private static final int NUM_DOMAINS_TO_CONVERT = 5000;
+  private static final int NUM_DOMAINS_TO_CONVERT_TO_V8 = 20;
+
   public static final String KIND_ADMISSION_REVIEW = "AdmissionReview";
 
 
@@ -311,6 +321,78 @@ class WebhookRestTest extends RestTestBase {
     assertThat(getConvertedObject(responseReview).size(),is(0));
   }
 
+  @Test
+  void whenConversionRequestHasSeveralDomains_convertEachAsIfItWereAlone() {
+    ConversionReviewModel responseReview = sendConversionWebhookRequestAsReview(createConversionReviewWithDomains(3));
+
+    assertThat(getStatus(responseReview), equalTo("Success"));
+    assertConvertedInRequestOrderAsIfAlone(getConvertedObject(responseReview), 3);
+  }
+
+  // A rough benchmark: a request large enough to be converted in parallel should produce the same results,
+  // in the same order, as converting each domain by itself.
+  @Test
+  void whenConversionRequestHasManyDomains_convertEachAsIfItWereAlone() {
+    ConversionReviewModel responseReview
+          = sendConversionWebhookRequestAsReview(createConversionReviewWithDomains(NUM_DOMAINS_TO_CONVERT));
+
+    assertThat(getStatus(responseReview), equalTo("Success"));
+    assertConvertedInRequestOrderAsIfAlone(getConvertedObject(responseReview), NUM_DOMAINS_TO_CONVERT);
+  }
+
+  @Test
+  void whenConvertingManyDomainsToV8_listClustersOncePerNamespace() {
+    ConversionReviewModel review = readConversionReview(getAsString(CONVERSION_REVIEW_REQUEST)
+          .replace("\"desiredAPIVersion\": \"weblogic.oracle/v9\"", "\"desiredAPIVersion\": \"weblogic.oracle/v8\""));
+    Map<String, Object> template = getDomainMap(
+          getConvertedObject(readConversionReview(getAsString(CONVERSION_REVIEW_RESPONSE))).get(0));
+    review.getRequest().getDomains().clear();
+    for (int i = 0; i < NUM_DOMAINS_TO_CONVERT_TO_V8; i++) {
+      Map<String, Object> domain = readMap(writeMap(template));
+      getMetadata(domain).put("namespace", "ns-" + i % 2);
+      review.getRequest().getDomains().add(domain);
+    }
+
+    ConversionReviewModel responseReview = sendConversionWebhookRequestAsReview(review);
+
+    assertThat(getStatus(responseReview), equalTo("Success"));
+    assertThat(getConvertedObject(responseReview).size(), equalTo(NUM_DOMAINS_TO_CONVERT_TO_V8));
+    assertThat(restBackend.clusterListNamespaces, containsInAnyOrder("ns-0", "ns-1"));
+  }
+
+  private ConversionReviewModel createConversionReviewWithDomains(int numDomains) {
+    ConversionReviewModel review = readConversionReview(getAsString(CONVERSION_REVIEW_REQUEST));
+    Map<String, Object> template = review.getRequest().getDomains().remove(0);
+    for (int i = 0; i < numDomains; i++) {
+      Map<String, Object> domain = readMap(writeMap(template));
+      getMetadata(domain).put("namespace", "ns-" + i);
+      review.getRequest().getDomains().add(domain);
+    }
+    return review;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> getDomainMap(Object resource) {
+    return (Map<String, Object>) resource;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> getMetadata(Object resource) {
+    return (Map<String, Object>) ((Map<String, Object>) resource).get("metadata");
+  }
+
+  private void assertConvertedInRequestOrderAsIfAlone(List<Object> convertedObjects, int numDomains) {
+    Object expected = getConvertedObject(readConversionReview(getAsString(CONVERSION_REVIEW_RESPONSE))).get(0);
+    Object expectedNamespace = getMetadata(expected).get("namespace");
+
+    assertThat(convertedObjects.size(), equalTo(numDomains));
+    for (int i = 0; i < numDomains; i++) {
+      Object converted = convertedObjects.get(i);
+      assertThat(getMetadata(converted).put("namespace", expectedNamespace), equalTo("ns-" + i));
+      assertThat(converted, equalTo(expected));
+    }
+  }
+
   private String getConversionUid(ConversionReviewModel conversionReview) {
     return Optional.ofNullable(conversionReview)
         .map(ConversionReviewModel::getResponse).map(ConversionResponse::getUid).orElse("");
@@ -515,6 +597,43 @@ class WebhookRestTest extends RestTestBase {
     assertThat(isAllowed(responseReview), equalTo(true));
   }
 
+  @Test
+  void whenOnlyDomainStatusChanged_admitItWithoutValidation() {
+    final double validatedCount = getReviewCount("domain", VALIDATED);
+    final double admittedCount = getReviewCount("domain", ADMITTED_WITHOUT_VALIDATION);
+    setExistingAndProposedDomain();
+    domainReview.getRequest().getObject().put("status", Map.of("message", "changed"));
+
+    AdmissionReview responseReview = sendValidatingRequestAsAdmissionReview(domainReview);
+
+    assertThat(isAllowed(responseReview), equalTo(true));
+    assertThat(getReviewCount("domain", VALIDATED), equalTo(validatedCount));
+    assertThat(getReviewCount("domain", ADMITTED_WITHOUT_VALIDATION), equalTo(admittedCount + 1));
+  }
+
+  @Test
+  void whenDomainSpecChanged_validateIt() {
+    final double validatedCount = getReviewCount("domain", VALIDATED);
+    proposedDomain.getSpec().withReplicas(GOOD_REPLICAS);
+    setExistingAndProposedDomain();
+
+    sendValidatingRequestAsAdmissionReview(domainReview);
+
+    assertThat(getReviewCount("domain", VALIDATED), equalTo(validatedCount + 1));
+  }
+
+  @Test
+  void whenOnlyClusterStatusChanged_admitItWithoutValidation() {
+    final double admittedCount = getReviewCount("cluster", ADMITTED_WITHOUT_VALIDATION);
+    proposedCluster.getStatus().withMaximumReplicas(1);
+    setExistingAndProposedCluster();
+
+    AdmissionReview responseReview = sendValidatingRequestAsAdmissionReview(clusterReview);
+
+    assertThat(isAllowed(responseReview), equalTo(true));
+    assertThat(getReviewCount("cluster", ADMITTED_WITHOUT_VALIDATION), equalTo(admittedCount + 1));
+  }
+
   private void setExistingAndProposedDomain() {
     domainReview.getRequest().oldObject(writeDomainToMap(existingDomain)).object(writeDomainToMap(proposedDomain));
   }
@@ -746,6 +865,41 @@ class WebhookRestTest extends RestTestBase {
         equalTo(getRejectMessageForScaleClusterResourceWithException(proposedCluster)));
   }
 
+  @Test
+  void whenScaleRequestsRepeated_reuseClusterListing() {
+    testSupport.defineResources(validScale, proposedCluster);
+    setProposedScale(validScale);
+    sendValidatingRequestAsAdmissionReview(scaleReview);
+    testSupport.failOnList(KubernetesTestSupport.CLUSTER, NS, HTTP_FORBIDDEN);
+
+    AdmissionReview responseReview = sendValidatingRequestAsAdmissionReview(scaleReview);
+
+    assertThat(isAllowed(responseReview), equalTo(true));
+  }
+
+  @Test
+  void whenScaledClusterCreatedAfterListing_findIt() {
+    testSupport.defineResources(validScale);
+    setProposedScale(validScale);
+    sendValidatingRequestAsAdmissionReview(scaleReview);
+    testSupport.defineResources(proposedCluster);
+
+    AdmissionReview responseReview = sendValidatingRequestAsAdmissionReview(scaleReview);
+
+    assertThat(isAllowed(responseReview), equalTo(true));
+  }
+
+  @Test
+  void whenScaleRequestValidated_listedClusterIsUnchanged() throws ApiException {
+    testSupport.defineResources(invalidScale, proposedCluster);
+    final Integer replicas = proposedCluster.getSpec().getReplicas();
+    setProposedScale(invalidScale);
+
+    sendValidatingRequestAsAdmissionReview(scaleReview);
+
+    assertThat(AdmissionChecker.getClusters(NS).get(0).getSpec().getReplicas(), equalTo(replicas));
+  }
+
   @Test
   void whenScaleRequestOnNonClusterResource_acceptIt() {
     AdmissionReview review = createScaleAdmissionReview();
@@ -840,6 +994,8 @@ class WebhookRestTest extends RestTestBase {
   }
 
   abstract class RestBackendStub implements RestBackend {
+    private final List<String> clusterListNamespaces = Collections.synchronizedList(new ArrayList<>());
+
     public Object createOrReplaceCluster(Map<String, Object> body) {
       ClusterResource cluster = readCluster(writeMap(body));
       testSupport.defineResources(cluster);
@@ -847,6 +1003,7 @@ class WebhookRestTest extends RestTestBase {
     }
 
     public List<Map<String, Object>> listClusters(String namespace) {
+      clusterListNamespaces.add(namespace);
       return null; // TODO
     }
   }
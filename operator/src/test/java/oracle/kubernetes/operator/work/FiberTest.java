@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
@@ -179,6 +179,29 @@ class FiberTest {
     assertThat(stepList, containsInRelativeOrder(step2, step3));
   }
 
+  @Test
+  void whenChildFibersLimited_waitForRunningChildToCompleteBeforeStartingNext() {
+    runSteps(new ChildFiberStep(1, step3, suspend, step1));
+
+    assertThat(stepList, contains(suspend));
+  }
+
+  @Test
+  void whenLimitedChildFiberCompletes_startNextChildThenSynchronizationStep() {
+    runSteps(new ChildFiberStep(1, step3, suspend, step1));
+    ((Fiber) fiberList.get(0)).resume(packet);
+
+    assertThat(stepList, contains(suspend, step1, step3));
+  }
+
+  @Test
+  void whenLimitedChildFiberThrowsException_runRemainingChildrenAndCaptureThrowable() {
+    runSteps(new ChildFiberStep(1, step3, error, step1));
+
+    assertThat(stepList, contains(error, step1));
+    assertThat(throwableList, contains(instanceOf(RuntimeException.class)));
+  }
+
   @Test
   void whenFiberCompletes_breadcrumbsAreCreated() {
     runSteps(step1, step2, step3);
@@ -356,17 +379,23 @@ class FiberTest {
 
   static class ChildFiberStep extends BasicStep {
 
+    private final int maxConcurrency;
     private final Step nextStep;
     private final Step[] childSteps;
 
     ChildFiberStep(Step nextStep, Step... steps) {
+      this(0, nextStep, steps);
+    }
+
+    ChildFiberStep(int maxConcurrency, Step nextStep, Step... steps) {
+      this.maxConcurrency = maxConcurrency;
       this.nextStep = nextStep;
       childSteps = steps;
     }
 
     @Override
     public NextAction apply(Packet packet) {
-      return doForkJoin(nextStep, packet, createStepAndPacketList(packet));
+      return doForkJoin(nextStep, packet, createStepAndPacketList(packet), maxConcurrency);
     }
 
     @Nonnull
@@ -0,0 +1,145 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class PacketTest {
+
+  private static final int NUM_CHILDREN = 20;
+  private static final int NUM_VALUES = 50;
+
+  private final Packet packet = new Packet();
+
+  @Test
+  void afterCopy_copyHasOriginalValues() {
+    packet.put("key1", "value1");
+
+    assertThat(packet.copy(), hasEntry("key1", "value1"));
+  }
+
+  @Test
+  void afterCopy_changesToCopyAreNotSeenByOriginal() {
+    packet.put("key1", "value1");
+    packet.put("key2", "value2");
+
+    Packet copy = packet.copy();
+    copy.put("key1", "changed");
+    copy.remove("key2");
+    copy.put("key3", "added");
+
+    assertThat(packet, equalTo(Map.of("key1", "value1", "key2", "value2")));
+  }
+
+  @Test
+  void afterCopy_changesToOriginalAreNotSeenByCopy() {
+    packet.put("key1", "value1");
+    packet.put("key2", "value2");
+
+    Packet copy = packet.copy();
+    packet.put("key1", "changed");
+    packet.put("key2", null);
+    packet.put("key3", "added");
+
+    assertThat(copy, equalTo(Map.of("key1", "value1", "key2", "value2")));
+  }
+
+  @Test
+  void whenCopiedValueRemoved_returnRemovedValue() {
+    packet.put("key1", "value1");
+    Packet copy = packet.copy();
+
+    assertThat(copy.remove("key1"), equalTo("value1"));
+    assertThat(copy.get("key1"), nullValue());
+    assertThat(copy.containsKey("key1"), equalTo(false));
+  }
+
+  @Test
+  void whenRemovedValueReplaced_returnNewValue() {
+    packet.put("key1", "value1");
+    Packet copy = packet.copy();
+    copy.remove("key1");
+
+    assertThat(copy.put("key1", "value2"), nullValue());
+    assertThat(copy.get("key1"), equalTo("value2"));
+  }
+
+  @Test
+  void afterComponentAdded_findItsSpi() {
+    String spi = "an spi";
+    packet.getSpi(String.class);
+
+    packet.getComponents().put("test", Component.createFor(spi));
+
+    assertThat(packet.getSpi(String.class), sameInstance(spi));
+  }
+
+  @Test
+  void afterComponentRemoved_noLongerFindItsSpi() {
+    packet.getComponents().put("test", Component.createFor("an spi"));
+    packet.getSpi(String.class);
+
+    packet.getComponents().remove("test");
+
+    assertThat(packet.getSpi(String.class), nullValue());
+  }
+
+  @Test
+  void afterCopy_componentsAddedToCopyAreNotSeenByOriginal() {
+    Packet copy = packet.copy();
+
+    copy.getComponents().put("test", Component.createFor("an spi"));
+
+    assertThat(packet.getSpi(String.class), nullValue());
+    assertThat(packet.getComponents(), not(equalTo(copy.getComponents())));
+  }
+
+  // A fork-join fan-out, in which a packet is copied for each child and each child then records its own results.
+  // Each child must see the same contents as if the packet's contents had been duplicated for it.
+  @Test
+  void whenPacketsForkedForManyChildren_eachChildMatchesCopyOfContents() {
+    for (int i = 0; i < NUM_VALUES; i++) {
+      packet.put("key" + i, "value" + i);
+    }
+    Map<String, Object> original = new HashMap<>(packet);
+
+    List<Map<String, Object>> packetCopies = fanOutWithPacketCopies();
+
+    assertThat(packetCopies, equalTo(fanOutWithMapCopies()));
+    assertThat(packet, equalTo(original));
+  }
+
+  private List<Map<String, Object>> fanOutWithPacketCopies() {
+    List<Map<String, Object>> children = new ArrayList<>();
+    for (int i = 0; i < NUM_CHILDREN; i++) {
+      Packet child = packet.copy();
+      child.put("serverName", "ms" + i);
+      children.add(child);
+    }
+    return children;
+  }
+
+  private List<Map<String, Object>> fanOutWithMapCopies() {
+    List<Map<String, Object>> children = new ArrayList<>();
+    for (int i = 0; i < NUM_CHILDREN; i++) {
+      Map<String, Object> child = new ConcurrentHashMap<>(packet);
+      child.put("serverName", "ms" + i);
+      children.add(child);
+    }
+    return children;
+  }
+}
@@ -0,0 +1,282 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nonnull;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VirtualThreadScheduledExecutorTest {
+
+  private static final int NUM_BLOCKING_FIBERS = 500;
+
+  // stands in for a virtual-thread-per-task executor, which is not available on all supported JVMs
+  private final ExecutorService taskExecutor = Executors.newCachedThreadPool(r -> new Thread(r, "task"));
+  private final ScheduledExecutorService timer
+        = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "timer"));
+  private final VirtualThreadScheduledExecutor executor = new VirtualThreadScheduledExecutor(taskExecutor, timer);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void executedTasks_runOnTaskExecutor() throws InterruptedException {
+    AtomicReference<String> threadName = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(1);
+
+    executor.execute(() -> recordThreadName(threadName, done));
+
+    assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(threadName.get(), startsWith("task"));
+  }
+
+  private void recordThreadName(AtomicReference<String> threadName, CountDownLatch done) {
+    threadName.set(Thread.currentThread().getName());
+    done.countDown();
+  }
+
+  @Test
+  void scheduledTasks_areHandedOffToTaskExecutor() throws InterruptedException {
+    AtomicReference<String> threadName = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(1);
+
+    executor.schedule(() -> recordThreadName(threadName, done), 10, TimeUnit.MILLISECONDS);
+
+    assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(threadName.get(), startsWith("task"));
+  }
+
+  @Test
+  void scheduledTaskFuture_completesWhenTaskCompletes() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    ScheduledFuture<?> future = executor.schedule(() -> awaitRelease(started, release), 0, TimeUnit.MILLISECONDS);
+
+    assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(future.isDone(), is(false));
+    release.countDown();
+    future.get(5, TimeUnit.SECONDS);
+    assertThat(future.isDone(), is(true));
+  }
+
+  private void awaitRelease(CountDownLatch started, CountDownLatch release) {
+    started.countDown();
+    try {
+      release.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Test
+  void scheduledCallables_areHandedOffToTaskExecutor() throws Exception {
+    ScheduledFuture<String> future
+          = executor.schedule(() -> Thread.currentThread().getName(), 10, TimeUnit.MILLISECONDS);
+
+    assertThat(future.get(5, TimeUnit.SECONDS), startsWith("task"));
+  }
+
+  @Test
+  void whenScheduledCallableThrows_futureReportsFailure() {
+    ScheduledFuture<String> future = executor.schedule(() -> {
+      throw new IllegalStateException("test");
+    }, 0, TimeUnit.MILLISECONDS);
+
+    ExecutionException thrown = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+    assertThat(thrown.getCause(), instanceOf(IllegalStateException.class));
+  }
+
+  @Test
+  void fixedDelayTasks_areHandedOffToTaskExecutor() throws InterruptedException {
+    AtomicReference<String> threadName = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(1);
+
+    executor.scheduleWithFixedDelay(() -> recordThreadName(threadName, done), 0, 1, TimeUnit.SECONDS);
+
+    assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(threadName.get(), startsWith("task"));
+  }
+
+  @Test
+  void fixedRateTasks_runRepeatedlyOnTaskExecutor() throws InterruptedException {
+    AtomicReference<String> threadName = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(3);
+
+    ScheduledFuture<?> future
+          = executor.scheduleAtFixedRate(() -> recordThreadName(threadName, done), 0, 10, TimeUnit.MILLISECONDS);
+
+    assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(threadName.get(), startsWith("task"));
+    assertThat(future.isDone(), is(false));
+  }
+
+  @Test
+  void whenPeriodicTaskRunsLongerThanPeriod_runsDoNotOverlap() throws InterruptedException {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(5);
+
+    executor.scheduleAtFixedRate(() -> runSlowly(running, maxRunning, done), 0, 1, TimeUnit.MILLISECONDS);
+
+    assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(maxRunning.get(), equalTo(1));
+  }
+
+  private void runSlowly(AtomicInteger running, AtomicInteger maxRunning, CountDownLatch done) {
+    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+    try {
+      Thread.sleep(5);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    running.decrementAndGet();
+    done.countDown();
+  }
+
+  @Test
+  void afterPeriodicTaskCancelled_itDoesNotRunAgain() throws Exception {
+    AtomicInteger numRuns = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(2);
+
+    ScheduledFuture<?> future = executor.scheduleAtFixedRate(() -> {
+      numRuns.incrementAndGet();
+      started.countDown();
+    }, 0, 10, TimeUnit.MILLISECONDS);
+    assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+    future.cancel(false);
+    final int runsWhenCancelled = numRuns.get();
+    Thread.sleep(50);
+
+    assertThat(future.isCancelled(), is(true));
+    assertThat(numRuns.get(), equalTo(runsWhenCancelled));
+  }
+
+  @Test
+  void whenPeriodicTaskThrows_futureReportsFailureAndTaskStops() {
+    AtomicInteger numRuns = new AtomicInteger();
+
+    ScheduledFuture<?> future = executor.scheduleWithFixedDelay(() -> {
+      numRuns.incrementAndGet();
+      throw new IllegalStateException("test");
+    }, 0, 1, TimeUnit.MILLISECONDS);
+
+    ExecutionException thrown = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+    assertThat(thrown.getCause(), instanceOf(IllegalStateException.class));
+    assertThat(numRuns.get(), equalTo(1));
+  }
+
+  @Test
+  void whenTaskRejectedBeforeTriggerRecorded_futureIsCancelled() {
+    ExecutorService rejectingExecutor = Executors.newSingleThreadExecutor();
+    rejectingExecutor.shutdown();
+    ScheduledExecutorService immediateTimer = new ImmediateTimer();
+    try {
+      ScheduledFuture<?> future = new VirtualThreadScheduledExecutor(rejectingExecutor, immediateTimer)
+            .schedule(() -> { }, 0, TimeUnit.SECONDS);
+
+      assertThat(future.isCancelled(), is(true));
+    } finally {
+      immediateTimer.shutdownNow();
+    }
+  }
+
+  // Runs each task as soon as it is scheduled, before schedule() returns.
+  private static class ImmediateTimer extends ScheduledThreadPoolExecutor {
+    ImmediateTimer() {
+      super(1);
+    }
+
+    @Override
+    @Nonnull
+    public ScheduledFuture<?> schedule(@Nonnull Runnable command, long delay, @Nonnull TimeUnit unit) {
+      command.run();
+      return super.schedule(() -> { }, delay, unit);
+    }
+  }
+
+  @Test
+  void afterShutdown_bothExecutorsAreShutDown() {
+    executor.shutdown();
+
+    assertThat(taskExecutor.isShutdown(), is(true));
+    assertThat(timer.isShutdown(), is(true));
+    assertThat(executor.isShutdown(), is(true));
+  }
+
+  @Test
+  void whenManyFibersBlock_allComplete() throws InterruptedException {
+    Engine engine = new Engine(executor);
+    CountDownLatch blocked = new CountDownLatch(NUM_BLOCKING_FIBERS);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch completed = new CountDownLatch(NUM_BLOCKING_FIBERS);
+
+    for (int i = 0; i < NUM_BLOCKING_FIBERS; i++) {
+      engine.createFiber().start(new BlockingStep(blocked, release), new Packet(), new CountingCallback(completed));
+    }
+
+    assertThat(blocked.await(30, TimeUnit.SECONDS), is(true));
+    release.countDown();
+    assertThat(completed.await(30, TimeUnit.SECONDS), is(true));
+  }
+
+  private static class BlockingStep extends Step {
+    private final CountDownLatch blocked;
+    private final CountDownLatch release;
+
+    BlockingStep(CountDownLatch blocked, CountDownLatch release) {
+      this.blocked = blocked;
+      this.release = release;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      blocked.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return doNext(packet);
+    }
+  }
+
+  private static class CountingCallback implements Fiber.CompletionCallback {
+    private final CountDownLatch completed;
+
+    CountingCallback(CountDownLatch completed) {
+      this.completed = completed;
+    }
+
+    @Override
+    public void onCompletion(Packet packet) {
+      completed.countDown();
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      completed.countDown();
+    }
+  }
+}